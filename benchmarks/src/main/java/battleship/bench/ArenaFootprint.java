@@ -0,0 +1,220 @@
+package battleship.bench;
+
+import battleship.ArenaBoard;
+import battleship.BitBoard;
+import battleship.GameArena;
+import battleship.GameConfig;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Summative Game Arena Footprint(Battleship)
+ *
+ * Keeps a number of 7x7 games in progress at once and measures what they cost, either as
+ * objects (two BitBoards per game, as GameEngine keeps them) or in a GameArena (one off-heap
+ * slot per game, fired at through two ArenaBoard views). It first fills every game, playing each
+ * a random number of turns so they finish at different times, and reports the heap and direct
+ * memory used per game after a full GC. Then for a number of seconds it sweeps through the games
+ * firing one random shot at each side of each, replacing every game that finishes with a new one,
+ * and reports shots per second and the GC collections, total pause and longest pause seen.
+ * Run each layout in its own JVM from the repository root with:
+ *   mvn -B package -DskipTests && java -Xmx4g -XX:MaxDirectMemorySize=2g -cp benchmarks/target/benchmarks.jar battleship.bench.ArenaFootprint [arena|objects] [games] [seconds]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ArenaFootprint {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    // Longest GC pause seen so far, in milliseconds
+    private static final AtomicLong MAX_PAUSE = new AtomicLong();
+
+    /**
+     * Runs the measurement for one layout.
+     */
+    public static void main(String[] args) throws Exception {
+        String layout = args.length > 0 ? args[0] : "arena";
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        if (!layout.equals("arena") && !layout.equals("objects")) {
+            System.out.println("Layout must be arena or objects, not " + layout);
+            System.exit(1);
+        }
+        watchPauses();
+
+        SplittableRandom rng = new SplittableRandom(42);
+        long heapBefore = usedHeap();
+        long directBefore = usedDirect();
+        Layout state = layout.equals("arena") ? new Arena(games, rng) : new Objects(games, rng);
+        for (int game = 0; game < games; game++) {
+            for (int turns = rng.nextInt(40); turns > 0; turns--) {
+                state.turn(game, rng);
+            }
+        }
+        long heap = usedHeap() - heapBefore;
+        long direct = usedDirect() - directBefore;
+        System.out.printf("%s: %d games, %.1f MB heap + %.1f MB direct, %.1f bytes per game%n",
+                layout, games, heap / 1e6, direct / 1e6, (heap + direct) / (double) games);
+
+        long collections = collections();
+        long pauses = pauseMillis();
+        MAX_PAUSE.set(0);
+        long shots = 0;
+        long replaced = 0;
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        int game = 0;
+        while (System.nanoTime() < end) {
+            for (int i = 0; i < 100_000; i++) {
+                if (state.turn(game, rng)) {
+                    replaced++;
+                }
+                game = game + 1 == games ? 0 : game + 1;
+            }
+            shots += 200_000;
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%s: %.1f M shots/s, %d games replaced, %d collections, %d ms paused, longest pause %d ms%n",
+                layout, shots / elapsed / 1e6, replaced, collections() - collections, pauseMillis() - pauses,
+                MAX_PAUSE.get());
+    }
+
+    // The games in progress, in one of the two layouts.
+    private interface Layout {
+        // Fires one shot at each side of a game. Returns true if it finished and was replaced.
+        boolean turn(int game, SplittableRandom rng);
+    }
+
+    // Every game in a GameArena; game i is slot i, since a released slot is the next one allocated.
+    private static final class Arena implements Layout {
+        private final GameArena arena = new GameArena(7, 7, FLEET);
+        private final ArenaBoard first = new ArenaBoard(arena);
+        private final ArenaBoard second = new ArenaBoard(arena);
+
+        Arena(int games, SplittableRandom rng) {
+            for (int i = 0; i < games; i++) {
+                arena.placeFleets(arena.allocate(), rng);
+            }
+        }
+
+        @Override
+        public boolean turn(int game, SplittableRandom rng) {
+            first.moveTo(game, 0).shoot(unshot(first, rng));
+            second.moveTo(game, 1).shoot(unshot(second, rng));
+            if (first.allSunk() || second.allSunk()) {
+                arena.release(game);
+                arena.placeFleets(arena.allocate(), rng);
+                return true;
+            }
+            return false;
+        }
+
+        // A random cell not fired at yet.
+        private static int unshot(ArenaBoard board, SplittableRandom rng) {
+            int cell = rng.nextInt(49);
+            while (board.isShot(cell)) {
+                cell = rng.nextInt(49);
+            }
+            return cell;
+        }
+    }
+
+    // Every game as two BitBoards on the heap, a new pair for each new game.
+    private static final class Objects implements Layout {
+        private final BitBoard[][] games;
+
+        Objects(int games, SplittableRandom rng) {
+            this.games = new BitBoard[games][];
+            for (int i = 0; i < games; i++) {
+                this.games[i] = newGame(rng);
+            }
+        }
+
+        @Override
+        public boolean turn(int game, SplittableRandom rng) {
+            BitBoard[] boards = games[game];
+            boards[0].shoot(unshot(boards[0], rng));
+            boards[1].shoot(unshot(boards[1], rng));
+            if (boards[0].allSunk() || boards[1].allSunk()) {
+                games[game] = newGame(rng);
+                return true;
+            }
+            return false;
+        }
+
+        private static BitBoard[] newGame(SplittableRandom rng) {
+            BitBoard[] boards = {new BitBoard(7, 7), new BitBoard(7, 7)};
+            boards[0].placeFleet(FLEET, rng);
+            boards[1].placeFleet(FLEET, rng);
+            return boards;
+        }
+
+        // A random cell not fired at yet.
+        private static int unshot(BitBoard board, SplittableRandom rng) {
+            int cell = rng.nextInt(49);
+            while (board.isShot(cell)) {
+                cell = rng.nextInt(49);
+            }
+            return cell;
+        }
+    }
+
+    // Heap in use after a full GC.
+    private static long usedHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    // Direct buffer memory in use.
+    private static long usedDirect() {
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                return pool.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
+    // GC collections so far, over every collector.
+    private static long collections() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    // Milliseconds spent in GC so far, over every collector.
+    private static long pauseMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+
+    // Keeps MAX_PAUSE up to date from each collection's notification.
+    private static void watchPauses() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) collector).addNotificationListener((notification, handback) -> {
+                if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    long duration = GarbageCollectionNotificationInfo
+                            .from((CompositeData) notification.getUserData()).getGcInfo().getDuration();
+                    MAX_PAUSE.accumulateAndGet(duration, Math::max);
+                }
+            }, null, null);
+        }
+    }
+}
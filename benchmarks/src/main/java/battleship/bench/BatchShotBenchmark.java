@@ -0,0 +1,132 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.BoardBatch;
+import battleship.GameConfig;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Batch Shot Benchmark(Battleship)
+ *
+ * Shots per second on one core, firing a column of shots at 1024 boards: one BitBoard.shoot()
+ * call per board, BoardBatch with the plain Java kernel, and BoardBatch with the Vector API
+ * kernel (in a JVM started with --add-modules jdk.incubator.vector). Every board is shot in its
+ * own random order, the same order for every version, and once every cell has been shot the
+ * shots are cleared and the same layouts played again. Scores are per shot (thrpt is shots/us).
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchShotBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    private static final int BOARDS = 1024;
+    private static final int CELLS = 49;
+
+    private final BitBoard[] boards = new BitBoard[BOARDS];
+    private BoardBatch batch;
+
+    // columns[t][b] is the t-th cell fired at board b
+    private final int[][] columns = new int[CELLS][BOARDS];
+    private final int[] results = new int[BOARDS];
+    private int turn;
+
+    /**
+     * Hides a fleet on every board, in both forms, and shuffles each board's shots.
+     */
+    @Setup
+    public void setUp() {
+        SplittableRandom rng = new SplittableRandom(42);
+        batch = new BoardBatch(BOARDS, 7, 7, FLEET);
+        int[] order = new int[CELLS];
+        for (int b = 0; b < BOARDS; b++) {
+            boards[b] = new BitBoard(7, 7);
+            boards[b].placeFleet(FLEET, rng);
+            batch.load(b, boards[b]);
+            for (int cell = 0; cell < CELLS; cell++) {
+                order[cell] = cell;
+            }
+            for (int i = CELLS - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            for (int t = 0; t < CELLS; t++) {
+                columns[t][b] = order[t];
+            }
+        }
+    }
+
+    /**
+     * One column of shots, one BitBoard.shoot() call per board.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public int[] perCall() {
+        if (turn == CELLS) {
+            for (BitBoard board : boards) {
+                board.clearShots();
+            }
+            turn = 0;
+        }
+        int[] cells = columns[turn++];
+        for (int b = 0; b < BOARDS; b++) {
+            results[b] = boards[b].shoot(cells[b]);
+        }
+        return results;
+    }
+
+    /**
+     * One column of shots in one BoardBatch call, with the plain Java kernel.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    @Fork(value = 1, jvmArgsAppend = "-Dbattleship.vector=false")
+    public int[] batchScalar() {
+        return batchColumn();
+    }
+
+    /**
+     * One column of shots in one BoardBatch call, with the Vector API kernel.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+    public int[] batchVector() {
+        return batchColumn();
+    }
+
+    // Fires the next column at the batch.
+    private int[] batchColumn() {
+        if (turn == CELLS) {
+            batch.clearShots();
+            turn = 0;
+        }
+        batch.shoot(columns[turn++], results);
+        return results;
+    }
+}
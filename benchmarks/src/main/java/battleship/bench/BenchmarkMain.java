@@ -0,0 +1,43 @@
+package battleship.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Summative Game Benchmark Runner(Battleship)
+ *
+ * Runs the JMH benchmarks with the allocation profiler (-prof gc) switched on and writes the
+ * results as JSON to jmh-result.json, so two commits can be compared by running both and diffing
+ * the files. Any normal JMH option can be given and wins over these defaults, e.g. a regex to
+ * run only some benchmarks, or -rf/-rff to change the result file. Build and run from the
+ * repository root with:
+ *   mvn -B package -DskipTests && java -jar benchmarks/target/benchmarks.jar [JMH options]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class BenchmarkMain {
+    /**
+     * Runs the benchmarks picked by the command line (all of them by default).
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        new Runner(options.build()).run();
+    }
+}
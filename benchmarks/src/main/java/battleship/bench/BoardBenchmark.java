@@ -0,0 +1,175 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.Board;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Board Benchmark(Battleship)
+ *
+ * The Board hot paths: hiding the fleet, checking and placing a ship (the old confirmPosition),
+ * the isHit / setGrid sequence GamePanel runs for each shot, and toString. Each is measured on
+ * the bit mask Board and, where it existed, on the original char[7][7] board as a baseline.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+    // Pre-generated random input so the measured code does not include random number generation
+    private static final int SAMPLES = 4096;
+    private static final int[] SHIP_LENGTHS = {2, 3, 3, 4};
+
+    private final int[] placeRows = new int[SAMPLES];
+    private final int[] placeCols = new int[SAMPLES];
+    private final boolean[] placeVertical = new boolean[SAMPLES];
+    private final int[] shotRows = new int[SAMPLES];
+    private final int[] shotCols = new int[SAMPLES];
+    private int next;
+
+    private final Random rand = new Random(42);
+    private CharArrayBoard charBoard;
+    private Board board;
+    private BitBoard bits;
+    private final BitBoard placeBits = new BitBoard(7, 7);
+
+    /**
+     * Fills the random input and puts the same ships on both boards.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < SAMPLES; i++) {
+            placeVertical[i] = rand.nextBoolean();
+            placeRows[i] = rand.nextInt(placeVertical[i] ? 3 : 7);
+            placeCols[i] = rand.nextInt(placeVertical[i] ? 7 : 3);
+            shotRows[i] = rand.nextInt(7);
+            shotCols[i] = rand.nextInt(7);
+        }
+        charBoard = new CharArrayBoard();
+        board = new Board();
+        bits = board.getBitBoard();
+        board.hideShips(board, new Random(7));
+        for (int row = 0; row < 7; row++) {
+            for (int col = 0; col < 7; col++) {
+                if (board.isHit(row, col) == 'S') {
+                    charBoard.setGrid(row, col, 'S');
+                }
+            }
+        }
+    }
+
+    /**
+     * Board.hideShips: clear and hide the whole default fleet.
+     */
+    @Benchmark
+    public int hideShips() {
+        board.clearBoard();
+        board.hideShips(board, rand);
+        return board.getShipsLeft();
+    }
+
+    /**
+     * The original confirmPosition, placing the fleet at the next sample positions.
+     */
+    @Benchmark
+    public int confirmPositionCharArray() {
+        CharArrayBoard placeBoard = charBoard;
+        placeBoard.clearBoard();
+        int placed = 0;
+        for (int s = 0; s < SHIP_LENGTHS.length; s++) {
+            int k = next++ & (SAMPLES - 1);
+            if (placeBoard.confirmPosition(placeRows[k], placeCols[k], placeVertical[k] ? 'v' : 'h', SHIP_LENGTHS[s])) {
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    /**
+     * BitBoard.placeShip, which replaced confirmPosition, at the same sample positions.
+     */
+    @Benchmark
+    public int confirmPositionBitBoard() {
+        BitBoard placeBoard = placeBits;
+        placeBoard.clear();
+        int placed = 0;
+        for (int s = 0; s < SHIP_LENGTHS.length; s++) {
+            int k = next++ & (SAMPLES - 1);
+            if (placeBoard.placeShip(placeRows[k], placeCols[k], placeVertical[k], SHIP_LENGTHS[s])) {
+                placed++;
+            }
+        }
+        return placed;
+    }
+
+    /**
+     * The isHit / setGrid sequence for one shot on the original board.
+     */
+    @Benchmark
+    public char resolveShotCharArray() {
+        int k = next++ & (SAMPLES - 1);
+        char cell = charBoard.isHit(shotRows[k], shotCols[k]);
+        if (cell == 'S' || cell == '!') {
+            charBoard.setGrid(shotRows[k], shotCols[k], '!');
+            charBoard.setGrid(shotRows[k], shotCols[k], 'S');
+        }
+        return cell;
+    }
+
+    /**
+     * The isHit / setGrid sequence for one shot on the Board facade.
+     */
+    @Benchmark
+    public char resolveShotBoard() {
+        int k = next++ & (SAMPLES - 1);
+        char cell = board.isHit(shotRows[k], shotCols[k]);
+        if (cell == 'S' || cell == '!') {
+            board.setGrid(shotRows[k], shotCols[k], '!');
+            board.setGrid(shotRows[k], shotCols[k], 'S');
+        }
+        return cell;
+    }
+
+    /**
+     * The same shot straight on the bit masks.
+     */
+    @Benchmark
+    public boolean resolveShotBitBoard() {
+        int k = next++ & (SAMPLES - 1);
+        int cell = bits.index(shotRows[k], shotCols[k]);
+        boolean ship = bits.isShip(cell);
+        if (ship) {
+            bits.setCell(cell, true, true, false);
+            bits.setCell(cell, true, false, false);
+        }
+        return ship;
+    }
+
+    /**
+     * Board.toString, printed after every startGame.
+     */
+    @Benchmark
+    public String boardToString() {
+        return board.toString();
+    }
+}
@@ -0,0 +1,130 @@
+package battleship.bench;
+
+import java.awt.Color;
+import java.awt.Graphics;
+
+/**
+ * Summative Game Char Array Board(Battleship)
+ *
+ * The original char[7][7] storage and drawing code of Board, kept only as the baseline
+ * for BoardBenchmark and RenderBenchmark.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class CharArrayBoard {
+    private char[][] board;
+
+    /**
+     * Creates a new 7x7 board filled with ' ' empty characters.
+     */
+    public CharArrayBoard() {
+        board = new char[7][7];
+        clearBoard();
+    }
+
+    /**
+     * This method clears the board.
+     */
+    public void clearBoard() {
+        for (int row = 0; row < 7; row++) {
+            for (int col = 0; col < 7; col++) {
+                board[row][col] = ' ';
+            }
+        }
+    }
+
+    public boolean confirmPosition(int row, int col, char direction, int length) {
+        if (direction == 'h') {
+            // Returns false a spot is already occupied(horizontal check)
+            for (int parts = 0; parts < length; parts++) {
+                if ((board[row][col + parts] != ' ')) {
+                    return false;
+                }
+            }
+            // Places ship parts vertically otherwise
+            for (int parts = 0; parts < length; parts++) {
+                board[row][col + parts] = 'S';
+            }
+        }
+        else {
+            // Returns false a spot is already occupied(vertical check)
+            for (int parts = 0; parts < length; parts++) {
+                if ((board[row + parts][col] != ' ')) {
+                    return false;
+                }
+            }
+            // Places ship parts horizontally otherwise
+            for (int parts = 0; parts < length; parts++) {
+                board[row + parts][col] = 'S';
+            }
+        }
+        // Returns true if placed without issue
+        return true;
+    }
+
+    /**
+     * This method checks if the guessed location has a ship.
+     * It returns the character found in the location specified.
+     *
+     * @param row The row guessed
+     * @param col The column guessed
+     * @return what is stored at the specified row and col position
+     */
+    public char isHit(int row, int col) {
+        return board[row][col];
+    }
+
+    /**
+     * Used to change the character of a grid spot after a guess
+     *
+     * @param row The row to change
+     * @param col The column to change
+     * @param set The character to set it to based on hit or miss
+     */
+    public void setGrid (int row, int col, char set) {
+        board[row][col] = set;
+    }
+
+    /**
+     * The original drawGrid: draws every line and cell, creating a new Color per cell.
+     *
+     * @param g Graphics object
+     * @param xOffset how far to offset the x coordinates from the left of the screen
+     */
+    public void drawGrid(Graphics g, int xOffset) {
+        Color color;
+        // Sets color to black for grid lines
+        g.setColor(Color.BLACK);
+        for (int count = 0; count <= 7; count++) {
+            // Draw horizontal lines
+            g.drawLine(xOffset, 40 + count * 60, xOffset + 420, 40 + count * 60);
+            // Draw vertical lines
+            g.drawLine(xOffset + count * 60, 40, xOffset + count * 60, 40 + 420);
+        }
+
+        // Draws squares of specific colour on the grid based on hit or miss.
+        for (int row = 0; row < 7; row++) {
+            for (int col = 0; col < 7; col++) {
+                char cell = board[row][col];
+
+                if (cell == ' ') {
+                    color = new Color(34, 82, 160);
+                    g.setColor(color);
+                    g.fillRect(xOffset + col * 60 + 1, 41 + row * 60, 59, 59);
+                } else if (cell == '!') {
+                    color = new Color(163, 19, 19);
+                    g.setColor(color);
+                    g.fillRect(xOffset + col * 60 + 1, 41 + row * 60, 59, 59);
+
+                } else if (cell == 'X') {
+                    color = new Color(99, 99, 99, 255);
+                    g.setColor(Color.GRAY);
+                    g.fillRect(xOffset + col * 60 + 1, 41 + row * 60 , 59, 59);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.DensityShooter;
+import battleship.EndgameSolver;
+import battleship.GameConfig;
+import battleship.Shooter;
+import battleship.SolverShooter;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Summative Game Endgame Solver Benchmark(Battleship)
+ *
+ * Times the EndgameSolver on mid-game 7x7 positions: a DensityShooter fires 10, 15, 20 and 25
+ * shots at a random layout, then the solver picks the next shot. For each it prints the solve
+ * times, how many positions were searched exactly, nodes per second and the transposition table
+ * hit rate. Then it plays whole games with the SolverShooter and the DensityShooter and compares
+ * the shots each needed to sink the fleet.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.EndgameSolverBenchmark [positions]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class EndgameSolverBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    /**
+     * Runs every measurement and prints the results.
+     */
+    public static void main(String[] args) {
+        int positions = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        SplittableRandom rng = new SplittableRandom(3);
+        BitBoard board = new BitBoard(7, 7);
+        DensityShooter shooter = new DensityShooter();
+
+        for (int shotsTaken : new int[] {10, 15, 20, 25}) {
+            EndgameSolver solver = new EndgameSolver(7, 7);
+            long[] nanos = new long[positions];
+            long nodes = 0;
+            long totalNanos = 0;
+            long layouts = 0;
+            int searched = 0;
+            int exact = 0;
+            double hitRate = 0;
+            for (int p = 0; p < positions; p++) {
+                // Play the opening with the DensityShooter, keeping what the solver needs to know
+                board.placeFleet(FLEET, rng);
+                shooter.newGame(7, 7, FLEET);
+                long hits = 0;
+                long blocked = 0;
+                int[] fleet = FLEET.clone();
+                int afloat = fleet.length;
+                for (int s = 0; s < shotsTaken && !board.allSunk(); s++) {
+                    int cell = shooter.nextShot(rng);
+                    int result = board.shoot(cell);
+                    shooter.shotResult(cell, result, board.getSunkShip());
+                    if (result == BitBoard.MISS) {
+                        blocked |= 1L << cell;
+                    } else {
+                        hits |= 1L << cell;
+                    }
+                    if (result == BitBoard.SUNK) {
+                        int ship = board.getSunkShip();
+                        int step = BitBoard.shipVertical(ship) ? 7 : 1;
+                        for (int k = 0, c = BitBoard.shipStart(ship); k < BitBoard.shipLength(ship); k++, c += step) {
+                            hits &= ~(1L << c);
+                            blocked |= 1L << c;
+                        }
+                        for (int i = 0; i < afloat; i++) {
+                            if (fleet[i] == BitBoard.shipLength(ship)) {
+                                fleet[i] = fleet[--afloat];
+                                break;
+                            }
+                        }
+                    }
+                }
+                EndgameSolver.Result result = solver.solve(hits, blocked, Arrays.copyOf(fleet, afloat));
+                nanos[p] = result.getNanos();
+                totalNanos += result.getNanos();
+                if (result.getLayouts() > 0) {
+                    searched++;
+                    layouts += result.getLayouts();
+                    nodes += result.getNodes();
+                    hitRate += result.getTableHitRate();
+                    exact += result.isExact() ? 1 : 0;
+                }
+            }
+            Arrays.sort(nanos);
+            System.out.printf("after %d shots: %d/%d searched (%d exact), %.0f layouts avg, solve p50 %.1f ms, "
+                    + "p95 %.1f ms, max %.1f ms, %.0f nodes/s, table hit rate %.1f%%%n", shotsTaken, searched, positions,
+                    exact, (double) layouts / Math.max(1, searched), nanos[positions / 2] / 1e6,
+                    nanos[positions * 95 / 100] / 1e6, nanos[positions - 1] / 1e6, nodes / (totalNanos / 1e9),
+                    100 * hitRate / Math.max(1, searched));
+        }
+
+        int games = Math.max(1, positions / 4);
+        System.out.printf("solo games of %d: density %.2f shots, solver %.2f shots%n", games,
+                averageShots(new DensityShooter(), games, new SplittableRandom(4)),
+                averageShots(new SolverShooter(), games, new SplittableRandom(4)));
+    }
+
+    // The average number of shots a shooter needs to sink a whole fleet, over the same layouts for every shooter.
+    private static double averageShots(Shooter shooter, int games, SplittableRandom rng) {
+        BitBoard board = new BitBoard(7, 7);
+        long shots = 0;
+        for (int game = 0; game < games; game++) {
+            board.placeFleet(FLEET, rng.split());
+            shooter.newGame(7, 7, FLEET);
+            SplittableRandom shooterRng = new SplittableRandom(game);
+            while (!board.allSunk()) {
+                int cell = shooter.nextShot(shooterRng);
+                int result = board.shoot(cell);
+                shooter.shotResult(cell, result, board.getSunkShip());
+                shots++;
+            }
+        }
+        return (double) shots / games;
+    }
+}
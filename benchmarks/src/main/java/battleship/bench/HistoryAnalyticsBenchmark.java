@@ -0,0 +1,138 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.GameConfig;
+import battleship.GameRecorder;
+import battleship.HistoryAnalytics;
+import battleship.RandomShooter;
+import battleship.ReplayReader;
+import battleship.ScoreStore;
+import battleship.Shooter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Summative Game History Analytics Benchmark(Battleship)
+ *
+ * Writes a history of 2 million games (or the number given) between two random shooters: a
+ * score file with one score per game, from a pool of 10,000 players, and a replay log of every
+ * shot. Then it times HistoryAnalytics reading both with one thread and with the number given,
+ * and checks the results against a plain sequential read: the exact score percentiles from the
+ * sorted scores, and the games, shots and hits counted through ReplayReader.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.HistoryAnalyticsBenchmark [games] [threads]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class HistoryAnalyticsBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    private static final int PLAYERS = 10_000;
+
+    /**
+     * Writes the history, reads it back and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        Path dir = Files.createTempDirectory("history");
+        Path scores = dir.resolve("scores.dat");
+        Path log = dir.resolve("replays.log");
+        SplittableRandom rng = new SplittableRandom(7);
+        BitBoard[] boards = {new BitBoard(7, 7), new BitBoard(7, 7)};
+        Shooter[] shooters = {new RandomShooter(), new RandomShooter()};
+        int[] written = new int[games];
+        long[] shotsPerBoard = new long[2];
+        long[] hitsPerBoard = new long[2];
+
+        try {
+            long start = System.nanoTime();
+            try (ScoreStore store = ScoreStore.open(scores); GameRecorder recorder = new GameRecorder(log)) {
+                for (int game = 0; game < games; game++) {
+                    int shots = playGame(recorder, boards, shooters, rng, shotsPerBoard, hitsPerBoard);
+                    // Fewer shots is a better game, with some players better than others
+                    int player = rng.nextInt(PLAYERS);
+                    int score = Math.max(0, 1000 - 10 * shots + player % 100 + rng.nextInt(200));
+                    written[game] = score;
+                    store.append(score, "player" + player, game);
+                }
+            }
+            System.out.printf("wrote %d games in %.1f s: %.1f MB of scores, %.1f MB of replays%n", games,
+                    (System.nanoTime() - start) / 1e9, Files.size(scores) / 1e6,
+                    (Files.size(log) + Files.size(ReplayReader.indexFile(log))) / 1e6);
+
+            // Sequential answers to check against
+            Arrays.sort(written);
+            long[] read = new long[1];
+            try (ReplayReader reader = new ReplayReader(log)) {
+                read[0] = reader.read(new ReplayReader.Listener() { });
+            }
+
+            for (int t : new int[] {1, threads}) {
+                HistoryAnalytics analytics = new HistoryAnalytics(t);
+                // Once to warm up, once to time
+                analytics.scanScores(scores);
+                analytics.scanReplays(log);
+                HistoryAnalytics.ScoreReport scoreReport = analytics.scanScores(scores);
+                HistoryAnalytics.ReplayReport replayReport = analytics.scanReplays(log);
+                System.out.println("--- " + t + " thread(s)");
+                System.out.print(scoreReport.toString(3));
+                System.out.print(replayReport);
+
+                double worst = 0;
+                for (double q : new double[] {0.5, 0.9, 0.99, 0.999}) {
+                    double estimate = scoreReport.getScores().quantile(q);
+                    // How far the estimate's rank is from the wanted one
+                    int rank = Arrays.binarySearch(written, (int) Math.round(estimate));
+                    rank = rank < 0 ? -rank - 1 : rank;
+                    worst = Math.max(worst, Math.abs((double) rank / games - q));
+                }
+                boolean replaysMatch = replayReport.getGames() == read[0]
+                        && Math.abs(replayReport.getHitRate(0) - (double) hitsPerBoard[0] / shotsPerBoard[0]) < 1e-12
+                        && Math.abs(replayReport.getHitRate(1) - (double) hitsPerBoard[1] / shotsPerBoard[1]) < 1e-12;
+                System.out.printf("scores: %d of %d counted, worst percentile rank error %.4f; replays %s%n",
+                        scoreReport.getScores().getCount(), games, worst, replaysMatch ? "match" : "DO NOT MATCH");
+            }
+        } finally {
+            Files.deleteIfExists(ReplayReader.indexFile(log));
+            Files.deleteIfExists(log);
+            Files.deleteIfExists(scores);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    // Plays one game like GameEngine does, recording it and counting shots and hits on each board.
+    private static int playGame(GameRecorder recorder, BitBoard[] boards, Shooter[] shooters, SplittableRandom rng,
+            long[] shotsPerBoard, long[] hitsPerBoard) throws Exception {
+        for (int b = 0; b < 2; b++) {
+            boards[b].clear();
+            boards[b].placeFleet(FLEET, rng);
+            shooters[b].newGame(7, 7, FLEET);
+        }
+        recorder.startGame(boards[GameRecorder.COMPUTER_BOARD], boards[GameRecorder.PLAYER_BOARD], 0);
+        int shots = 0;
+        for (int b = 0; ; b ^= 1) {
+            int cell = shooters[b].nextShot(rng);
+            int result = boards[b].shoot(cell);
+            shooters[b].shotResult(cell, result, boards[b].getSunkShip());
+            recorder.shot(b, cell, result);
+            shotsPerBoard[b]++;
+            if (result != BitBoard.MISS) {
+                hitsPerBoard[b]++;
+            }
+            shots++;
+            if (boards[b].allSunk()) {
+                break;
+            }
+        }
+        recorder.endGame(shots);
+        return shots;
+    }
+}
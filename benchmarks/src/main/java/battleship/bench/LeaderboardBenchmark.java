@@ -0,0 +1,111 @@
+package battleship.bench;
+
+import battleship.Leaderboard;
+import battleship.ScoreStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Leaderboard Benchmark(Battleship)
+ *
+ * Building the leaderboard once a game ends, with a given number of scores already saved:
+ * the old showLeaderboard, which boxed every score into an ArrayList and sorted it, against
+ * ScoreStore.top() and a Leaderboard snapshot read.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+    @Param({"1000", "100000"})
+    public int savedScores;
+
+    private int[] scores;
+    private Path folder;
+    private ScoreStore store;
+    private Leaderboard leaderboard;
+
+    /**
+     * Saves the scores in both forms.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        SplittableRandom rng = new SplittableRandom(1);
+        scores = new int[savedScores];
+        folder = Files.createTempDirectory("leaderboard");
+        ScoreStore scoreStore = ScoreStore.open(folder.resolve("scores.dat"));
+        for (int i = 0; i < savedScores; i++) {
+            scores[i] = rng.nextInt(-500, 1200);
+            scoreStore.append(scores[i], "player" + (i & 1023), i);
+        }
+        store = scoreStore;
+        leaderboard = new Leaderboard(scoreStore, folder.resolve("topScorer.txt"));
+    }
+
+    /**
+     * Closes the store and deletes its files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        leaderboard.close();
+        for (Path file : Files.newDirectoryStream(folder)) {
+            Files.delete(file);
+        }
+        Files.delete(folder);
+    }
+
+    /**
+     * The old leaderboard: box every score into an ArrayList and sort it.
+     */
+    @Benchmark
+    public int oldSort() {
+        ArrayList<Integer> sorted = new ArrayList<>();
+        for (int score : scores) {
+            sorted.add(score);
+        }
+        Collections.sort(sorted, Collections.reverseOrder());
+        return sorted.get(0);
+    }
+
+    /**
+     * The best scores read back from the store.
+     */
+    @Benchmark
+    public int storeTop() {
+        return store.top().get(0).getScore();
+    }
+
+    /**
+     * The best scores from the leaderboard's current snapshot, as the Swing game reads them.
+     */
+    @Benchmark
+    public int snapshotRead() {
+        return leaderboard.snapshot().getScores().get(0).getScore();
+    }
+}
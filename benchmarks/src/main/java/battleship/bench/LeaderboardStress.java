@@ -0,0 +1,185 @@
+package battleship.bench;
+
+import battleship.Leaderboard;
+import battleship.ScoreStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summative Game Leaderboard Stress Test(Battleship)
+ *
+ * Two leaderboards (two "game instances", each with its own score store) share one top scorer
+ * file. Hundreds of threads play simulated games and submit their scores as fast as they can,
+ * while reader threads keep checking every snapshot they see:
+ *   - the scores are sorted, best first;
+ *   - the top scorer's name matches the top score (each name carries its own score);
+ *   - the top score is never below the snapshot's best score;
+ *   - the submission count never goes backwards.
+ * At the end every submitted score must be in a store, each store's top scores must match the
+ * scores that were submitted to it, and the file must name the overall best score. After the
+ * leaderboards are closed the stores are opened again and must hold every score, and each
+ * leaderboard's writer statistics (batches, syncs, write throughput, queue depth) are printed.
+ * Run from the repository root with (-Dbattleship.fsync=always, interval or never picks the policy):
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.LeaderboardStress [games] [scoresPerGame] [readers]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class LeaderboardStress {
+    /**
+     * Runs the stress test. Exits with status 1 if any check fails.
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int scoresPerGame = args.length > 1 ? Integer.parseInt(args[1]) : 250;
+        int readers = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        Path folder = Files.createTempDirectory("leaderboard");
+        Path topScorerFile = folder.resolve("topScorer.txt");
+        Leaderboard[] boards = {
+            new Leaderboard(ScoreStore.open(folder.resolve("a.dat")), topScorerFile),
+            new Leaderboard(ScoreStore.open(folder.resolve("b.dat")), topScorerFile)
+        };
+        // Scores submitted to each board, kept by the game threads for the final check
+        List<List<Integer>> submitted = new ArrayList<>();
+        for (int i = 0; i < boards.length; i++) {
+            submitted.add(new ArrayList<>());
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        List<Thread> readerThreads = new ArrayList<>();
+        for (int r = 0; r < readers; r++) {
+            Leaderboard board = boards[r % boards.length];
+            Thread reader = new Thread(() -> {
+                long lastSubmissions = 0;
+                long count = 0;
+                while (running.get()) {
+                    Leaderboard.Snapshot snapshot = board.snapshot();
+                    String problem = check(snapshot, lastSubmissions);
+                    if (problem != null) {
+                        failures.incrementAndGet();
+                        System.out.println("Bad snapshot: " + problem);
+                    }
+                    lastSubmissions = snapshot.getSubmissions();
+                    count++;
+                }
+                reads.addAndGet(count);
+            }, "reader-" + r);
+            reader.start();
+            readerThreads.add(reader);
+        }
+
+        long start = System.nanoTime();
+        List<Thread> gameThreads = new ArrayList<>();
+        for (int g = 0; g < games; g++) {
+            int game = g;
+            int boardIndex = g % boards.length;
+            Thread thread = new Thread(() -> {
+                SplittableRandom rng = new SplittableRandom(game);
+                List<Integer> mine = new ArrayList<>();
+                CompletableFuture<Leaderboard.Snapshot> last = null;
+                for (int i = 0; i < scoresPerGame; i++) {
+                    int score = rng.nextInt(-500, 1_000_000);
+                    mine.add(score);
+                    last = boards[boardIndex].submit(score, "game" + game + "#" + score, i);
+                }
+                if (last != null) {
+                    last.join();
+                }
+                synchronized (submitted) {
+                    submitted.get(boardIndex).addAll(mine);
+                }
+            }, "game-" + g);
+            thread.start();
+            gameThreads.add(thread);
+        }
+        for (Thread thread : gameThreads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        running.set(false);
+        for (Thread reader : readerThreads) {
+            reader.join();
+        }
+
+        // Final checks against what was actually submitted
+        int best = Integer.MIN_VALUE;
+        for (int b = 0; b < boards.length; b++) {
+            Leaderboard.Snapshot snapshot = boards[b].snapshot();
+            List<Integer> scores = submitted.get(b);
+            scores.sort(Comparator.reverseOrder());
+            if (snapshot.getSubmissions() != scores.size()) {
+                failures.incrementAndGet();
+                System.out.println("Board " + b + " lost submissions: " + snapshot.getSubmissions() + " of " + scores.size());
+            }
+            for (int i = 0; i < snapshot.getScores().size(); i++) {
+                if (snapshot.getScores().get(i).getScore() != scores.get(i)) {
+                    failures.incrementAndGet();
+                    System.out.println("Board " + b + " has the wrong score at rank " + (i + 1));
+                }
+            }
+            best = Math.max(best, scores.get(0));
+        }
+        List<String> file = Files.readAllLines(topScorerFile);
+        if (file.size() != 2 || Integer.parseInt(file.get(1)) != best || !file.get(0).endsWith("#" + best)) {
+            failures.incrementAndGet();
+            System.out.println("Top scorer file is wrong: " + file + ", best was " + best);
+        }
+
+        long total = (long) games * scoresPerGame;
+        System.out.printf("%d games, %d scores in %.2f s (%.0f submissions/s), %d snapshot reads (%.0f reads/s)%n",
+                games, total, elapsed / 1e9, total / (elapsed / 1e9), reads.get(), reads.get() / (elapsed / 1e9));
+        System.out.println(failures.get() == 0 ? "No lost or torn updates" : failures.get() + " failures");
+
+        for (int b = 0; b < boards.length; b++) {
+            boards[b].close();
+            System.out.println("Board " + b + ": " + boards[b].getStats());
+        }
+        // Everything submitted must have been written and forced by close()
+        for (int b = 0; b < boards.length; b++) {
+            try (ScoreStore store = ScoreStore.open(folder.resolve(b == 0 ? "a.dat" : "b.dat"))) {
+                if (store.size() != submitted.get(b).size()) {
+                    failures.incrementAndGet();
+                    System.out.println("Board " + b + " store holds " + store.size() + " of " + submitted.get(b).size() + " scores");
+                }
+            }
+        }
+        if (failures.get() != 0) {
+            System.exit(1);
+        }
+    }
+
+    // Returns what is wrong with a snapshot, or null if it is consistent.
+    private static String check(Leaderboard.Snapshot snapshot, long lastSubmissions) {
+        List<ScoreStore.Score> scores = snapshot.getScores();
+        for (int i = 1; i < scores.size(); i++) {
+            if (scores.get(i - 1).getScore() < scores.get(i).getScore()) {
+                return "scores out of order";
+            }
+        }
+        if (snapshot.getSubmissions() < lastSubmissions) {
+            return "submissions went from " + lastSubmissions + " to " + snapshot.getSubmissions();
+        }
+        if (snapshot.getTopScorer() != null) {
+            if (!snapshot.getTopScorer().endsWith("#" + snapshot.getTopScore())) {
+                return "top scorer " + snapshot.getTopScorer() + " does not match score " + snapshot.getTopScore();
+            }
+            if (!scores.isEmpty() && snapshot.getTopScore() < scores.get(0).getScore()) {
+                return "top score " + snapshot.getTopScore() + " below best " + scores.get(0).getScore();
+            }
+        }
+        return null;
+    }
+}
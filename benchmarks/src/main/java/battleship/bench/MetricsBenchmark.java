@@ -0,0 +1,98 @@
+package battleship.bench;
+
+import battleship.LatencyHistogram;
+import battleship.Metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Metrics Benchmark(Battleship)
+ *
+ * What timing something with Metrics costs. A tiny piece of work is run on its own, then
+ * wrapped in Metrics.start() and stop() in a JVM with metrics on and in one with them off
+ * (-Dbattleship.metrics=false), where the wrapped version should cost the same as the bare one.
+ * Recording into a LatencyHistogram and writing the Prometheus text are measured on their own.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsBenchmark {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long state = 1;
+    private long value = 1;
+
+    /**
+     * The work on its own.
+     */
+    @Benchmark
+    public long bare() {
+        return work();
+    }
+
+    /**
+     * The work timed, with metrics on.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dbattleship.metrics=true")
+    public long timedEnabled() {
+        long start = Metrics.start();
+        long result = work();
+        Metrics.stop(Metrics.Timer.SHOT, start);
+        return result;
+    }
+
+    /**
+     * The work timed, with metrics off.
+     */
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dbattleship.metrics=false")
+    public long timedDisabled() {
+        long start = Metrics.start();
+        long result = work();
+        Metrics.stop(Metrics.Timer.SHOT, start);
+        return result;
+    }
+
+    /**
+     * One value recorded in a histogram.
+     */
+    @Benchmark
+    public void histogramRecord() {
+        value = value * 6364136223846793005L + 1442695040888963407L;
+        histogram.record(value >>> 40);
+    }
+
+    /**
+     * Every metric written as Prometheus text, as for one scrape.
+     */
+    @Benchmark
+    public int prometheusText() {
+        return Metrics.prometheusText().length();
+    }
+
+    // A few nanoseconds of work the JIT cannot remove.
+    private long work() {
+        state ^= state << 13;
+        state ^= state >>> 7;
+        state ^= state << 17;
+        return state;
+    }
+}
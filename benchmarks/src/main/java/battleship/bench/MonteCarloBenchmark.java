@@ -0,0 +1,180 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.DensityShooter;
+import battleship.LayoutSampler;
+import battleship.MonteCarloShooter;
+import battleship.Shooter;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Summative Game Monte Carlo Benchmark(Battleship)
+ *
+ * Checks the LayoutSampler two ways. On mid-game 7x7 positions it compares the sampled hit
+ * chances with the exact ones from listing every layout, at the move budget and at ten times it.
+ * On 10x10, 30x30 and 50x50 boards it plays whole games with the MonteCarloShooter and prints
+ * the time each sampled move took, the samples per move and the shots needed, next to the
+ * DensityShooter on the same layouts.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.MonteCarloBenchmark [budget ms]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class MonteCarloBenchmark {
+    private static final int[] SMALL_FLEET = {2, 3, 3, 4};
+    private static final int[] CLASSIC_FLEET = {5, 4, 3, 3, 2};
+
+    /**
+     * Runs every measurement and prints the results.
+     */
+    public static void main(String[] args) {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : MonteCarloShooter.DEFAULT_BUDGET_MILLIS;
+        // Once to warm up, then at the move budget and at ten times it
+        checkAccuracy(budget, false);
+        checkAccuracy(budget, true);
+        checkAccuracy(budget * 10, true);
+        playGames(10, 10, CLASSIC_FLEET, 20, budget);
+        playGames(30, 30, repeat(CLASSIC_FLEET, 6), 2, budget);
+        playGames(50, 50, repeat(CLASSIC_FLEET, 15), 1, budget);
+    }
+
+    // Compares sampled hit chances with exact ones on 7x7 boards after 12 density shots.
+    private static void checkAccuracy(long budget, boolean print) {
+        SplittableRandom rng = new SplittableRandom(5);
+        LayoutSampler sampler = new LayoutSampler(7, 7);
+        double worst = 0;
+        double sum = 0;
+        int positions = 10;
+        for (int p = 0; p < positions; p++) {
+            BitBoard board = new BitBoard(7, 7);
+            board.placeFleet(SMALL_FLEET, rng);
+            DensityShooter shooter = new DensityShooter();
+            shooter.newGame(7, 7, SMALL_FLEET);
+            long hits = 0;
+            long misses = 0;
+            for (int s = 0; s < 12; s++) {
+                int cell = shooter.nextShot(rng);
+                int result = board.shoot(cell);
+                // Keep every ship in the fleet so the exact count below stays simple
+                shooter.shotResult(cell, result == BitBoard.SUNK ? BitBoard.HIT : result, -1);
+                if (result == BitBoard.MISS) {
+                    misses |= 1L << cell;
+                } else {
+                    hits |= 1L << cell;
+                }
+            }
+            long[] exact = new long[49];
+            long layouts = countLayouts(SMALL_FLEET, 0, 0L, hits, misses, exact);
+            LayoutSampler.Estimate estimate = sampler.sample(new long[] {hits}, new long[] {misses}, SMALL_FLEET,
+                    budget * 1_000_000, p);
+            double error = 0;
+            for (int cell = 0; cell < 49; cell++) {
+                error = Math.max(error, Math.abs(estimate.probability(cell) - (double) exact[cell] / layouts));
+            }
+            worst = Math.max(worst, error);
+            sum += error;
+        }
+        if (print) {
+            System.out.printf("7x7 accuracy over %d positions at %d ms: mean largest error %.3f, worst %.3f%n",
+                    positions, budget, sum / positions, worst);
+        }
+    }
+
+    // Counts every layout of the ships (in order) that avoids the misses and covers every hit,
+    // adding each layout's cells to counts.
+    private static long countLayouts(int[] fleet, int ship, long occupied, long hits, long misses, long[] counts) {
+        if (ship == fleet.length) {
+            if ((occupied & hits) != hits) {
+                return 0;
+            }
+            for (long bits = occupied; bits != 0; bits &= bits - 1) {
+                counts[Long.numberOfTrailingZeros(bits)]++;
+            }
+            return 1;
+        }
+        long layouts = 0;
+        int length = fleet[ship];
+        for (int start = 0; start < 49; start++) {
+            for (int d = 0; d < 2; d++) {
+                int row = start / 7;
+                int col = start % 7;
+                if (d == 0 ? col + length > 7 : row + length > 7) {
+                    continue;
+                }
+                long mask = 0;
+                for (int k = 0; k < length; k++) {
+                    mask |= 1L << (d == 0 ? start + k : start + k * 7);
+                }
+                if ((mask & (occupied | misses)) == 0) {
+                    layouts += countLayouts(fleet, ship + 1, occupied | mask, hits, misses, counts);
+                }
+            }
+        }
+        return layouts;
+    }
+
+    // Plays whole games on one board size and prints sampled move times and shots.
+    private static void playGames(int rows, int cols, int[] fleet, int games, long budget) {
+        MonteCarloShooter sampling = new MonteCarloShooter(budget);
+        long[] moveNanos = new long[rows * cols * games];
+        int moves = 0;
+        long samples = 0;
+        long samplingShots = 0;
+        long densityShots = 0;
+        for (int game = 0; game < games; game++) {
+            BitBoard board = new BitBoard(rows, cols);
+            board.placeFleet(fleet, new SplittableRandom(game));
+            sampling.newGame(rows, cols, fleet);
+            SplittableRandom rng = new SplittableRandom(100 + game);
+            while (!board.allSunk()) {
+                long start = System.nanoTime();
+                int cell = sampling.nextShot(rng);
+                long nanos = System.nanoTime() - start;
+                // Only moves that sampled count towards the times
+                if (sampling.getLastEstimate() != null) {
+                    moveNanos[moves++] = nanos;
+                    samples += sampling.getLastEstimate().getSamples();
+                }
+                int result = board.shoot(cell);
+                sampling.shotResult(cell, result, board.getSunkShip());
+                samplingShots++;
+            }
+
+            board.placeFleet(fleet, new SplittableRandom(game));
+            densityShots += play(new DensityShooter(), board, rows, cols, fleet, new SplittableRandom(100 + game));
+        }
+        long[] sorted = Arrays.copyOf(moveNanos, moves);
+        Arrays.sort(sorted);
+        System.out.printf("%dx%d, %d ships, %d games: %d sampled moves, p50 %.1f ms, p99 %.1f ms, max %.1f ms, "
+                + "%.0f samples/move; shots: sampling %.1f, density %.1f%n", rows, cols, fleet.length, games, moves,
+                sorted[moves / 2] / 1e6,
+                sorted[moves * 99 / 100] / 1e6, sorted[moves - 1] / 1e6, (double) samples / moves,
+                (double) samplingShots / games, (double) densityShots / games);
+    }
+
+    // Plays one game with a shooter and returns the shots it took.
+    private static int play(Shooter shooter, BitBoard board, int rows, int cols, int[] fleet, SplittableRandom rng) {
+        shooter.newGame(rows, cols, fleet);
+        int shots = 0;
+        while (!board.allSunk()) {
+            int cell = shooter.nextShot(rng);
+            int result = board.shoot(cell);
+            shooter.shotResult(cell, result, board.getSunkShip());
+            shots++;
+        }
+        return shots;
+    }
+
+    private static int[] repeat(int[] fleet, int times) {
+        int[] repeated = new int[fleet.length * times];
+        for (int i = 0; i < repeated.length; i++) {
+            repeated[i] = fleet[i % fleet.length];
+        }
+        return repeated;
+    }
+}
@@ -0,0 +1,112 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.GameConfig;
+import battleship.ShipPlacer;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Placement Benchmark(Battleship)
+ *
+ * Compares ShipPlacer with the old pick-a-spot-and-retry loop from hideShips, for the default
+ * 4-ship fleet on 7x7, for a 20-ship fleet on 20x20 and for a dense fleet on 8x8.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlacementBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    private static final int[] BIG_FLEET = {6, 6, 5, 5, 5, 5, 4, 4, 4, 4, 4, 3, 3, 3, 3, 3, 3, 2, 2, 2};
+    // Covers 44 of the 64 cells of an 8x8 board, where random retries waste most of their tries
+    private static final int[] DENSE_FLEET = {5, 5, 5, 4, 4, 4, 4, 3, 3, 3, 2, 2};
+
+    @Param({"7x7", "20x20", "8x8dense"})
+    public String layout;
+
+    private BitBoard board;
+    private int[] fleet;
+    private final ShipPlacer placer = new ShipPlacer();
+    private final SplittableRandom rng = new SplittableRandom(42);
+
+    /**
+     * Creates the board and picks the fleet for the layout.
+     */
+    @Setup
+    public void setUp() {
+        switch (layout) {
+            case "20x20":
+                board = new BitBoard(20, 20);
+                fleet = BIG_FLEET;
+                break;
+            case "8x8dense":
+                board = new BitBoard(8, 8);
+                fleet = DENSE_FLEET;
+                break;
+            default:
+                board = new BitBoard(7, 7);
+                fleet = FLEET;
+        }
+    }
+
+    /**
+     * The old hideShips loop.
+     */
+    @Benchmark
+    public int retryLoop() {
+        return placeWithRetries(board, fleet, rng);
+    }
+
+    /**
+     * ShipPlacer, as used by hideShips now.
+     */
+    @Benchmark
+    public int shipPlacer() {
+        placer.placeFleet(board, fleet, rng);
+        return board.getShipCount();
+    }
+
+    // The old hideShips loop: pick a random spot and direction, try again if it overlaps. Returns the tries.
+    // Unlike the old loop it starts the fleet over after a million tries, since a dense fleet can box itself in.
+    private static int placeWithRetries(BitBoard board, int[] fleet, SplittableRandom rng) {
+        int tries = 0;
+        board.clear();
+        for (int length : fleet) {
+            boolean placed;
+            do {
+                if (++tries % 1_000_000 == 0) {
+                    return tries + placeWithRetries(board, fleet, rng);
+                }
+                if (rng.nextBoolean()) {
+                    placed = board.placeShip(rng.nextInt(board.getRows() - length + 1), rng.nextInt(board.getCols()), true, length);
+                } else {
+                    placed = board.placeShip(rng.nextInt(board.getRows()), rng.nextInt(board.getCols() - length + 1), false, length);
+                }
+            } while (!placed);
+        }
+        return tries;
+    }
+}
@@ -0,0 +1,112 @@
+package battleship.bench;
+
+import battleship.Board;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Render Benchmark(Battleship)
+ *
+ * Compares the original drawGrid, which redraws every line and cell, with the cached
+ * BoardRenderer, both for a full repaint and for the one-cell repaint that follows a shot.
+ * Drawing goes into an off-screen image, so it also runs on machines without a display.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+    private Graphics2D screen;
+    private Graphics2D cellClip;
+    private CharArrayBoard charBoard;
+    private Board board;
+    private int frame;
+
+    /**
+     * Builds the same half-played board in both versions.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BufferedImage image = new BufferedImage(1000, 600, BufferedImage.TYPE_INT_RGB);
+        screen = image.createGraphics();
+        // After a shot only the cell's rectangle is repainted; Swing sets it as the clip
+        cellClip = image.createGraphics();
+        charBoard = new CharArrayBoard();
+        board = new Board();
+        cellClip.setClip(board.cellBounds(3, 4, 470));
+        Random rand = new Random(3);
+        for (int shot = 0; shot < 20; shot++) {
+            int row = rand.nextInt(7);
+            int col = rand.nextInt(7);
+            char set = rand.nextBoolean() ? '!' : 'X';
+            charBoard.setGrid(row, col, set);
+            board.setGrid(row, col, set);
+        }
+    }
+
+    /**
+     * Frees the graphics.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        screen.dispose();
+        cellClip.dispose();
+    }
+
+    /**
+     * Full repaint with the original drawGrid.
+     */
+    @Benchmark
+    public void fullRepaintOriginal() {
+        charBoard.drawGrid(screen, 470);
+    }
+
+    /**
+     * Full repaint with BoardRenderer.
+     */
+    @Benchmark
+    public void fullRepaintRenderer() {
+        board.drawGrid(screen, 470);
+    }
+
+    /**
+     * One shot and its one-cell repaint with the original drawGrid.
+     */
+    @Benchmark
+    public void cellRepaintOriginal() {
+        charBoard.setGrid(3, 4, (frame++ & 1) == 0 ? '!' : 'X');
+        charBoard.drawGrid(cellClip, 470);
+    }
+
+    /**
+     * One shot and its one-cell repaint with BoardRenderer.
+     */
+    @Benchmark
+    public void cellRepaintRenderer() {
+        board.setGrid(3, 4, (frame++ & 1) == 0 ? '!' : 'X');
+        board.drawGrid(cellClip, 470);
+    }
+}
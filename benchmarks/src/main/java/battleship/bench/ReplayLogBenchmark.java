@@ -0,0 +1,128 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.GameConfig;
+import battleship.GameRecorder;
+import battleship.RandomShooter;
+import battleship.ReplayReader;
+import battleship.Shooter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Summative Game Replay Log Benchmark(Battleship)
+ *
+ * Records 1 million games between two random shooters (or the number given) into a replay log,
+ * then times streaming the whole log back through ReplayReader and seeking to random shots of
+ * random games. It prints the bytes each shot takes on disk, and checks that seeking to the end
+ * of the last game rebuilds exactly the boards that were recorded.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.ReplayLogBenchmark [games]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ReplayLogBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    /**
+     * Runs every measurement and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Path dir = Files.createTempDirectory("replays");
+        Path file = dir.resolve("replays.log");
+        SplittableRandom rng = new SplittableRandom(1);
+        BitBoard[] boards = {new BitBoard(7, 7), new BitBoard(7, 7)};
+        Shooter[] shooters = {new RandomShooter(), new RandomShooter()};
+
+        try {
+            long shots = 0;
+            long start = System.nanoTime();
+            try (GameRecorder recorder = new GameRecorder(file)) {
+                for (int game = 0; game < games; game++) {
+                    shots += playGame(recorder, boards, shooters, rng);
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            long size = Files.size(file) + Files.size(ReplayReader.indexFile(file));
+            System.out.printf("record: %d games, %d shots in %.2f s (%.0f ns/shot)%n", games, shots, elapsed / 1e9,
+                    (double) elapsed / shots);
+            System.out.printf("size: %.1f MB with index, %.2f bytes/shot, %.1f bytes/game%n", size / 1e6,
+                    (double) size / shots, (double) size / games);
+
+            try (ReplayReader reader = new ReplayReader(file)) {
+                long[] counted = new long[1];
+                start = System.nanoTime();
+                long read = reader.read(new ReplayReader.Listener() {
+                    @Override
+                    public void shot(int board, int cell, int result) {
+                        counted[0]++;
+                    }
+                });
+                elapsed = System.nanoTime() - start;
+                System.out.printf("stream: %d games, %d shots in %.2f s (%.0f games/s)%n", read, counted[0],
+                        elapsed / 1e9, read / (elapsed / 1e9));
+
+                int seeks = 100_000;
+                long total = 0;
+                reader.getGames();
+                start = System.nanoTime();
+                for (int i = 0; i < seeks; i++) {
+                    total += reader.seek(rng.nextInt(games), rng.nextInt(100)).getShots();
+                }
+                elapsed = System.nanoTime() - start;
+                System.out.printf("seek: %.0f ns per random game and shot (checksum %d)%n", (double) elapsed / seeks, total);
+
+                // The boards of the last game are still the ones recorded
+                ReplayReader.Replay last = reader.seek(games - 1, Integer.MAX_VALUE);
+                boolean same = sameShots(boards[GameRecorder.COMPUTER_BOARD], last.getComputerBoard())
+                        && sameShots(boards[GameRecorder.PLAYER_BOARD], last.getPlayerBoard());
+                System.out.println("last game replayed " + (same ? "exactly" : "WRONGLY"));
+            }
+        } finally {
+            Files.deleteIfExists(ReplayReader.indexFile(file));
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        }
+    }
+
+    // Plays one game like GameEngine does, recording it; returns the number of shots.
+    private static int playGame(GameRecorder recorder, BitBoard[] boards, Shooter[] shooters, SplittableRandom rng)
+            throws Exception {
+        for (int b = 0; b < 2; b++) {
+            boards[b].clear();
+            boards[b].placeFleet(FLEET, rng);
+            shooters[b].newGame(7, 7, FLEET);
+        }
+        recorder.startGame(boards[GameRecorder.COMPUTER_BOARD], boards[GameRecorder.PLAYER_BOARD], 0);
+        int shots = 0;
+        for (int b = 0; ; b ^= 1) {
+            int cell = shooters[b].nextShot(rng);
+            int result = boards[b].shoot(cell);
+            shooters[b].shotResult(cell, result, boards[b].getSunkShip());
+            recorder.shot(b, cell, result);
+            shots++;
+            if (boards[b].allSunk()) {
+                break;
+            }
+        }
+        recorder.endGame(shots);
+        return shots;
+    }
+
+    // Whether two boards have the same hits and misses.
+    private static boolean sameShots(BitBoard a, BitBoard b) {
+        for (int w = 0; w < a.getWords(); w++) {
+            if (a.getHits(w) != b.getHits(w) || a.getMisses(w) != b.getMisses(w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
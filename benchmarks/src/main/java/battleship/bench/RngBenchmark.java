@@ -0,0 +1,119 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.GameConfig;
+import battleship.GameEngine;
+import battleship.RandomShooter;
+import battleship.SessionRng;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Rng Benchmark(Battleship)
+ *
+ * One java.util.Random shared by every thread, as GamePanel used to have, against a SessionRng
+ * per thread, with four threads at once: a single random number, hiding a fleet, and a whole
+ * game between two RandomShooters (which draw a number for every shot). Every call to a shared
+ * Random updates one seed with compare-and-set, so the threads keep retrying each other's
+ * updates; the SessionRng streams share nothing. The SessionRng game is also reproducible:
+ * each one is game n of a session, started with reset() so no objects are created.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class RngBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    /**
+     * The Random every thread shares.
+     */
+    @State(Scope.Benchmark)
+    public static class Shared {
+        final Random random = new Random(42);
+    }
+
+    /**
+     * Each thread's own streams, board, engine and shooters.
+     */
+    @State(Scope.Thread)
+    public static class Local {
+        final SessionRng streams = new SessionRng(42);
+        final BitBoard board = new BitBoard(7, 7);
+        final GameEngine engine = new GameEngine();
+        final RandomShooter first = new RandomShooter();
+        final RandomShooter second = new RandomShooter();
+        long game;
+    }
+
+    /**
+     * One number from the shared Random.
+     */
+    @Benchmark
+    public int sharedNextInt(Shared shared) {
+        return shared.random.nextInt(49);
+    }
+
+    /**
+     * One number from this thread's SessionRng.
+     */
+    @Benchmark
+    public int sessionNextInt(Local local) {
+        return local.streams.shooter(0).nextInt(49);
+    }
+
+    /**
+     * Hiding the default fleet with the shared Random.
+     */
+    @Benchmark
+    public BitBoard sharedPlacement(Shared shared, Local local) {
+        local.board.placeFleet(FLEET, shared.random);
+        return local.board;
+    }
+
+    /**
+     * Hiding the default fleet with this thread's placement stream.
+     */
+    @Benchmark
+    public BitBoard sessionPlacement(Local local) {
+        local.board.placeFleet(FLEET, local.streams.placement(0));
+        return local.board;
+    }
+
+    /**
+     * A whole game with every number from the shared Random.
+     */
+    @Benchmark
+    public int sharedGame(Shared shared, Local local) {
+        return local.engine.play(local.first, local.second, shared.random);
+    }
+
+    /**
+     * A whole game from the streams of the next game of this thread's session.
+     */
+    @Benchmark
+    public int sessionGame(Local local) {
+        local.streams.reset(SessionRng.gameSeed(42, local.game++));
+        return local.engine.play(local.first, local.second, local.streams);
+    }
+}
@@ -0,0 +1,154 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.Board;
+import battleship.GameConfig;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Scaling Benchmark(Battleship)
+ *
+ * Measures how placement, shots and drawing grow with the board, from the 7x7 game up to
+ * 1000x1000. Every board is as full as the 7x7 game (12 ship parts in 49 cells), using copies
+ * of the default fleet, and cells shrink as the board grows so the drawing stays about 420
+ * pixels wide down to the smallest cell GameConfig allows.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Djava.awt.headless=true", "-Xmx2g"})
+public class ScalingBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    @Param({"7", "30", "100", "300", "1000"})
+    public int size;
+
+    private GameConfig config;
+    private int[] fleet;
+    private final SplittableRandom rng = new SplittableRandom(42);
+
+    // A board to shoot at, and every cell in a random order so no cell is shot twice
+    private BitBoard target;
+    private int[] shotOrder;
+    private int nextShot;
+
+    // A half-played board drawn into an off-screen image, whole or one cell at a time
+    private Board board;
+    private Graphics2D screen;
+    private Graphics2D cellClip;
+    private int frame;
+
+    /**
+     * Builds the configuration, the boards and the image for this size.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        int copies = Math.max(1, size * size / 49);
+        fleet = new int[copies * FLEET.length];
+        for (int i = 0; i < fleet.length; i++) {
+            fleet[i] = FLEET[i % FLEET.length];
+        }
+        config = new GameConfig(size, size, fleet, Math.max(GameConfig.MIN_CELL_SIZE, 420 / size));
+
+        target = new BitBoard(size, size);
+        shotOrder = new int[size * size];
+        for (int cell = 0; cell < shotOrder.length; cell++) {
+            shotOrder[cell] = cell;
+        }
+        for (int i = shotOrder.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int swap = shotOrder[i];
+            shotOrder[i] = shotOrder[j];
+            shotOrder[j] = swap;
+        }
+        nextShot = shotOrder.length;
+
+        board = new Board(config);
+        board.hideShips(board, new Random(3));
+        for (int shot = 0; shot < shotOrder.length / 2; shot++) {
+            board.shoot(shotOrder[shot] / size, shotOrder[shot] % size);
+        }
+        BufferedImage image = new BufferedImage(GameConfig.MARGIN + size * config.getCellSize() + 1,
+                GameConfig.TOP + size * config.getCellSize() + 1, BufferedImage.TYPE_INT_RGB);
+        screen = image.createGraphics();
+        // After a shot only the cell's rectangle is repainted; Swing sets it as the clip
+        cellClip = image.createGraphics();
+        cellClip.setClip(board.cellBounds(size / 2, size / 2, GameConfig.MARGIN));
+        board.drawGrid(screen, GameConfig.MARGIN);
+    }
+
+    /**
+     * Frees the graphics.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        screen.dispose();
+        cellClip.dispose();
+    }
+
+    /**
+     * Hides the whole fleet.
+     */
+    @Benchmark
+    public int placeFleet() {
+        target.placeFleet(fleet, rng);
+        return target.getShipCount();
+    }
+
+    /**
+     * Resolves one shot, hiding the fleet again once every cell has been shot.
+     */
+    @Benchmark
+    public int shoot() {
+        if (nextShot == shotOrder.length) {
+            target.placeFleet(fleet, rng);
+            nextShot = 0;
+        }
+        return target.shoot(shotOrder[nextShot++]);
+    }
+
+    /**
+     * Redraws every cell, as after the board is cleared.
+     */
+    @Benchmark
+    public void fullRepaint() {
+        board.getRenderer().markAllDirty();
+        board.drawGrid(screen, GameConfig.MARGIN);
+    }
+
+    /**
+     * One shot's change and its one-cell repaint.
+     */
+    @Benchmark
+    public void cellRepaint() {
+        board.setGrid(size / 2, size / 2, (frame++ & 1) == 0 ? '!' : 'X');
+        board.drawGrid(cellClip, GameConfig.MARGIN);
+    }
+}
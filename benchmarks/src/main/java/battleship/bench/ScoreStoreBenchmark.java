@@ -0,0 +1,73 @@
+package battleship.bench;
+
+import battleship.ScoreStore;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.SplittableRandom;
+
+/**
+ * Summative Game Score Store Benchmark(Battleship)
+ *
+ * Fills a ScoreStore with 10 million scores (or the number given), then times appends,
+ * leaderboard queries and reopening the file. For comparison it also times the old
+ * leaderboard, which boxed every score into an ArrayList and sorted it after each game.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.ScoreStoreBenchmark [records]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ScoreStoreBenchmark {
+    /**
+     * Runs every measurement and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Path file = Files.createTempFile("scores", ".dat");
+        SplittableRandom rng = new SplittableRandom(1);
+
+        try {
+            ScoreStore store = new ScoreStore(file, ScoreStore.DEFAULT_TOP);
+            long start = System.nanoTime();
+            for (int i = 0; i < records; i++) {
+                store.append(rng.nextInt(-500, 1200), "player" + (i & 1023), i);
+            }
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("append: %d records in %.2f s (%.0f ns/record)%n", records, elapsed / 1e9, (double) elapsed / records);
+
+            // LeaderboardBenchmark measures this properly; this is a quick check at the full size
+            long total = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < 100_000; i++) {
+                total += store.top().get(0).getScore();
+            }
+            System.out.printf("top %d query at %d records: %.0f ns (checksum %d)%n", ScoreStore.DEFAULT_TOP, records,
+                    (System.nanoTime() - start) / 100_000.0, total);
+            store.close();
+
+            start = System.nanoTime();
+            ScoreStore reopened = new ScoreStore(file, ScoreStore.DEFAULT_TOP);
+            System.out.printf("reopen from checkpoint: %.2f ms, %d records, best %d%n",
+                    (System.nanoTime() - start) / 1e6, reopened.size(), reopened.bestScore());
+            reopened.close();
+
+            // The old leaderboard: box every score into an ArrayList and sort it, once per game
+            int oldRecords = Math.min(records, 1_000_000);
+            ArrayList<Integer> scores = new ArrayList<>();
+            start = System.nanoTime();
+            for (int i = 0; i < oldRecords; i++) {
+                scores.add(rng.nextInt(-500, 1200));
+            }
+            scores.sort(Collections.reverseOrder());
+            System.out.printf("old leaderboard, one game at %d scores: %.2f ms (without reading the file)%n",
+                    oldRecords, (System.nanoTime() - start) / 1e6);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
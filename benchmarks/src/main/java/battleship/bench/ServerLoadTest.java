@@ -0,0 +1,166 @@
+package battleship.bench;
+
+import battleship.GameClient;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summative Game Server Load Test(Battleship)
+ *
+ * Opens thousands of sessions on a GameServer and keeps them all playing: a few client
+ * threads each own a share of the connections and fire one shot on each in turn, starting a
+ * new game whenever one ends. Every shot's round trip is timed, and the p50/p99 are printed at
+ * the end together with what the server reported. Unless a port is given, the server is started
+ * in a separate JVM, so the two ends' sockets do not share one process's file limit.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.ServerLoadTest [sessions] [seconds] [threads] [port]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ServerLoadTest {
+    /**
+     * Runs the load test.
+     */
+    public static void main(String[] args) throws Exception {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+
+        Process serverProcess = null;
+        int port;
+        if (args.length > 3) {
+            port = Integer.parseInt(args[3]);
+        } else {
+            String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+            serverProcess = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"), "battleship.GameServer", "0", "600")
+                    .redirectErrorStream(true).start();
+            BufferedReader serverOutput = new BufferedReader(new InputStreamReader(serverProcess.getInputStream()));
+            String banner = serverOutput.readLine();
+            System.out.println("Server: " + banner);
+            port = Integer.parseInt(banner.split(" ")[3]);
+        }
+
+        try {
+            run(sessions, seconds, threads, port);
+        } finally {
+            if (serverProcess != null) {
+                serverProcess.destroy();
+            }
+        }
+    }
+
+    // Connects every session, plays for the given time and prints the latencies.
+    private static void run(int sessions, int seconds, int threads, int port) throws Exception {
+        // Connect every session before any shots are timed
+        long connectStart = System.nanoTime();
+        GameClient[] clients = new GameClient[sessions];
+        int[][] orders = new int[sessions][];
+        int[] nextShot = new int[sessions];
+        SplittableRandom rng = new SplittableRandom(10);
+        for (int i = 0; i < sessions; i++) {
+            clients[i] = new GameClient("localhost", port);
+            clients[i].newGame();
+            orders[i] = shuffledCells(rng);
+        }
+        System.out.printf("%d sessions open in %.2f s%n", sessions, (System.nanoTime() - connectStart) / 1e9);
+
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        AtomicLong games = new AtomicLong();
+        long[][] latencies = new long[threads][];
+        int[] counts = new int[threads];
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Thread worker = new Thread(() -> {
+                long[] samples = new long[1 << 16];
+                int count = 0;
+                GameClient.Shot shot = new GameClient.Shot();
+                try {
+                    // This thread's sessions are thread, thread + threads, thread + 2 * threads, ...
+                    while (System.nanoTime() < end) {
+                        for (int i = thread; i < sessions && System.nanoTime() < end; i += threads) {
+                            int cell = orders[i][nextShot[i]++];
+                            long start = System.nanoTime();
+                            clients[i].fire(cell / 7, cell % 7, shot);
+                            long elapsed = System.nanoTime() - start;
+                            if (count == samples.length) {
+                                samples = Arrays.copyOf(samples, count * 2);
+                            }
+                            samples[count++] = elapsed;
+                            if (shot.isGameOver()) {
+                                clients[i].newGame();
+                                nextShot[i] = 0;
+                                games.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (IOException ioException) {
+                    System.err.println("Java Exception: " + ioException);
+                }
+                latencies[thread] = samples;
+                counts[thread] = count;
+            }, "client-" + t);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Put every sample together and read off the percentiles
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] all = new long[total];
+        int at = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(latencies[t], 0, all, at, counts[t]);
+            at += counts[t];
+        }
+        Arrays.sort(all);
+        System.out.printf("%d shots in %d s (%.0f shots/s), %d games finished, %d client threads%n",
+                total, seconds, total / (double) seconds, games.get(), threads);
+        System.out.printf("shot latency: p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms, max %.3f ms%n",
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6, percentile(all, 0.999) / 1e6,
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+
+        for (GameClient client : clients) {
+            client.close();
+        }
+    }
+
+    // Every cell of a 7x7 board in a random order, so a session never repeats a shot.
+    private static int[] shuffledCells(SplittableRandom rng) {
+        int[] cells = new int[49];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i;
+        }
+        for (int i = cells.length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int swap = cells[i];
+            cells[i] = cells[j];
+            cells[j] = swap;
+        }
+        return cells;
+    }
+
+    // Returns the sample at the given fraction of a sorted array.
+    private static long percentile(long[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (fraction * sorted.length))];
+    }
+}
@@ -0,0 +1,101 @@
+package battleship.bench;
+
+import battleship.BatchRunner;
+import battleship.BitBoard;
+import battleship.GameConfig;
+import battleship.GameEngine;
+import battleship.Shooter;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Shooter Benchmark(Battleship)
+ *
+ * The computer opponents: one computer guess as GamePanel.makeComputerGuess makes it (pick a
+ * cell, shoot the player's board, tell the shooter), a whole solo game, and a whole headless game
+ * between the two shooters. GamePanel itself needs a window, so its guess is measured through
+ * the same Shooter and Board calls it makes.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShooterBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    @Param({"random", "density"})
+    public String shooterName;
+
+    private Shooter shooter;
+    private Shooter opponent;
+    private final GameEngine engine = new GameEngine();
+    private final BitBoard playerBoard = new BitBoard(7, 7);
+    private final SplittableRandom rng = new SplittableRandom(42);
+
+    /**
+     * Creates the shooters and starts the first game.
+     */
+    @Setup
+    public void setUp() {
+        shooter = BatchRunner.shooterFor(shooterName).get();
+        opponent = BatchRunner.shooterFor("random").get();
+        newGame();
+    }
+
+    /**
+     * One computer guess; a new game is started whenever the fleet is sunk.
+     */
+    @Benchmark
+    public int computerGuess() {
+        int cell = shooter.nextShot(rng);
+        int result = playerBoard.shoot(cell);
+        shooter.shotResult(cell, result, playerBoard.getSunkShip());
+        if (playerBoard.allSunk()) {
+            newGame();
+        }
+        return result;
+    }
+
+    /**
+     * A whole game for one shooter alone, placement included.
+     */
+    @Benchmark
+    public int soloPlayout() {
+        return engine.playSolo(shooter, rng);
+    }
+
+    /**
+     * A whole headless game against a random shooter, placement included.
+     */
+    @Benchmark
+    public int fullPlayout() {
+        return engine.play(shooter, opponent, rng);
+    }
+
+    // Hides a new fleet on the player's board and resets the shooter.
+    private void newGame() {
+        playerBoard.placeFleet(FLEET, rng);
+        shooter.newGame(7, 7, FLEET);
+    }
+}
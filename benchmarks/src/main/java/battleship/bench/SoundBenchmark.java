@@ -0,0 +1,81 @@
+package battleship.bench;
+
+import battleship.SoundEngine;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Summative Game Sound Benchmark(Battleship)
+ *
+ * Compares the old playSound, which opened and decoded the WAV file on every shot before
+ * creating a new Clip, with SoundEngine.play, which only hands a rewind of a loaded clip to the
+ * sound thread. Creating the Clip needs a sound device, so only the file part of the old path is
+ * measured. Run from the repository root, where the WAV files are.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoundBenchmark {
+    private final File file = new File("splash2.wav");
+    private SoundEngine engine;
+
+    /**
+     * Loads the sound engine (a silent one if there is no sound device).
+     */
+    @Setup
+    public void setUp() {
+        engine = SoundEngine.create();
+    }
+
+    /**
+     * Stops the sound thread.
+     */
+    @TearDown
+    public void tearDown() {
+        engine.close();
+    }
+
+    /**
+     * The old playSound's file work: open and decode the WAV file.
+     */
+    @Benchmark
+    public int oldPlaySoundDecode() throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream audioStream = AudioSystem.getAudioInputStream(file)) {
+            return audioStream.readAllBytes().length;
+        }
+    }
+
+    /**
+     * SoundEngine.play, as the caller on the event thread sees it.
+     */
+    @Benchmark
+    public void soundEnginePlay() {
+        engine.play(SoundEngine.Effect.SPLASH);
+    }
+}
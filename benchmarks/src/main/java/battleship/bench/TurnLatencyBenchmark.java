@@ -0,0 +1,99 @@
+package battleship.bench;
+
+import battleship.BitBoard;
+import battleship.DensityShooter;
+import battleship.GameConfig;
+import battleship.RandomShooter;
+import battleship.Shooter;
+import battleship.TurnScheduler;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Summative Game Turn Latency Benchmark(Battleship)
+ *
+ * Plays games on the real event thread the way GamePanel does: each simulated click shoots the
+ * computer's board and hands the turn to a TurnScheduler, whose reply is a DensityShooter shot at
+ * the player's board. Prints the time from click to the end of the computer's reply. With the old
+ * 500 ms timer the reply waited for the next tick, so it took about 250 ms on average and up to 500 ms.
+ * Run from the repository root with:
+ *   mvn -B package -DskipTests && java -cp benchmarks/target/benchmarks.jar battleship.bench.TurnLatencyBenchmark [games]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class TurnLatencyBenchmark {
+    // The standard game's fleet
+    private static final int[] FLEET = GameConfig.DEFAULT.getFleet();
+
+    private final BitBoard computerBoard = new BitBoard(7, 7);
+    private final BitBoard playerBoard = new BitBoard(7, 7);
+    private final Shooter computerShooter = new DensityShooter();
+    private final Shooter player = new RandomShooter();
+    private final SplittableRandom rng = new SplittableRandom(7);
+    private final TurnScheduler turns = new TurnScheduler(this::computerMove, SwingUtilities::invokeLater);
+    private CountDownLatch gameOver;
+
+    /**
+     * Plays the games and prints the latency report.
+     */
+    public static void main(String[] args) throws Exception {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        TurnLatencyBenchmark benchmark = new TurnLatencyBenchmark();
+        // The first games warm up the JIT and are not counted
+        benchmark.play(games / 10);
+        benchmark = new TurnLatencyBenchmark();
+        benchmark.play(games);
+        System.out.println(games + " games: " + benchmark.turns.latencyReport());
+    }
+
+    // Plays the games one at a time on the event thread.
+    private void play(int games) throws InterruptedException {
+        for (int i = 0; i < games; i++) {
+            gameOver = new CountDownLatch(1);
+            SwingUtilities.invokeLater(this::newGame);
+            gameOver.await();
+        }
+    }
+
+    // Hides both fleets and posts the first click.
+    private void newGame() {
+        computerBoard.placeFleet(FLEET, rng);
+        playerBoard.placeFleet(FLEET, rng);
+        computerShooter.newGame(7, 7, FLEET);
+        player.newGame(7, 7, FLEET);
+        turns.start();
+        SwingUtilities.invokeLater(this::click);
+    }
+
+    // A player's click: shoots the computer's board and gives the computer its turn.
+    private void click() {
+        int cell = player.nextShot(rng);
+        int result = computerBoard.shoot(cell);
+        player.shotResult(cell, result, computerBoard.getSunkShip());
+        if (computerBoard.allSunk()) {
+            turns.finish();
+            gameOver.countDown();
+            return;
+        }
+        turns.playerShot(result == BitBoard.MISS ? -5 : 100);
+    }
+
+    // The computer's reply, then the next click is posted like a player clicking again.
+    private void computerMove() {
+        int cell = computerShooter.nextShot(rng);
+        int result = playerBoard.shoot(cell);
+        computerShooter.shotResult(cell, result, playerBoard.getSunkShip());
+        if (playerBoard.allSunk()) {
+            turns.finish();
+            gameOver.countDown();
+            return;
+        }
+        SwingUtilities.invokeLater(this::click);
+    }
+}
@@ -0,0 +1,157 @@
+package battleship;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Summative Game Arena Board(Battleship)
+ *
+ * A view of one board of one game in a GameArena. It holds no board data of its own, only where
+ * the board is, so moveTo() can point the same view at another game and a simulator needs just
+ * one view per side however many games it keeps. shoot() gives the same results as
+ * BitBoard.shoot(), and also counts the side's shots in the game's header.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ArenaBoard {
+    private final GameArena arena;
+    private final int fleetSize;
+
+    // Where the board is: its buffer, its offset there, and its shot count's offset
+    private ByteBuffer chunk;
+    private int board;
+    private int shots;
+    private int slot = -1;
+    private int side;
+
+    // The ship the last shot sank, packed with BitBoard.packShip
+    private int sunkShip = -1;
+
+    /**
+     * Constructor for a view that does not point at a game yet, see moveTo().
+     *
+     * @param arena The arena the view's games are in
+     */
+    public ArenaBoard(GameArena arena) {
+        this.arena = arena;
+        fleetSize = arena.getFleet().length;
+    }
+
+    /**
+     * Points the view at one board of a game.
+     *
+     * @param slot The game's slot
+     * @param side 0 for the board the first shooter fires at, 1 for the other
+     * @return this view
+     * @throws IllegalArgumentException if the slot is not in use or the side is not 0 or 1
+     */
+    public ArenaBoard moveTo(int slot, int side) {
+        arena.checkLive(slot);
+        if (side != 0 && side != 1) {
+            throw new IllegalArgumentException("A game has sides 0 and 1, not " + side);
+        }
+        chunk = arena.chunk(slot);
+        board = arena.boardOffset(slot, side);
+        shots = arena.shotsOffset(slot, side);
+        this.slot = slot;
+        this.side = side;
+        sunkShip = -1;
+        return this;
+    }
+
+    /**
+     * Fires at a cell.
+     *
+     * @param cell The cell index (row * cols + col)
+     * @return BitBoard.MISS, HIT, SUNK or REPEAT if the cell was already fired at
+     */
+    public int shoot(int cell) {
+        long bit = 1L << cell;
+        long hits = chunk.getLong(board + GameArena.HITS * Long.BYTES);
+        long misses = chunk.getLong(board + GameArena.MISSES * Long.BYTES);
+        if (((hits | misses) & bit) != 0) {
+            return BitBoard.REPEAT;
+        }
+        chunk.putInt(shots, chunk.getInt(shots) + 1);
+        if ((chunk.getLong(board + GameArena.SHIPS * Long.BYTES) & bit) == 0) {
+            chunk.putLong(board + GameArena.MISSES * Long.BYTES, misses | bit);
+            return BitBoard.MISS;
+        }
+        hits |= bit;
+        chunk.putLong(board + GameArena.HITS * Long.BYTES, hits);
+        // The ship under the shot is sunk once all its cells are hit
+        for (int k = 0; k < fleetSize; k++) {
+            long ship = chunk.getLong(board + (GameArena.FLEET + k) * Long.BYTES);
+            if ((ship & bit) != 0) {
+                if ((hits & ship) != ship) {
+                    return BitBoard.HIT;
+                }
+                sunkShip = packShip(ship);
+                return BitBoard.SUNK;
+            }
+        }
+        return BitBoard.HIT;
+    }
+
+    /**
+     * @return the ship the last SUNK shot sank, packed with BitBoard.packShip
+     */
+    public int getSunkShip() {
+        return sunkShip;
+    }
+
+    /**
+     * @return true if every ship on the board is sunk
+     */
+    public boolean allSunk() {
+        return (chunk.getLong(board + GameArena.SHIPS * Long.BYTES) & ~chunk.getLong(board + GameArena.HITS * Long.BYTES)) == 0;
+    }
+
+    /**
+     * @return number of ship parts that have not been hit
+     */
+    public int getPartsLeft() {
+        return Long.bitCount(chunk.getLong(board + GameArena.SHIPS * Long.BYTES)
+                & ~chunk.getLong(board + GameArena.HITS * Long.BYTES));
+    }
+
+    /**
+     * @param cell The cell index
+     * @return true if that cell was already fired at
+     */
+    public boolean isShot(int cell) {
+        return ((chunk.getLong(board + GameArena.HITS * Long.BYTES)
+                | chunk.getLong(board + GameArena.MISSES * Long.BYTES)) & (1L << cell)) != 0;
+    }
+
+    /**
+     * @return number of shots fired at this board
+     */
+    public int getShots() {
+        return chunk.getInt(shots);
+    }
+
+    /**
+     * @return the slot of the game the view points at, or -1 if it has not been moved to one
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * @return the side of the game the view points at
+     */
+    public int getSide() {
+        return side;
+    }
+
+    // Packs a ship's cell mask the way BitBoard.packShip does.
+    private int packShip(long ship) {
+        int start = Long.numberOfTrailingZeros(ship);
+        int length = Long.bitCount(ship);
+        boolean vertical = length > 1 && (ship & (1L << (start + 1))) == 0;
+        return BitBoard.packShip(start, length, vertical);
+    }
+}
@@ -0,0 +1,247 @@
+package battleship;
+
+import java.util.function.Supplier;
+
+/**
+ * Summative Game Batch Runner(Battleship)
+ *
+ * Plays a large number of headless games spread across every core and reports games/sec and
+ * how many shots the winner needed. Each thread has its own engine, shooters, SessionRng and
+ * histogram; the histograms are only added together after the threads have finished. Game n
+ * always uses the streams of SessionRng.forGame(seed, n), so a batch gives the same results
+ * whatever the number of threads, and any one game can be played again on its own.
+ *
+ * Usage: java BatchRunner [games] [threads] [seed] [first shooter] [second shooter]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class BatchRunner {
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+    private final Supplier<Shooter> firstShooter;
+    private final Supplier<Shooter> secondShooter;
+
+    /**
+     * Constructor for a batch of default 7x7 games.
+     *
+     * @param firstShooter Creates the shooter that moves first (called once per thread)
+     * @param secondShooter Creates the shooter that moves second (called once per thread)
+     */
+    public BatchRunner(Supplier<Shooter> firstShooter, Supplier<Shooter> secondShooter) {
+        this(GameConfig.DEFAULT.getRows(), GameConfig.DEFAULT.getCols(), GameConfig.DEFAULT.getFleet(),
+                firstShooter, secondShooter);
+    }
+
+    /**
+     * Constructor for a batch of games of any size and fleet.
+     *
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board
+     * @param firstShooter Creates the shooter that moves first (called once per thread)
+     * @param secondShooter Creates the shooter that moves second (called once per thread)
+     */
+    public BatchRunner(int rows, int cols, int[] fleet, Supplier<Shooter> firstShooter, Supplier<Shooter> secondShooter) {
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        this.firstShooter = firstShooter;
+        this.secondShooter = secondShooter;
+    }
+
+    /**
+     * Plays the games and waits for every thread to finish.
+     *
+     * @param games number of games to play
+     * @param threads number of threads to use
+     * @param seed the session seed the games' random number streams come from
+     * @return the combined results
+     * @throws InterruptedException if interrupted while waiting for the threads
+     */
+    public Result run(long games, int threads, long seed) throws InterruptedException {
+        Result[] partial = new Result[threads];
+        Thread[] workers = new Thread[threads];
+
+        long start = System.nanoTime();
+        long from = 0;
+        for (int t = 0; t < threads; t++) {
+            long share = games / threads + (t < games % threads ? 1 : 0);
+            long first = from;
+            Result result = new Result(rows * cols);
+            partial[t] = result;
+            workers[t] = new Thread(() -> playShare(seed, first, first + share, result), "batch-" + t);
+            workers[t].start();
+            from += share;
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Result total = new Result(rows * cols);
+        for (Result result : partial) {
+            total.add(result);
+        }
+        total.nanos = elapsed;
+        return total;
+    }
+
+    // Plays games from .. to - 1 of the session into this thread's own result.
+    private void playShare(long seed, long from, long to, Result result) {
+        GameEngine engine = new GameEngine(rows, cols, fleet);
+        Shooter first = firstShooter.get();
+        Shooter second = secondShooter.get();
+        SessionRng streams = new SessionRng(seed);
+        for (long game = from; game < to; game++) {
+            result.record(engine.play(first, second, streams.reset(SessionRng.gameSeed(seed, game))));
+        }
+    }
+
+    /**
+     * Creates a shooter from its name on the command line.
+     *
+     * @param name The shooter name: random, density, solver or sampling
+     * @return a supplier of new shooters of that kind
+     */
+    public static Supplier<Shooter> shooterFor(String name) {
+        switch (name) {
+            case "random":
+                return RandomShooter::new;
+            case "density":
+                return DensityShooter::new;
+            case "solver":
+                return SolverShooter::new;
+            case "sampling":
+                return MonteCarloShooter::new;
+            default:
+                throw new IllegalArgumentException("Unknown shooter: " + name);
+        }
+    }
+
+    /**
+     * Runs a batch from the command line and prints the report.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : SessionRng.newSeed();
+        String first = args.length > 3 ? args[3] : "random";
+        String second = args.length > 4 ? args[4] : first;
+
+        BatchRunner runner = new BatchRunner(shooterFor(first), shooterFor(second));
+        Result result = runner.run(games, threads, seed);
+        System.out.println(first + " vs " + second + ", " + threads + " threads, seed " + seed);
+        System.out.print(result);
+    }
+
+    /**
+     * Games played, wins and a histogram of shots needed to win.
+     */
+    public static class Result {
+        private final long[] shotCounts;
+        private final long[] wins = new long[2];
+        private long games;
+        private long nanos;
+
+        /**
+         * @param maxShots the most shots a game can take
+         */
+        public Result(int maxShots) {
+            shotCounts = new long[maxShots + 1];
+        }
+
+        /**
+         * Adds one game to the totals.
+         * @param gameResult A result returned by GameEngine.play()
+         */
+        public void record(int gameResult) {
+            shotCounts[GameEngine.shots(gameResult)]++;
+            wins[GameEngine.winner(gameResult)]++;
+            games++;
+        }
+
+        /**
+         * Adds another result's games to this one.
+         * @param other The result to add
+         */
+        public void add(Result other) {
+            for (int shots = 0; shots < shotCounts.length; shots++) {
+                shotCounts[shots] += other.shotCounts[shots];
+            }
+            wins[0] += other.wins[0];
+            wins[1] += other.wins[1];
+            games += other.games;
+        }
+
+        /**
+         * @return number of games played
+         */
+        public long getGames() {
+            return games;
+        }
+
+        /**
+         * @param shooter 0 for the first shooter, 1 for the second
+         * @return number of games that shooter won
+         */
+        public long getWins(int shooter) {
+            return wins[shooter];
+        }
+
+        /**
+         * @return games per second, or 0 if the run was not timed
+         */
+        public double gamesPerSecond() {
+            return nanos == 0 ? 0 : games * 1e9 / nanos;
+        }
+
+        /**
+         * @return average number of shots the winner needed
+         */
+        public double meanShots() {
+            double total = 0;
+            for (int shots = 0; shots < shotCounts.length; shots++) {
+                total += (double) shots * shotCounts[shots];
+            }
+            return games == 0 ? 0 : total / games;
+        }
+
+        /**
+         * @param fraction a fraction between 0 and 1, e.g. 0.99
+         * @return the smallest number of shots that at least that fraction of games needed
+         */
+        public int percentile(double fraction) {
+            long needed = (long) Math.ceil(fraction * games);
+            long seen = 0;
+            for (int shots = 0; shots < shotCounts.length; shots++) {
+                seen += shotCounts[shots];
+                if (seen >= needed && seen > 0) {
+                    return shots;
+                }
+            }
+            return shotCounts.length - 1;
+        }
+
+        /**
+         * @return a report of the speed, the wins and the distribution of shots to win
+         */
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("games: %d in %.2f s (%.0f games/sec)%n", games, nanos / 1e9, gamesPerSecond()));
+            text.append(String.format("wins: first %d, second %d%n", wins[0], wins[1]));
+            text.append(String.format("shots to win: mean %.2f, p50 %d, p90 %d, p99 %d%n",
+                    meanShots(), percentile(0.5), percentile(0.9), percentile(0.99)));
+            for (int shots = 0; shots < shotCounts.length; shots++) {
+                if (shotCounts[shots] > 0) {
+                    text.append(String.format("%4d %10d %6.2f%%%n", shots, shotCounts[shots], 100.0 * shotCounts[shots] / games));
+                }
+            }
+            return text.toString();
+        }
+    }
+}
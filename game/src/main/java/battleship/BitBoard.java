@@ -0,0 +1,469 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Bit Board(Battleship)
+ *
+ * Stores ships, hits and misses as bit masks (one bit per cell, row-major) so that
+ * placement, overlap checks and hit tests are done with mask operations instead of
+ * walking a 2D array. Boards bigger than 64 cells simply use more than one long per mask.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class BitBoard {
+    // Results of a shot
+    public static final int MISS = 0;
+    public static final int HIT = 1;
+    public static final int SUNK = 2;
+    public static final int REPEAT = 3;
+
+    // Limits of packShip, which keeps the first cell in 22 bits and the length in 8 (the top
+    // bit stays clear so a packed ship is never negative, like the -1 meaning "no ship")
+    public static final int MAX_CELLS = 1 << 22;
+    public static final int MAX_SHIP_LENGTH = 0xFF;
+
+    // Number of rows, columns, cells and 64-bit words per mask
+    private final int rows;
+    private final int cols;
+    private final int cells;
+    private final int words;
+
+    // One bit per cell: set if a ship part is there, if it has been hit, or if it was a miss
+    private final long[] ships;
+    private final long[] hits;
+    private final long[] misses;
+
+    // Ships in the order they were placed. cellShip holds (ship number + 1) for each cell, 0 if none.
+    private final int[] cellShip;
+    private int[] shipStart = new int[8];
+    private int[] shipLength = new int[8];
+    private boolean[] shipVertical = new boolean[8];
+    private int[] shipHits = new int[8];
+    private int shipCount;
+
+    // Ship parts that have not been hit yet, and the last ship sunk by shoot()
+    private int partsLeft;
+    private int sunkShip = -1;
+
+    // Picks positions for placeFleet, created the first time it is needed
+    private ShipPlacer placer;
+
+    /**
+     * Constructor that creates an empty board of the given size.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     * @throws IllegalArgumentException if a size is not positive or there are more than MAX_CELLS cells
+     */
+    public BitBoard(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Board size must be positive: " + rows + "x" + cols);
+        }
+        if ((long) rows * cols > MAX_CELLS) {
+            throw new IllegalArgumentException("A board can have at most " + MAX_CELLS + " cells: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = rows * cols;
+        this.words = (cells + 63) >>> 6;
+        ships = new long[words];
+        hits = new long[words];
+        misses = new long[words];
+        cellShip = new int[cells];
+    }
+
+    /**
+     * Accessor method for the number of rows.
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Accessor method for the number of columns.
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Accessor method for the number of cells.
+     * @return rows * cols
+     */
+    public int getCells() {
+        return cells;
+    }
+
+    /**
+     * Converts a row and column into the bit index used by the masks.
+     *
+     * @param row The row
+     * @param col The column
+     * @return the cell index
+     */
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    /**
+     * Removes every ship, hit and miss from the board.
+     */
+    public void clear() {
+        for (int w = 0; w < words; w++) {
+            ships[w] = 0L;
+            hits[w] = 0L;
+            misses[w] = 0L;
+        }
+        Arrays.fill(cellShip, 0);
+        shipCount = 0;
+        partsLeft = 0;
+        sunkShip = -1;
+    }
+
+    /**
+     * Clears every hit and miss but keeps the ships where they are, so the same layout can be played again.
+     */
+    public void clearShots() {
+        for (int w = 0; w < words; w++) {
+            hits[w] = 0L;
+            misses[w] = 0L;
+        }
+        Arrays.fill(shipHits, 0, shipCount, 0);
+        partsLeft = 0;
+        for (int ship = 0; ship < shipCount; ship++) {
+            partsLeft += shipLength[ship];
+        }
+        sunkShip = -1;
+    }
+
+    /**
+     * Places a ship if it fits on the board and does not overlap another ship.
+     * Otherwise, the board is left unchanged and false is returned.
+     *
+     * @param row The row of the ship's first part
+     * @param col The column of the ship's first part
+     * @param vertical true for a vertical ship, false for a horizontal one
+     * @param length The length of the ship, at most MAX_SHIP_LENGTH
+     * @return true if the ship was placed
+     */
+    public boolean placeShip(int row, int col, boolean vertical, int length) {
+        if (row < 0 || col < 0 || length <= 0 || length > MAX_SHIP_LENGTH) {
+            return false;
+        }
+        int start = index(row, col);
+        if (vertical) {
+            if (row + length > rows) {
+                return false;
+            }
+            // Vertical parts are one row (cols bits) apart
+            for (int parts = 0, bit = start; parts < length; parts++, bit += cols) {
+                if ((ships[bit >>> 6] & (1L << bit)) != 0) {
+                    return false;
+                }
+            }
+            for (int parts = 0, bit = start; parts < length; parts++, bit += cols) {
+                ships[bit >>> 6] |= 1L << bit;
+                cellShip[bit] = shipCount + 1;
+            }
+        } else {
+            if (col + length > cols) {
+                return false;
+            }
+            // Horizontal parts are a run of consecutive bits, spread over at most a few words
+            if (rangeIntersects(ships, start, length)) {
+                return false;
+            }
+            setRange(ships, start, length);
+            for (int parts = 0; parts < length; parts++) {
+                cellShip[start + parts] = shipCount + 1;
+            }
+        }
+        addShip(start, length, vertical);
+        return true;
+    }
+
+    /**
+     * Clears the board and hides a whole fleet at random positions.
+     *
+     * @param fleet The ship lengths
+     * @param rng Where the random numbers come from
+     * @throws IllegalStateException if the fleet cannot fit on the board
+     */
+    public void placeFleet(int[] fleet, RandomGenerator rng) {
+        if (placer == null) {
+            placer = new ShipPlacer();
+        }
+        placer.placeFleet(this, fleet, rng);
+    }
+
+    /**
+     * Fires at a cell. Hits and misses are recorded on the board.
+     *
+     * @param cell The cell index
+     * @return MISS, HIT, SUNK (the hit finished a ship, see getSunkShip) or REPEAT if the cell was already shot
+     */
+    public int shoot(int cell) {
+        int w = cell >>> 6;
+        long bit = 1L << cell;
+        if (((hits[w] | misses[w]) & bit) != 0) {
+            return REPEAT;
+        }
+        if ((ships[w] & bit) == 0) {
+            misses[w] |= bit;
+            return MISS;
+        }
+        hits[w] |= bit;
+        partsLeft--;
+        int ship = cellShip[cell] - 1;
+        if (ship >= 0 && ++shipHits[ship] == shipLength[ship]) {
+            sunkShip = packShip(shipStart[ship], shipLength[ship], shipVertical[ship]);
+            return SUNK;
+        }
+        return HIT;
+    }
+
+    /**
+     * Accessor method for the last ship sunk by shoot().
+     * @return the ship packed with packShip, or -1 if none has been sunk
+     */
+    public int getSunkShip() {
+        return sunkShip;
+    }
+
+    /**
+     * Accessor method for the number of ships placed.
+     * @return number of ships
+     */
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    /**
+     * Accessor method for a placed ship.
+     *
+     * @param ship The ship number, in placement order
+     * @return the ship packed with packShip
+     */
+    public int getShip(int ship) {
+        return packShip(shipStart[ship], shipLength[ship], shipVertical[ship]);
+    }
+
+    /**
+     * Checks whether every ship part has been hit.
+     * @return true if no ship parts are left
+     */
+    public boolean allSunk() {
+        return partsLeft == 0;
+    }
+
+    /**
+     * Packs a ship into one int so it can be passed around without creating objects.
+     *
+     * @param start The cell index of the first part
+     * @param length The length of the ship
+     * @param vertical true for a vertical ship
+     * @return the packed ship
+     */
+    public static int packShip(int start, int length, boolean vertical) {
+        return (start << 9) | (length << 1) | (vertical ? 1 : 0);
+    }
+
+    /**
+     * @param ship A ship packed with packShip
+     * @return the cell index of its first part
+     */
+    public static int shipStart(int ship) {
+        return ship >>> 9;
+    }
+
+    /**
+     * @param ship A ship packed with packShip
+     * @return its length
+     */
+    public static int shipLength(int ship) {
+        return (ship >>> 1) & 0xFF;
+    }
+
+    /**
+     * @param ship A ship packed with packShip
+     * @return true if it is vertical
+     */
+    public static boolean shipVertical(int ship) {
+        return (ship & 1) != 0;
+    }
+
+    /**
+     * @param ship A ship packed with packShip, on a board of at most 64 cells
+     * @param cols number of columns on its board
+     * @return its cells as a mask, bit i set for cell i
+     */
+    public static long shipMask(int ship, int cols) {
+        int step = shipVertical(ship) ? cols : 1;
+        long mask = 0;
+        for (int part = 0, cell = shipStart(ship); part < shipLength(ship); part++, cell += step) {
+            mask |= 1L << cell;
+        }
+        return mask;
+    }
+
+    // Remembers a newly placed ship.
+    private void addShip(int start, int length, boolean vertical) {
+        if (shipCount == shipStart.length) {
+            int size = shipCount * 2;
+            shipStart = Arrays.copyOf(shipStart, size);
+            shipLength = Arrays.copyOf(shipLength, size);
+            shipVertical = Arrays.copyOf(shipVertical, size);
+            shipHits = Arrays.copyOf(shipHits, size);
+        }
+        shipStart[shipCount] = start;
+        shipLength[shipCount] = length;
+        shipVertical[shipCount] = vertical;
+        shipHits[shipCount] = 0;
+        shipCount++;
+        partsLeft += length;
+    }
+
+    /**
+     * Checks whether there is a ship part at the given cell.
+     *
+     * @param cell The cell index
+     * @return true if a ship part is there
+     */
+    public boolean isShip(int cell) {
+        return (ships[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Checks whether the given cell has been hit.
+     *
+     * @param cell The cell index
+     * @return true if the cell was hit
+     */
+    public boolean isHit(int cell) {
+        return (hits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Checks whether the given cell was a miss.
+     *
+     * @param cell The cell index
+     * @return true if the cell was a miss
+     */
+    public boolean isMiss(int cell) {
+        return (misses[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Checks whether the given cell was already shot at.
+     *
+     * @param cell The cell index
+     * @return true if the cell is a hit or a miss
+     */
+    public boolean isShot(int cell) {
+        int w = cell >>> 6;
+        return ((hits[w] | misses[w]) & (1L << cell)) != 0;
+    }
+
+    /**
+     * Accessor method for the number of 64-bit words in each mask.
+     * @return number of words
+     */
+    public int getWords() {
+        return words;
+    }
+
+    /**
+     * Accessor method for one word of the hit mask, e.g. to save a snapshot of the board.
+     *
+     * @param word The word index
+     * @return the hit bits of cells word * 64 .. word * 64 + 63
+     */
+    public long getHits(int word) {
+        return hits[word];
+    }
+
+    /**
+     * Accessor method for one word of the miss mask, e.g. to save a snapshot of the board.
+     *
+     * @param word The word index
+     * @return the miss bits of cells word * 64 .. word * 64 + 63
+     */
+    public long getMisses(int word) {
+        return misses[word];
+    }
+
+    /**
+     * Changes the state of one cell. Used by the Board facade for setGrid.
+     *
+     * @param cell The cell index
+     * @param ship whether a ship part is there
+     * @param hit whether the cell has been hit
+     * @param miss whether the cell was a miss
+     */
+    public void setCell(int cell, boolean ship, boolean hit, boolean miss) {
+        int w = cell >>> 6;
+        long bit = 1L << cell;
+        // Keep the count of parts left in step with the change
+        boolean wasLeft = (ships[w] & ~hits[w] & bit) != 0;
+        if (wasLeft != (ship && !hit)) {
+            partsLeft += wasLeft ? -1 : 1;
+        }
+        if (!ship) {
+            cellShip[cell] = 0;
+        }
+        ships[w] = ship ? ships[w] | bit : ships[w] & ~bit;
+        hits[w] = hit ? hits[w] | bit : hits[w] & ~bit;
+        misses[w] = miss ? misses[w] | bit : misses[w] & ~bit;
+    }
+
+    /**
+     * Counts the ship parts that have not been hit yet.
+     *
+     * @return number of ship parts left
+     */
+    public int countShipsLeft() {
+        // Counted from the masks rather than partsLeft, so it is correct whatever setCell was given
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(ships[w] & ~hits[w]);
+        }
+        return count;
+    }
+
+    // Returns true if any bit in [from, from + length) is set in the mask.
+    private static boolean rangeIntersects(long[] mask, int from, int length) {
+        int end = from + length;
+        while (from < end) {
+            int w = from >>> 6;
+            int bits = Math.min(end - from, 64 - (from & 63));
+            if ((mask[w] & rangeMask(from & 63, bits)) != 0) {
+                return true;
+            }
+            from += bits;
+        }
+        return false;
+    }
+
+    // Sets every bit in [from, from + length) in the mask.
+    private static void setRange(long[] mask, int from, int length) {
+        int end = from + length;
+        while (from < end) {
+            int w = from >>> 6;
+            int bits = Math.min(end - from, 64 - (from & 63));
+            mask[w] |= rangeMask(from & 63, bits);
+            from += bits;
+        }
+    }
+
+    // A word with `bits` ones starting at bit `shift`.
+    private static long rangeMask(int shift, int bits) {
+        return (bits == 64 ? -1L : (1L << bits) - 1) << shift;
+    }
+}
@@ -0,0 +1,245 @@
+package battleship;
+
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Board Class(Battleship)
+ *
+ * @author Sophia Wu
+ *
+ * @version January 17, 2025
+ */
+
+public class Board {
+    // Design Decision: The Board is stored as bit masks (see BitBoard) rather than an array of char(acters).
+    // The char methods below (isHit, setGrid) are kept so the rest of the game does not need to change.
+    private BitBoard bits;
+    // Instance variable for the number of ship parts left.
+    private int ShipsLeft;
+
+    // Draws the board from a cached image, redrawing only the cells that changed
+    private BoardRenderer renderer;
+
+    // Lengths of the ships hidden by hideShips
+    private final int[] shipLengths;
+
+    /**
+     * This no-argument constructor will create a new empty 7x7 board.
+     * This method has no parameters and returns nothing.
+     */
+    public Board() {
+        this(GameConfig.DEFAULT);
+    }
+
+    /**
+     * This constructor will create a new empty board of any size, with the default fleet and cell size.
+     *
+     * @param rows number of rows
+     * @param cols number of columns
+     */
+    public Board(int rows, int cols) {
+        bits = new BitBoard(rows, cols);
+        renderer = new BoardRenderer(bits);
+        shipLengths = GameConfig.DEFAULT.getFleet();
+    }
+
+    /**
+     * This constructor will create a new empty board with the size, fleet and cell size of a game.
+     *
+     * @param config The game's board size, fleet and cell size
+     */
+    public Board(GameConfig config) {
+        bits = new BitBoard(config.getRows(), config.getCols());
+        renderer = new BoardRenderer(bits, config.getCellSize());
+        shipLengths = config.getFleet();
+    }
+
+    /**
+     * This method clears the board.
+     */
+    public void clearBoard() {
+        bits.clear();
+        renderer.markAllDirty();
+        ShipsLeft = -1;
+    }
+
+    /**
+     * Accessor method for the number of rows.
+     * @return number of rows
+     */
+    public int getRows() {
+        return bits.getRows();
+    }
+
+    /**
+     * Accessor method for the number of columns.
+     * @return number of columns
+     */
+    public int getCols() {
+        return bits.getCols();
+    }
+
+    /**
+     * Accessor method for the bit masks behind this board.
+     * @return the BitBoard storing the ships, hits and misses
+     */
+    public BitBoard getBitBoard() {
+        return bits;
+    }
+
+    /**
+     * Accessor method for number of ship parts left.
+     * @return number of ship parts left
+     */
+    public int getShipsLeft() {
+        return ShipsLeft;
+    }
+
+    /**
+     * Mutator method for number of ship parts left. Subtracts one from the instance variable when called.
+     * This method has no parameters and returns nothing.
+     */
+    public void setShipsLeft() {
+        ShipsLeft -= 1;
+    }
+
+    /**
+     * Mutator method for number of ship parts left, e.g. when a game server keeps the real board.
+     * @param shipsLeft number of ship parts left
+     */
+    public void setShipsLeft(int shipsLeft) {
+        ShipsLeft = shipsLeft;
+    }
+
+    /**
+     * This method helps hide the computer ships
+     *
+     * @param board The Board object for our game
+     * @param rand Where the random numbers come from, e.g. a SessionRng placement stream
+     */
+    public void hideShips(Board board, RandomGenerator rand) {
+        ShipsLeft = 0;
+        for (int length : shipLengths) {
+            ShipsLeft += length;
+        }
+        // Chooses ship placement with random number generation, only ever from positions where the ship fits
+        board.getBitBoard().placeFleet(shipLengths, rand);
+        board.renderer.markAllDirty();
+    }
+
+    /**
+     * This method checks if the guessed location has a ship.
+     * It returns the character found in the location specified.
+     *
+     * @param row The row guessed
+     * @param col The column guessed
+     * @return what is stored at the specified row and col position
+     */
+    public char isHit(int row, int col) {
+        int cell = bits.index(row, col);
+        if (bits.isHit(cell)) {
+            return '!';
+        } else if (bits.isMiss(cell)) {
+            return 'X';
+        } else if (bits.isShip(cell)) {
+            return 'S';
+        }
+        return ' ';
+    }
+
+    /**
+     * Fires at a grid spot, marking it as a hit or a miss and updating the number of ship parts left.
+     *
+     * @param row The row guessed
+     * @param col The column guessed
+     * @return BitBoard.MISS, BitBoard.HIT, BitBoard.SUNK or BitBoard.REPEAT if the spot was already guessed
+     */
+    public int shoot(int row, int col) {
+        int result = bits.shoot(bits.index(row, col));
+        renderer.markDirty(bits.index(row, col));
+        if (result == BitBoard.HIT || result == BitBoard.SUNK) {
+            setShipsLeft();
+        }
+        return result;
+    }
+
+    /**
+     * Used to change the character of a grid spot after a guess
+     *
+     * @param row The row to change
+     * @param col The column to change
+     * @param set The character to set it to based on hit or miss
+     */
+    public void setGrid (int row, int col, char set) {
+        int cell = bits.index(row, col);
+        // A hit always sits on a ship part, so '!' keeps the ship bit set
+        bits.setCell(cell, set == 'S' || set == '!', set == '!', set == 'X');
+        renderer.markDirty(cell);
+    }
+
+    /**
+     * Draws and updates the visual representation of the board.
+     * Only cells that changed since the last call are redrawn into the cached image.
+     *
+     * @param g Graphics object
+     * @param xOffset how far to offset the x coordinates from the left of the screen
+     */
+    public void drawGrid(Graphics g, int xOffset) {
+        renderer.paint(g, xOffset);
+    }
+
+    /**
+     * Works out the area of the screen a grid spot covers, so only that spot needs repainting.
+     *
+     * @param row The row
+     * @param col The column
+     * @param xOffset how far the board is offset from the left of the screen
+     * @return the rectangle covering the grid spot and its lines
+     */
+    public Rectangle cellBounds(int row, int col, int xOffset) {
+        return renderer.cellBounds(row, col, xOffset);
+    }
+
+    /**
+     * Accessor method for the renderer, e.g. to read its frame time metrics.
+     * @return the BoardRenderer drawing this board
+     */
+    public BoardRenderer getRenderer() {
+        return renderer;
+    }
+
+    /**
+     * Standard toString method for testing purposes.
+     *
+     * @return String representation of the current board
+     */
+    public String toString() {
+        int rows = bits.getRows();
+        int cols = bits.getCols();
+        StringBuilder text = new StringBuilder();
+
+        // Column header
+        text.append("  ");
+        for (int col = 0; col < cols; col++) {
+            text.append(' ').append(col).append("  ");
+        }
+        text.setLength(text.length() - 2);
+        text.append('\n');
+
+        // One line per row followed by a separator line
+        for (int row = 0; row < rows; row++) {
+            text.append(row).append(": ");
+            for (int col = 0; col < cols; col++) {
+                text.append(isHit(row, col)).append(" | ");
+            }
+            text.append("\n  ---");
+            for (int col = 1; col < cols; col++) {
+                text.append("+---");
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+}
\ No newline at end of file
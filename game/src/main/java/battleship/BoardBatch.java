@@ -0,0 +1,179 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Board Batch(Battleship)
+ *
+ * Many small boards (up to 64 cells, so the 7x7 game fits) stored as structs of arrays for the
+ * simulator: one long per board for the ships, one for the hits and one for the misses, and one
+ * long per ship per board holding that ship's cells. shoot() fires a column of shots, one at each
+ * board, in a single call and puts the results in an int array, so a whole batch of games moves
+ * forward one turn without a call per board.
+ *
+ * The work is done by a ShotKernel: the Vector API one when the JVM was started with
+ * --add-modules jdk.incubator.vector, and the plain Java one otherwise (or with
+ * -Dbattleship.vector=false). Both give the same results as BitBoard.shoot().
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class BoardBatch {
+    // Chosen once, when the first batch is made
+    private static final ShotKernel KERNEL = chooseKernel();
+
+    private final int boards;
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+
+    // Board b's masks are at index b; ship k of board b is at k * boards + b
+    private final long[] ships;
+    private final long[] hits;
+    private final long[] misses;
+    private final long[] shipMasks;
+
+    // Hides the fleets, one board at a time
+    private final BitBoard scratch;
+
+    /**
+     * Constructor for a batch of empty boards.
+     *
+     * @param boards number of boards
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board by placeFleets
+     * @throws IllegalArgumentException if a board has more than 64 cells
+     */
+    public BoardBatch(int boards, int rows, int cols, int[] fleet) {
+        if (rows * cols > 64) {
+            throw new IllegalArgumentException("A batch board can have at most 64 cells, not " + rows * cols);
+        }
+        this.boards = boards;
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        ships = new long[boards];
+        hits = new long[boards];
+        misses = new long[boards];
+        shipMasks = new long[fleet.length * boards];
+        scratch = new BitBoard(rows, cols);
+    }
+
+    /**
+     * Hides a new fleet on every board and clears every shot.
+     *
+     * @param rng Where the random numbers come from
+     */
+    public void placeFleets(RandomGenerator rng) {
+        for (int b = 0; b < boards; b++) {
+            scratch.placeFleet(fleet, rng);
+            load(b, scratch);
+        }
+    }
+
+    /**
+     * Copies a board's ships, hits and misses into the batch.
+     *
+     * @param board The board number in the batch
+     * @param from The board to copy, the same size as the batch's boards, with no more ships than its fleet
+     */
+    public void load(int board, BitBoard from) {
+        if (from.getRows() != rows || from.getCols() != cols || from.getShipCount() > fleet.length) {
+            throw new IllegalArgumentException("The board does not fit this batch");
+        }
+        long shipCells = 0;
+        for (int k = 0; k < fleet.length; k++) {
+            long mask = k < from.getShipCount() ? BitBoard.shipMask(from.getShip(k), cols) : 0L;
+            shipMasks[k * boards + board] = mask;
+            shipCells |= mask;
+        }
+        ships[board] = shipCells;
+        hits[board] = from.getHits(0);
+        misses[board] = from.getMisses(0);
+    }
+
+    /**
+     * Clears every hit and miss, so the same layouts can be played again.
+     */
+    public void clearShots() {
+        Arrays.fill(hits, 0L);
+        Arrays.fill(misses, 0L);
+    }
+
+    /**
+     * Fires one shot at every board.
+     *
+     * @param cells the cell to fire at on each board (row * cols + col), one per board
+     * @param results where to put BitBoard.MISS, HIT, SUNK or REPEAT for each board
+     * @throws IllegalArgumentException if the arrays are too short or a cell is not on the board
+     */
+    public void shoot(int[] cells, int[] results) {
+        if (cells.length < boards || results.length < boards) {
+            throw new IllegalArgumentException("Need a cell and a result for each of the " + boards + " boards");
+        }
+        int size = rows * cols;
+        for (int b = 0; b < boards; b++) {
+            if (cells[b] < 0 || cells[b] >= size) {
+                throw new IllegalArgumentException("Cell " + cells[b] + " is not on board " + b);
+            }
+        }
+        KERNEL.shoot(ships, hits, misses, shipMasks, fleet.length, boards, cells, results);
+    }
+
+    /**
+     * @param board The board number in the batch
+     * @return number of ship parts on that board that have not been hit
+     */
+    public int getPartsLeft(int board) {
+        return Long.bitCount(ships[board] & ~hits[board]);
+    }
+
+    /**
+     * @param board The board number in the batch
+     * @return true if every ship on that board is sunk
+     */
+    public boolean allSunk(int board) {
+        return (ships[board] & ~hits[board]) == 0;
+    }
+
+    /**
+     * @param board The board number in the batch
+     * @param cell The cell index
+     * @return true if that cell of that board was already fired at
+     */
+    public boolean isShot(int board, int cell) {
+        return ((hits[board] | misses[board]) & (1L << cell)) != 0;
+    }
+
+    /**
+     * @return number of boards in the batch
+     */
+    public int getBoards() {
+        return boards;
+    }
+
+    /**
+     * @return the name of the kernel that fires the shots, e.g. "scalar" or "vector 256-bit"
+     */
+    public static String getKernelName() {
+        return KERNEL.getName();
+    }
+
+    // The Vector API kernel if its module was added to the JVM, otherwise the plain one.
+    private static ShotKernel chooseKernel() {
+        if (!"false".equals(System.getProperty("battleship.vector"))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (ShotKernel) Class.forName("battleship.VectorShotKernel").getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError exception) {
+                System.err.println("Java Exception: " + exception);
+                System.out.println("Sorry, could not use the Vector API, firing one board at a time.");
+            }
+        }
+        return new ScalarShotKernel();
+    }
+}
@@ -0,0 +1,235 @@
+package battleship;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Summative Game Board Renderer(Battleship)
+ *
+ * Draws a board from a cached image instead of redrawing every line and cell each frame.
+ * The grid and the cell tiles are drawn once; after that only cells marked dirty are copied
+ * into the cached image, and a frame is a single image copy clipped to the area Swing repaints.
+ * The images are compatible with the screen, so Java2D keeps them in video memory when it can.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class BoardRenderer {
+    // Cell colors, created once rather than every frame
+    private static final Color EMPTY = new Color(34, 82, 160);
+    private static final Color HIT = new Color(163, 19, 19);
+    private static final Color MISS = Color.GRAY;
+
+    // Used to measure how much memory each frame allocates
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    // What a cell looks like
+    private static final int TILE_EMPTY = 0;
+    private static final int TILE_HIT = 1;
+    private static final int TILE_MISS = 2;
+
+    private final BitBoard board;
+    // Size of a cell in pixels
+    private final int cellSize;
+
+    // The whole board as last drawn, and one pre-drawn tile for each cell look
+    private BufferedImage image;
+    private BufferedImage[] tiles;
+
+    // Cells that changed since they were last copied into the image (one bit per cell)
+    private final long[] dirty;
+    private boolean anyDirty;
+
+    // Frame metrics
+    private long frames;
+    private long lastFrameNanos;
+    private long totalFrameNanos;
+    private long lastFrameBytes;
+    private long totalFrameBytes;
+
+    /**
+     * Constructor for the renderer of one board, with the default cell size.
+     *
+     * @param board The board to draw
+     */
+    public BoardRenderer(BitBoard board) {
+        this(board, GameConfig.DEFAULT.getCellSize());
+    }
+
+    /**
+     * Constructor for the renderer of one board.
+     *
+     * @param board The board to draw
+     * @param cellSize width and height of a cell in pixels, at least GameConfig.MIN_CELL_SIZE
+     */
+    public BoardRenderer(BitBoard board, int cellSize) {
+        if (cellSize < GameConfig.MIN_CELL_SIZE) {
+            throw new IllegalArgumentException("Cells must be at least " + GameConfig.MIN_CELL_SIZE + " pixels: " + cellSize);
+        }
+        this.board = board;
+        this.cellSize = cellSize;
+        dirty = new long[(board.getCells() + 63) >>> 6];
+        markAllDirty();
+    }
+
+    /**
+     * Marks one cell as changed so it is redrawn on the next paint.
+     *
+     * @param cell The cell index
+     */
+    public void markDirty(int cell) {
+        dirty[cell >>> 6] |= 1L << cell;
+        anyDirty = true;
+    }
+
+    /**
+     * Marks every cell as changed, e.g. after the board is cleared.
+     */
+    public void markAllDirty() {
+        for (int w = 0; w < dirty.length; w++) {
+            dirty[w] = -1L;
+        }
+        anyDirty = true;
+    }
+
+    /**
+     * Works out the area of the screen a cell covers, for repainting just that cell.
+     *
+     * @param row The row
+     * @param col The column
+     * @param xOffset how far the board is offset from the left of the screen
+     * @return the cell's rectangle, grid lines included
+     */
+    public Rectangle cellBounds(int row, int col, int xOffset) {
+        return new Rectangle(xOffset + col * cellSize, GameConfig.TOP + row * cellSize, cellSize + 1, cellSize + 1);
+    }
+
+    /**
+     * Draws the board, first bringing the cached image up to date with any dirty cells.
+     *
+     * @param g Graphics object
+     * @param xOffset how far to offset the x coordinates from the left of the screen
+     */
+    public void paint(Graphics g, int xOffset) {
+        long startNanos = System.nanoTime();
+        long startBytes = allocatedBytes();
+
+        if (image == null) {
+            createImages(((Graphics2D) g).getDeviceConfiguration());
+        }
+        if (anyDirty) {
+            drawDirtyCells();
+        }
+        g.drawImage(image, xOffset, GameConfig.TOP, null);
+
+        lastFrameNanos = System.nanoTime() - startNanos;
+        lastFrameBytes = allocatedBytes() - startBytes;
+        Metrics.record(Metrics.Timer.REPAINT, lastFrameNanos);
+        totalFrameNanos += lastFrameNanos;
+        totalFrameBytes += lastFrameBytes;
+        frames++;
+    }
+
+    /**
+     * @return number of frames painted
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return time taken by the last paint, in nanoseconds
+     */
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    /**
+     * @return average time per paint, in nanoseconds
+     */
+    public double getAverageFrameNanos() {
+        return frames == 0 ? 0 : (double) totalFrameNanos / frames;
+    }
+
+    /**
+     * @return bytes allocated by the last paint, or 0 if the JVM cannot tell
+     */
+    public long getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    /**
+     * @return average bytes allocated per paint, or 0 if the JVM cannot tell
+     */
+    public double getAverageFrameBytes() {
+        return frames == 0 ? 0 : (double) totalFrameBytes / frames;
+    }
+
+    // Draws the grid lines and the tiles once.
+    private void createImages(GraphicsConfiguration config) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        image = config.createCompatibleImage(cols * cellSize + 1, rows * cellSize + 1, Transparency.OPAQUE);
+        Graphics g = image.getGraphics();
+        g.setColor(EMPTY);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        // Sets color to black for grid lines
+        g.setColor(Color.BLACK);
+        for (int count = 0; count <= rows; count++) {
+            g.drawLine(0, count * cellSize, cols * cellSize, count * cellSize);
+        }
+        for (int count = 0; count <= cols; count++) {
+            g.drawLine(count * cellSize, 0, count * cellSize, rows * cellSize);
+        }
+        g.dispose();
+
+        Color[] colors = {EMPTY, HIT, MISS};
+        tiles = new BufferedImage[colors.length];
+        for (int tile = 0; tile < colors.length; tile++) {
+            tiles[tile] = config.createCompatibleImage(cellSize - 1, cellSize - 1, Transparency.OPAQUE);
+            Graphics tileGraphics = tiles[tile].getGraphics();
+            tileGraphics.setColor(colors[tile]);
+            tileGraphics.fillRect(0, 0, cellSize - 1, cellSize - 1);
+            tileGraphics.dispose();
+        }
+        markAllDirty();
+    }
+
+    // Copies the tile of every dirty cell into the cached image.
+    private void drawDirtyCells() {
+        int cols = board.getCols();
+        Graphics g = image.getGraphics();
+        for (int w = 0; w < dirty.length; w++) {
+            long bits = dirty[w];
+            while (bits != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (cell >= board.getCells()) {
+                    break;
+                }
+                int tile = board.isHit(cell) ? TILE_HIT : board.isMiss(cell) ? TILE_MISS : TILE_EMPTY;
+                g.drawImage(tiles[tile], (cell % cols) * cellSize + 1, (cell / cols) * cellSize + 1, null);
+            }
+            dirty[w] = 0L;
+        }
+        g.dispose();
+        anyDirty = false;
+    }
+
+    // Bytes allocated so far by this thread, if the JVM can measure it.
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,54 @@
+package battleship;
+
+import java.awt.Graphics2D;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Summative Game CDS Training(Battleship)
+ *
+ * A short, headless run through the game's startup for building a class data sharing (AppCDS)
+ * archive. It builds the game panel, paints it, starts a game and fires a shot, which loads the
+ * same Swing, AWT and game classes a real start does, then exits. Run with
+ *     java -XX:ArchiveClassesAtExit=battleship.jsa -Djava.awt.headless=true -cp battleship.jar battleship.CdsTraining
+ * and the classes it loaded are saved to battleship.jsa for the next start to map in at once
+ * (the cds profile in game/pom.xml does this). It writes its scores and replays in the folder it
+ * is run from, so run it somewhere they can be thrown away.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class CdsTraining {
+    /**
+     * Runs the training and exits.
+     */
+    public static void main(String[] args) throws Exception {
+        GameConfig config = GameConfig.DEFAULT;
+        BufferedImage image = new BufferedImage(config.getWindowWidth(), config.getWindowHeight(),
+                BufferedImage.TYPE_INT_RGB);
+
+        SwingUtilities.invokeAndWait(() -> {
+            GamePanel panel = new GamePanel(config);
+            panel.setSize(config.getWindowWidth(), config.getWindowHeight());
+            Graphics2D graphics = image.createGraphics();
+            panel.paint(graphics);
+
+            // A new game and one shot in the middle of the computer's board
+            panel.resetGame();
+            int x = config.getComputerX() + config.getCols() / 2 * config.getCellSize() + 1;
+            int y = GameConfig.TOP + config.getRows() / 2 * config.getCellSize() + 1;
+            panel.handleMouseClick(new MouseEvent(panel, MouseEvent.MOUSE_CLICKED, System.currentTimeMillis(),
+                    0, x, y, 1, false));
+            panel.paint(graphics);
+            graphics.dispose();
+        });
+        // Lets the computer's reply and the warm-up run before the archive is written
+        SwingUtilities.invokeAndWait(() -> { });
+        Thread.sleep(200);
+        System.exit(0);
+    }
+}
@@ -0,0 +1,346 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Density Shooter(Battleship)
+ *
+ * A smarter computer opponent. For every cell it counts how many legal placements of the
+ * ships that are still afloat would cover that cell, and fires at the cell with the highest
+ * count. After a hit it switches to target mode and only counts placements that cover one
+ * of the hits on ships that have not been sunk yet.
+ *
+ * The counts are never recomputed from scratch. Every placement (length, direction, first cell)
+ * keeps how many blocked cells and unsunk hits it covers, and a shot only touches the few
+ * placements that cover the cell that was fired at. Counts are kept per ship length, so sinking
+ * a ship only changes how many ships of that length are left.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class DensityShooter implements Shooter {
+    // What the shooter knows about each cell
+    private static final byte UNKNOWN = 0;
+    private static final byte MISS = 1;
+    private static final byte HIT = 2;
+    private static final byte SUNK = 3;
+
+    private int rows;
+    private int cols;
+    private int cells;
+
+    // The different ship lengths, and how many ships of each length are still afloat
+    private int[] lengths = new int[0];
+    private int[] remaining = new int[0];
+    private int[] fleet = new int[0];
+
+    // Placement p = (lengthIndex * 2 + (vertical ? 1 : 0)) * cells + first cell.
+    // blocked[p] counts misses and sunk cells it covers (placements that go off the board start at 1),
+    // hitsCovered[p] counts the unsunk hits it covers. Both are unsigned, so a ship can be up to
+    // BitBoard.MAX_SHIP_LENGTH long.
+    private byte[] blocked = new byte[0];
+    private byte[] hitsCovered = new byte[0];
+
+    // density[lengthIndex * cells + cell] counts the unblocked placements of that length covering the cell,
+    // target[...] counts only those that also cover an unsunk hit.
+    private int[] density = new int[0];
+    private int[] target = new int[0];
+
+    // huntScore[cell] and targetScore[cell] are the sums over lengths of remaining[lengthIndex] times
+    // the counts above, kept up to date so choosing a shot is a single pass over the cells
+    private int[] huntScore = new int[0];
+    private int[] targetScore = new int[0];
+    private byte[] state = new byte[0];
+    private int unsunkHits;
+
+    // Untried cells that share the best score, filled by bestCell
+    private int[] ties = new int[0];
+
+    // Start-of-game values, kept so a new game with the same board and fleet is just a copy
+    private byte[] startBlocked = new byte[0];
+    private int[] startDensity = new int[0];
+    private int[] startScore = new int[0];
+
+    /**
+     * Resets the counts for a new game. Games with the same size and fleet as the last one
+     * reuse the starting counts instead of working them out again.
+     *
+     * @param rows number of rows on the target board
+     * @param cols number of columns on the target board
+     * @param fleet the lengths of the ships hidden on the target board
+     */
+    @Override
+    public void newGame(int rows, int cols, int[] fleet) {
+        if (rows != this.rows || cols != this.cols || !Arrays.equals(fleet, this.fleet)) {
+            setUp(rows, cols, fleet);
+        }
+        System.arraycopy(startBlocked, 0, blocked, 0, blocked.length);
+        System.arraycopy(startDensity, 0, density, 0, density.length);
+        Arrays.fill(hitsCovered, (byte) 0);
+        Arrays.fill(target, 0);
+        System.arraycopy(startScore, 0, huntScore, 0, cells);
+        Arrays.fill(targetScore, 0);
+        Arrays.fill(state, UNKNOWN);
+        for (int li = 0; li < lengths.length; li++) {
+            remaining[li] = 0;
+            for (int length : fleet) {
+                if (length == lengths[li]) {
+                    remaining[li]++;
+                }
+            }
+        }
+        unsunkHits = 0;
+    }
+
+    /**
+     * Fires at the untried cell covered by the most placements. Ties are broken at random.
+     *
+     * @param rng Where the random numbers come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng) {
+        return nextShot(rng, rng);
+    }
+
+    /**
+     * Fires at the untried cell covered by the most placements. Ties are broken with ties.
+     *
+     * @param rng Where the other random numbers come from (the DensityShooter needs none)
+     * @param ties Where the random numbers for breaking ties come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng, RandomGenerator ties) {
+        int cell = -1;
+        if (unsunkHits > 0) {
+            cell = bestCell(targetScore, ties);
+        }
+        if (cell < 0) {
+            cell = bestCell(huntScore, ties);
+        }
+        if (cell < 0) {
+            // No placement fits what we have seen (should not happen), so try any untried cell
+            for (int c = 0; c < cells; c++) {
+                if (state[c] == UNKNOWN) {
+                    return c;
+                }
+            }
+            throw new IllegalStateException("Every cell has already been fired at");
+        }
+        return cell;
+    }
+
+    /**
+     * Updates the counts after a shot.
+     *
+     * @param cell The cell index that was fired at
+     * @param result BitBoard.MISS, BitBoard.HIT or BitBoard.SUNK
+     * @param sunkShip the ship that was sunk, packed with BitBoard.packShip, when result is SUNK
+     */
+    @Override
+    public void shotResult(int cell, int result, int sunkShip) {
+        if (result == BitBoard.MISS) {
+            state[cell] = MISS;
+            block(cell);
+            return;
+        }
+        state[cell] = HIT;
+        unsunkHits++;
+        changeHit(cell, 1);
+
+        if (result == BitBoard.SUNK && sunkShip >= 0) {
+            // The sunk ship's cells are no longer unsunk hits, and nothing else can be there
+            int length = BitBoard.shipLength(sunkShip);
+            int step = BitBoard.shipVertical(sunkShip) ? cols : 1;
+            for (int parts = 0, c = BitBoard.shipStart(sunkShip); parts < length; parts++, c += step) {
+                if (state[c] == HIT) {
+                    changeHit(c, -1);
+                    unsunkHits--;
+                }
+                state[c] = SUNK;
+                block(c);
+            }
+            removeShip(length);
+        }
+    }
+
+    // Works out the placements and the starting counts for a board size and fleet.
+    private void setUp(int rows, int cols, int[] fleet) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = rows * cols;
+        this.fleet = fleet.clone();
+        lengths = Arrays.stream(fleet).distinct().sorted().toArray();
+        for (int length : lengths) {
+            if (length <= 0 || length > BitBoard.MAX_SHIP_LENGTH) {
+                throw new IllegalArgumentException("Unsupported ship length: " + length);
+            }
+        }
+        remaining = new int[lengths.length];
+
+        int placements = lengths.length * 2 * cells;
+        blocked = new byte[placements];
+        hitsCovered = new byte[placements];
+        startBlocked = new byte[placements];
+        density = new int[lengths.length * cells];
+        target = new int[lengths.length * cells];
+        startDensity = new int[lengths.length * cells];
+        huntScore = new int[cells];
+        targetScore = new int[cells];
+        startScore = new int[cells];
+        state = new byte[cells];
+        ties = new int[cells];
+
+        for (int li = 0; li < lengths.length; li++) {
+            int length = lengths[li];
+            for (int start = 0; start < cells; start++) {
+                int row = start / cols;
+                int col = start % cols;
+                // Horizontal placement starting here
+                if (col + length <= cols) {
+                    for (int parts = 0; parts < length; parts++) {
+                        startDensity[li * cells + start + parts]++;
+                    }
+                } else {
+                    startBlocked[li * 2 * cells + start] = 1;
+                }
+                // Vertical placement starting here
+                if (row + length <= rows) {
+                    for (int parts = 0; parts < length; parts++) {
+                        startDensity[li * cells + start + parts * cols]++;
+                    }
+                } else {
+                    startBlocked[li * 2 * cells + cells + start] = 1;
+                }
+            }
+            // Every ship of this length adds its placements to the score
+            for (int length2 : fleet) {
+                if (length2 == length) {
+                    for (int c = 0; c < cells; c++) {
+                        startScore[c] += startDensity[li * cells + c];
+                    }
+                }
+            }
+        }
+    }
+
+    // A miss or sunk cell: every placement covering it stops counting.
+    private void block(int cell) {
+        int row = cell / cols;
+        int col = cell % cols;
+        for (int li = 0; li < lengths.length; li++) {
+            int length = lengths[li];
+            int horizontalBase = li * 2 * cells;
+            int verticalBase = horizontalBase + cells;
+            for (int k = 0; k < length; k++) {
+                if (col - k >= 0 && col - k + length <= cols) {
+                    int start = cell - k;
+                    if (blocked[horizontalBase + start]++ == 0) {
+                        removePlacement(horizontalBase + start, li, start, 1, length);
+                    }
+                }
+                if (row - k >= 0 && row - k + length <= rows) {
+                    int start = cell - k * cols;
+                    if (blocked[verticalBase + start]++ == 0) {
+                        removePlacement(verticalBase + start, li, start, cols, length);
+                    }
+                }
+            }
+        }
+    }
+
+    // An unsunk hit appears (delta 1) or goes away (delta -1): placements covering it move in or out of target mode.
+    private void changeHit(int cell, int delta) {
+        int row = cell / cols;
+        int col = cell % cols;
+        for (int li = 0; li < lengths.length; li++) {
+            int length = lengths[li];
+            int horizontalBase = li * 2 * cells;
+            int verticalBase = horizontalBase + cells;
+            for (int k = 0; k < length; k++) {
+                if (col - k >= 0 && col - k + length <= cols) {
+                    int start = cell - k;
+                    changeHitCount(horizontalBase + start, li, start, 1, length, delta);
+                }
+                if (row - k >= 0 && row - k + length <= rows) {
+                    int start = cell - k * cols;
+                    changeHitCount(verticalBase + start, li, start, cols, length, delta);
+                }
+            }
+        }
+    }
+
+    // Updates one placement's hit count, adding or removing it from the target counts when it crosses zero.
+    private void changeHitCount(int p, int li, int start, int step, int length, int delta) {
+        int before = hitsCovered[p] & 0xFF;
+        hitsCovered[p] = (byte) (before + delta);
+        if (blocked[p] == 0 && (before == 0 || before + delta == 0)) {
+            int change = delta * remaining[li];
+            int counts = li * cells;
+            for (int parts = 0, c = start; parts < length; parts++, c += step) {
+                target[counts + c] += delta;
+                targetScore[c] += change;
+            }
+        }
+    }
+
+    // One ship of this length has been sunk, so each of its placements is worth one less.
+    private void removeShip(int length) {
+        for (int li = 0; li < lengths.length; li++) {
+            if (lengths[li] == length && remaining[li] > 0) {
+                remaining[li]--;
+                int counts = li * cells;
+                for (int c = 0; c < cells; c++) {
+                    huntScore[c] -= density[counts + c];
+                    targetScore[c] -= target[counts + c];
+                }
+                return;
+            }
+        }
+    }
+
+    // Takes a placement that just became blocked out of the counts and scores.
+    private void removePlacement(int p, int li, int start, int step, int length) {
+        int weight = remaining[li];
+        int counts = li * cells;
+        int end = start + length * step;
+        if (hitsCovered[p] != 0) {
+            for (int c = start; c < end; c += step) {
+                density[counts + c]--;
+                target[counts + c]--;
+                huntScore[c] -= weight;
+                targetScore[c] -= weight;
+            }
+        } else {
+            for (int c = start; c < end; c += step) {
+                density[counts + c]--;
+                huntScore[c] -= weight;
+            }
+        }
+    }
+
+    // Returns the untried cell with the highest score (random among ties), or -1 if every score is 0.
+    private int bestCell(int[] scores, RandomGenerator rng) {
+        int bestScore = 1;
+        int tieCount = 0;
+        for (int c = 0; c < cells; c++) {
+            int score = scores[c];
+            if (score < bestScore || state[c] != UNKNOWN) {
+                continue;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                tieCount = 0;
+            }
+            ties[tieCount++] = c;
+        }
+        if (tieCount == 0) {
+            return -1;
+        }
+        return tieCount == 1 ? ties[0] : ties[rng.nextInt(tieCount)];
+    }
+}
@@ -0,0 +1,731 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summative Game Endgame Solver(Battleship)
+ *
+ * Finds the shot that sinks the rest of the fleet in the fewest shots on average. It lists every
+ * way the ships still afloat could be hidden that fits the hits and misses seen so far, then
+ * searches every order of shots: a shot splits the layouts into those it would hit and those it
+ * would miss, and the value of a position is 1 plus the chance-weighted values of the two halves.
+ * Only the cells a layout covers matter to the search, so layouts covering the same cells are
+ * counted once with a weight, and each fits in one long. That limits the solver to boards of at
+ * most 64 cells, like the 7x7 game.
+ *
+ * Positions already searched are kept in a TranspositionTable keyed by a Zobrist hash (one random
+ * number per cell and result, XORed together), so a position reached by shooting the same cells
+ * in a different order is only searched once. A shot is skipped as soon as it cannot beat the
+ * best one so far: every layout still needs at least one shot per unhit cell. Two cells covered by
+ * exactly the same layouts lead to mirror-image searches, so only one of them is searched. The
+ * shots at the top of the tree are searched as separate fork/join tasks.
+ *
+ * After a budget of nodes or time the search stops going deeper and scores the positions it has not
+ * finished by that lower bound, so the answer comes back in bounded time; Result.isExact() says
+ * whether that happened.
+ * The search only uses hits and misses; being told a ship sank is ignored, so the expected
+ * number of shots is what it would be without that news.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class EndgameSolver {
+    // Defaults: about 13 MB of table, and budgets that answer a mid-game 7x7 position within 100 ms
+    public static final int DEFAULT_TABLE_ENTRIES = 1 << 18;
+    public static final long DEFAULT_NODE_BUDGET = 1_000_000;
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 50;
+    public static final int DEFAULT_MAX_LAYOUTS = 20_000;
+
+    // Ship placements tried while listing the layouts before giving up
+    private static final long MAX_PLACEMENTS_TRIED = 4_000_000;
+    // Nodes a search counts by itself before adding them to the shared total
+    private static final int NODE_BATCH = 256;
+
+    // Zobrist keys for a hit and for a miss on each cell
+    private static final long[] HIT_KEYS = new long[64];
+    private static final long[] MISS_KEYS = new long[64];
+
+    static {
+        SplittableRandom rng = new SplittableRandom(0x5EED);
+        for (int cell = 0; cell < 64; cell++) {
+            HIT_KEYS[cell] = rng.nextLong();
+            MISS_KEYS[cell] = rng.nextLong();
+        }
+    }
+
+    /**
+     * The best shot in a position and what it took to find it.
+     */
+    public static class Result {
+        private final int bestCell;
+        private final double expectedShots;
+        private final int layouts;
+        private final long nodes;
+        private final long nanos;
+        private final long probes;
+        private final long tableHits;
+        private final boolean exact;
+
+        private Result(int bestCell, double expectedShots, int layouts, long nodes, long nanos, long probes,
+                long tableHits, boolean exact) {
+            this.bestCell = bestCell;
+            this.expectedShots = expectedShots;
+            this.layouts = layouts;
+            this.nodes = nodes;
+            this.nanos = nanos;
+            this.probes = probes;
+            this.tableHits = tableHits;
+            this.exact = exact;
+        }
+
+        /**
+         * @return the cell to fire at, or -1 if the game is over or there were too many layouts to search
+         */
+        public int getBestCell() {
+            return bestCell;
+        }
+
+        /**
+         * @return the expected number of shots to sink the rest of the fleet, or NaN if not searched
+         */
+        public double getExpectedShots() {
+            return expectedShots;
+        }
+
+        /**
+         * @return number of different sets of ship cells that fit the position, or -1 if there were too many
+         */
+        public int getLayouts() {
+            return layouts;
+        }
+
+        /**
+         * @return number of positions searched
+         */
+        public long getNodes() {
+            return nodes;
+        }
+
+        /**
+         * @return time taken, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return positions searched per second
+         */
+        public double getNodesPerSecond() {
+            return nodes / Math.max(1e-9, nanos / 1e9);
+        }
+
+        /**
+         * @return the share of transposition table lookups that found their position
+         */
+        public double getTableHitRate() {
+            return probes == 0 ? 0 : (double) tableHits / probes;
+        }
+
+        /**
+         * @return true if every shot order was searched, false if the node or time budget ran out
+         */
+        public boolean isExact() {
+            return exact;
+        }
+
+        /**
+         * @return the result and its statistics on one line
+         */
+        @Override
+        public String toString() {
+            return String.format("best cell %d, %.3f shots expected%s, %d layouts, %d nodes in %.1f ms (%.0f nodes/s), "
+                    + "table hit rate %.1f%%", bestCell, expectedShots, exact ? "" : " (budget ran out)", layouts, nodes,
+                    nanos / 1e6, getNodesPerSecond(), 100 * getTableHitRate());
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int cells;
+    private final TranspositionTable table;
+    private final long nodeBudget;
+    private final long timeBudgetNanos;
+    private final int maxLayouts;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for a solver with the default table size and budgets, using the common fork/join pool.
+     *
+     * @param rows number of rows on the board
+     * @param cols number of columns on the board
+     */
+    public EndgameSolver(int rows, int cols) {
+        this(rows, cols, DEFAULT_TABLE_ENTRIES, DEFAULT_NODE_BUDGET, DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_MAX_LAYOUTS,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for a solver with its own limits.
+     *
+     * @param rows number of rows on the board
+     * @param cols number of columns on the board
+     * @param tableEntries The most positions the transposition table keeps
+     * @param nodeBudget Positions searched before the search stops going deeper
+     * @param timeBudgetMillis Milliseconds of searching before the search stops going deeper
+     * @param maxLayouts The most layouts a position may have to be searched at all
+     * @param pool Where the top-level shots are searched
+     * @throws IllegalArgumentException if the board has more than 64 cells
+     */
+    public EndgameSolver(int rows, int cols, int tableEntries, long nodeBudget, long timeBudgetMillis, int maxLayouts,
+            ForkJoinPool pool) {
+        if (rows <= 0 || cols <= 0 || rows * cols > 64) {
+            throw new IllegalArgumentException("The solver needs a board of at most 64 cells, not " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = rows * cols;
+        this.table = new TranspositionTable(tableEntries);
+        this.nodeBudget = nodeBudget;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+        this.maxLayouts = maxLayouts;
+        this.pool = pool;
+    }
+
+    /**
+     * Finds the best shot on a partly revealed board, using its '!' (hit) and 'X' (miss) cells.
+     * Its ships are not looked at.
+     *
+     * @param board The board being shot at
+     * @param fleet The lengths of the ships not sunk yet; every hit must belong to one of them
+     * @return the best shot
+     */
+    public Result solve(Board board, int[] fleet) {
+        long hits = 0;
+        long misses = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                char cell = board.isHit(row, col);
+                if (cell == '!') {
+                    hits |= 1L << (row * cols + col);
+                } else if (cell == 'X') {
+                    misses |= 1L << (row * cols + col);
+                }
+            }
+        }
+        return solve(hits, misses, fleet);
+    }
+
+    /**
+     * Finds the best shot in a position.
+     *
+     * @param hits The cells hit on ships that are still afloat
+     * @param blocked The cells that cannot hold those ships: misses, and the cells of sunk ships
+     * @param fleet The lengths of the ships still afloat
+     * @return the best shot
+     */
+    public Result solve(long hits, long blocked, int[] fleet) {
+        long start = System.nanoTime();
+        long probesBefore = table.getProbes();
+        long hitsBefore = table.getHits();
+
+        int[] ships = fleet.clone();
+        Arrays.sort(ships);
+        long fleetKey = 0x9E3779B97F4A7C15L;
+        for (int ship : ships) {
+            fleetKey = mix(fleetKey ^ ship);
+        }
+        Search search = new Search(hits, blocked, fleetKey, start + timeBudgetNanos);
+        if (!search.listLayouts(ships)) {
+            return search.result(-1, Double.NaN, -1, start, probesBefore, hitsBefore);
+        }
+        int n = search.layoutCount;
+        if (n == 0) {
+            return search.result(-1, 0, 0, start, probesBefore, hitsBefore);
+        }
+
+        // Work out the chance of a hit on every cell, then search each possible shot as its own task
+        long hash = fleetKey;
+        for (long bits = hits; bits != 0; bits &= bits - 1) {
+            hash ^= HIT_KEYS[Long.numberOfTrailingZeros(bits)];
+        }
+        for (long bits = blocked; bits != 0; bits &= bits - 1) {
+            hash ^= MISS_KEYS[Long.numberOfTrailingZeros(bits)];
+        }
+        Searcher root = new Searcher(search);
+        int candidates = root.rankShots(search.masks, search.weights, n, hits, 0);
+        int[] shots = Arrays.copyOf(root.order[0], candidates);
+        long[] counts = root.counts[0];
+        long total = root.total;
+        long cellsLeft = root.cellsLeft;
+        double[] values = new double[candidates];
+        AtomicLong best = new AtomicLong(Double.doubleToLongBits(Double.POSITIVE_INFINITY));
+        long rootHash = hash;
+        pool.invoke(new ShotTask(search, shots, values, 0, candidates, counts, total, cellsLeft, rootHash, best));
+
+        int bestIndex = 0;
+        for (int i = 1; i < candidates; i++) {
+            if (values[i] < values[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        if (!search.outOfBudget) {
+            table.put(hash, hits, blocked, fleetKey, values[bestIndex], true);
+        }
+        return search.result(shots[bestIndex], values[bestIndex], n, start, probesBefore, hitsBefore);
+    }
+
+    /**
+     * A quick upper bound on the number of layouts solve() would list for a position: the
+     * product of each ship's placements clear of the blocked cells, ignoring overlaps and hits,
+     * over the ways of ordering ships of the same length. It takes microseconds where listing
+     * the layouts of an opening position takes many milliseconds, so a caller can tell whether
+     * the position is small enough to be worth asking solve() about.
+     *
+     * @param blocked The cells that cannot hold the ships
+     * @param fleet The lengths of the ships still afloat
+     * @return the bound, or Long.MAX_VALUE if it is bigger than that
+     */
+    public long layoutBound(long blocked, int[] fleet) {
+        int[] ships = fleet.clone();
+        Arrays.sort(ships);
+        double bound = 1;
+        int same = 0;
+        for (int i = 0; i < ships.length; i++) {
+            int count = 0;
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    long horizontal = 0;
+                    long vertical = 0;
+                    for (int k = 0; k < ships[i]; k++) {
+                        horizontal |= col + ships[i] <= cols ? 1L << (row * cols + col + k) : 0;
+                        vertical |= row + ships[i] <= rows ? 1L << ((row + k) * cols + col) : 0;
+                    }
+                    if (col + ships[i] <= cols && (horizontal & blocked) == 0) {
+                        count++;
+                    }
+                    if (row + ships[i] <= rows && (vertical & blocked) == 0) {
+                        count++;
+                    }
+                }
+            }
+            // Ships of the same length are listed in one order only
+            same = i > 0 && ships[i] == ships[i - 1] ? same + 1 : 1;
+            bound = bound * count / same;
+        }
+        return bound >= Long.MAX_VALUE ? Long.MAX_VALUE : (long) Math.ceil(bound);
+    }
+
+    /**
+     * @return the most layouts a position may have to be searched at all
+     */
+    public int getMaxLayouts() {
+        return maxLayouts;
+    }
+
+    /**
+     * @return number of positions in the transposition table
+     */
+    public int getTableSize() {
+        return table.size();
+    }
+
+    // Mixes the bits of a long (the MurmurHash3 finaliser).
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    // Everything one solve() shares between its tasks: the layouts and the node count.
+    private final class Search {
+        final long rootHits;
+        final long blocked;
+        final long fleetKey;
+        final AtomicLong nodes = new AtomicLong();
+        final long deadline;
+        volatile boolean outOfBudget;
+
+        // The different sets of ship cells that fit, and how many ways each can be made
+        long[] masks = new long[64];
+        int[] weights = new int[64];
+        int layoutCount;
+
+        // Open-addressing map from a set of cells to its index in masks, and the placements tried
+        private long[] slots;
+        private int[] slotIndex;
+        private long tried;
+
+        Search(long rootHits, long blocked, long fleetKey, long deadline) {
+            this.rootHits = rootHits;
+            this.blocked = blocked;
+            this.fleetKey = fleetKey;
+            this.deadline = deadline;
+        }
+
+        // Lists every layout of the ships that avoids the blocked cells and covers every hit.
+        // Returns false if there are more than maxLayouts of them.
+        boolean listLayouts(int[] ships) {
+            int slotCount = Integer.highestOneBit(Math.max(16, maxLayouts) * 2) * 2;
+            slots = new long[slotCount];
+            slotIndex = new int[slotCount];
+            // Biggest ships first; each ship's placements avoid the blocked cells
+            int count = ships.length;
+            long[][] placements = new long[count][];
+            int[] cellsAfter = new int[count + 1];
+            for (int i = count - 1; i >= 0; i--) {
+                int length = ships[count - 1 - i];
+                placements[i] = placements(length);
+                cellsAfter[i] = cellsAfter[i + 1] + length;
+            }
+            int[] lengths = new int[count];
+            for (int i = 0; i < count; i++) {
+                lengths[i] = ships[count - 1 - i];
+            }
+            return place(placements, lengths, cellsAfter, 0, 0L, 0);
+        }
+
+        // Places ship i and the ones after it. Ships of the same length are placed in increasing
+        // order so each layout is only made once per way of choosing it.
+        private boolean place(long[][] placements, int[] lengths, int[] cellsAfter, int i, long occupied, int from) {
+            if (i == lengths.length) {
+                long rest = occupied & ~rootHits;
+                if ((occupied & rootHits) == rootHits && rest != 0) {
+                    return add(occupied);
+                }
+                return true;
+            }
+            if (Long.bitCount(rootHits & ~occupied) > cellsAfter[i] || ++tried > MAX_PLACEMENTS_TRIED) {
+                return tried <= MAX_PLACEMENTS_TRIED;
+            }
+            long[] options = placements[i];
+            int first = i > 0 && lengths[i] == lengths[i - 1] ? from : 0;
+            for (int p = first; p < options.length; p++) {
+                if ((options[p] & occupied) == 0 && !place(placements, lengths, cellsAfter, i + 1, occupied | options[p], p + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Counts one more way of making a set of ship cells.
+        private boolean add(long mask) {
+            int slot = (int) mix(mask) & (slots.length - 1);
+            while (slots[slot] != 0) {
+                if (slots[slot] == mask) {
+                    weights[slotIndex[slot]]++;
+                    return true;
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            if (layoutCount == maxLayouts) {
+                return false;
+            }
+            if (layoutCount == masks.length) {
+                masks = Arrays.copyOf(masks, layoutCount * 2);
+                weights = Arrays.copyOf(weights, layoutCount * 2);
+            }
+            slots[slot] = mask;
+            slotIndex[slot] = layoutCount;
+            masks[layoutCount] = mask;
+            weights[layoutCount++] = 1;
+            return true;
+        }
+
+        // Every horizontal and vertical position of a ship that avoids the blocked cells.
+        private long[] placements(int length) {
+            long[] options = new long[2 * cells];
+            int count = 0;
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    long horizontal = 0;
+                    long vertical = 0;
+                    for (int k = 0; k < length; k++) {
+                        horizontal |= col + length <= cols ? 1L << (row * cols + col + k) : 0;
+                        vertical |= row + length <= rows ? 1L << ((row + k) * cols + col) : 0;
+                    }
+                    if (col + length <= cols && (horizontal & blocked) == 0) {
+                        options[count++] = horizontal;
+                    }
+                    if (row + length <= rows && (vertical & blocked) == 0) {
+                        options[count++] = vertical;
+                    }
+                }
+            }
+            return Arrays.copyOf(options, count);
+        }
+
+        Result result(int bestCell, double expected, int layouts, long start, long probesBefore, long hitsBefore) {
+            return new Result(bestCell, expected, layouts, nodes.get(), System.nanoTime() - start,
+                    table.getProbes() - probesBefore, table.getHits() - hitsBefore, !outOfBudget);
+        }
+    }
+
+    // Searches a range of the top-level shots, splitting it in half until each task has one shot.
+    private final class ShotTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final int[] shots;
+        private final double[] values;
+        private final int from;
+        private final int to;
+        private final long[] counts;
+        private final long total;
+        private final long cellsLeft;
+        private final long hash;
+        private final AtomicLong best;
+
+        ShotTask(Search search, int[] shots, double[] values, int from, int to, long[] counts, long total,
+                long cellsLeft, long hash, AtomicLong best) {
+            this.search = search;
+            this.shots = shots;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.counts = counts;
+            this.total = total;
+            this.cellsLeft = cellsLeft;
+            this.hash = hash;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ShotTask(search, shots, values, from, middle, counts, total, cellsLeft, hash, best),
+                        new ShotTask(search, shots, values, middle, to, counts, total, cellsLeft, hash, best));
+                return;
+            }
+            int cell = shots[from];
+            double bound = Double.longBitsToDouble(best.get());
+            // Skip the shot if even its lower bound cannot beat the best shot another task found,
+            // or if the budget has run out (the likeliest hit is always searched)
+            if (1 + (double) (cellsLeft - counts[cell]) / total >= bound || (from > 0 && search.outOfBudget)) {
+                values[from] = Double.POSITIVE_INFINITY;
+                return;
+            }
+            Searcher searcher = new Searcher(search);
+            double value = searcher.shoot(cell, search.masks, search.weights, search.layoutCount, search.rootHits,
+                    search.blocked, hash, 0, total, bound);
+            values[from] = value;
+            searcher.flushNodes();
+            long seen;
+            while (value < Double.longBitsToDouble(seen = best.get())
+                    && !best.compareAndSet(seen, Double.doubleToLongBits(value))) {
+                // Another task improved the best shot at the same time; try again
+            }
+        }
+    }
+
+    // One thread's depth-first search, with its own scratch arrays for each level of the tree.
+    private final class Searcher {
+        private final Search search;
+        private long localNodes;
+
+        // Per level: the hit weight of each cell, which layouts cover it, the shots in order of hit chance,
+        // and the two halves of the layouts
+        final long[][] counts = new long[65][];
+        private final long[][] signatures = new long[65][];
+        final int[][] order = new int[65][];
+        private final long[][] hitMasks = new long[65][];
+        private final int[][] hitWeights = new int[65][];
+        private final long[][] missMasks = new long[65][];
+        private final int[][] missWeights = new int[65][];
+
+        // Set by rankShots: total weight of the layouts, and the weighted sum of their unhit cells
+        long total;
+        long cellsLeft;
+
+        Searcher(Search search) {
+            this.search = search;
+        }
+
+        // The expected number of shots to sink every ship, over the given layouts. Only values below
+        // `bound` matter to the caller, so a value at or above it may just be a lower bound.
+        double expected(long[] masks, int[] weights, int n, long hits, long misses, long hash, int depth, double bound) {
+            countNode();
+            if (n == 1) {
+                return Long.bitCount(masks[0] & ~hits);
+            }
+            double stored = table.get(hash, hits, misses, search.fleetKey, bound);
+            if (!Double.isNaN(stored)) {
+                return stored;
+            }
+            int candidates = rankShots(masks, weights, n, hits, depth);
+            long[] count = counts[depth];
+            int[] shots = order[depth];
+            long layoutWeight = total;
+            long unhit = cellsLeft;
+            double best = Double.POSITIVE_INFINITY;
+            if (candidates > 0 && count[shots[0]] == layoutWeight) {
+                // Every layout has a ship there, so shooting it first costs nothing
+                best = shoot(shots[0], masks, weights, n, hits, misses, hash, depth, layoutWeight, bound);
+            } else {
+                for (int j = 0; j < candidates; j++) {
+                    int cell = shots[j];
+                    // Shots come in order of hit chance, so the bounds only get worse from here
+                    double lowest = 1 + (double) (unhit - count[cell]) / layoutWeight;
+                    if (lowest >= Math.min(best, bound)) {
+                        best = Math.min(best, lowest);
+                        break;
+                    }
+                    // Out of budget: keep the shot already scored rather than scoring more
+                    if (j > 0 && search.outOfBudget) {
+                        break;
+                    }
+                    double value = shoot(cell, masks, weights, n, hits, misses, hash, depth, layoutWeight,
+                            Math.min(best, bound));
+                    if (value < best) {
+                        best = value;
+                    }
+                }
+            }
+            // Only a value searched to the end may be reused
+            if (!search.outOfBudget) {
+                table.put(hash, hits, misses, search.fleetKey, best, best < bound);
+            }
+            return best;
+        }
+
+        // The expected number of shots after firing at a cell, or a lower bound that is not below `bound`.
+        double shoot(int cell, long[] masks, int[] weights, int n, long hits, long misses, long hash, int depth,
+                long layoutWeight, double bound) {
+            long bit = 1L << cell;
+            long newHits = hits | bit;
+            long[] hitMask = scratch(hitMasks, depth, n);
+            int[] hitWeight = scratch(hitWeights, depth, n);
+            long[] missMask = scratch(missMasks, depth, n);
+            int[] missWeight = scratch(missWeights, depth, n);
+            int hitCount = 0;
+            int missCount = 0;
+            long hitTotal = 0;
+            long missTotal = 0;
+            long hitCellsLeft = 0;
+            long missCellsLeft = 0;
+            for (int i = 0; i < n; i++) {
+                long mask = masks[i];
+                if ((mask & bit) != 0) {
+                    // A layout whose last unhit cell this was is finished and needs no more shots
+                    if ((mask & ~newHits) != 0) {
+                        hitMask[hitCount] = mask;
+                        hitWeight[hitCount++] = weights[i];
+                        hitTotal += weights[i];
+                        hitCellsLeft += (long) weights[i] * Long.bitCount(mask & ~newHits);
+                    }
+                } else {
+                    missMask[missCount] = mask;
+                    missWeight[missCount++] = weights[i];
+                    missTotal += weights[i];
+                    missCellsLeft += (long) weights[i] * Long.bitCount(mask & ~hits);
+                }
+            }
+            if (search.outOfBudget) {
+                // No time to look deeper: every layout needs at least one shot per unhit cell
+                return 1 + (double) (hitCellsLeft + missCellsLeft) / layoutWeight;
+            }
+            // Each half only has to be searched as far as it could still bring the shot under the bound
+            double hitValue = hitCount == 0 ? 0 : expected(hitMask, hitWeight, hitCount, newHits, misses,
+                    hash ^ HIT_KEYS[cell], depth + 1, ((bound - 1) * layoutWeight - missCellsLeft) / hitTotal);
+            double partial = 1 + (hitTotal * hitValue + missCellsLeft) / layoutWeight;
+            if (partial >= bound || missCount == 0) {
+                return partial;
+            }
+            double missValue = expected(missMask, missWeight, missCount, hits, misses | bit, hash ^ MISS_KEYS[cell],
+                    depth + 1, ((bound - 1) * layoutWeight - hitTotal * hitValue) / missTotal);
+            return 1 + (hitTotal * hitValue + missTotal * missValue) / layoutWeight;
+        }
+
+        // Works out each unshot cell's hit weight and sorts the cells that might hold a ship by it, likeliest first.
+        int rankShots(long[] masks, int[] weights, int n, long hits, int depth) {
+            if (counts[depth] == null) {
+                counts[depth] = new long[64];
+                signatures[depth] = new long[64];
+                order[depth] = new int[64];
+            }
+            long[] count = counts[depth];
+            long[] signature = signatures[depth];
+            Arrays.fill(count, 0);
+            Arrays.fill(signature, 0);
+            total = 0;
+            cellsLeft = 0;
+            for (int i = 0; i < n; i++) {
+                long weight = weights[i];
+                long rest = masks[i] & ~hits;
+                // The cells a layout covers tell it apart, so their mix identifies it in a signature
+                long layoutKey = mix(masks[i]);
+                total += weight;
+                cellsLeft += weight * Long.bitCount(rest);
+                for (; rest != 0; rest &= rest - 1) {
+                    int cell = Long.numberOfTrailingZeros(rest);
+                    count[cell] += weight;
+                    signature[cell] += layoutKey;
+                }
+            }
+            int[] shots = order[depth];
+            int candidates = 0;
+            for (int cell = 0; cell < cells; cell++) {
+                long weight = count[cell];
+                if (weight == 0) {
+                    continue;
+                }
+                // Insertion sort: there are at most 64 cells
+                int j = candidates++;
+                while (j > 0 && count[shots[j - 1]] < weight) {
+                    shots[j] = shots[j - 1];
+                    j--;
+                }
+                shots[j] = cell;
+            }
+            // Drop a cell covered by the same layouts as a likelier (or equally likely, earlier) cell
+            int kept = 0;
+            for (int j = 0; j < candidates; j++) {
+                int cell = shots[j];
+                boolean mirror = false;
+                for (int k = kept - 1; k >= 0 && count[shots[k]] == count[cell] && !mirror; k--) {
+                    mirror = signature[shots[k]] == signature[cell];
+                }
+                if (!mirror) {
+                    shots[kept++] = cell;
+                }
+            }
+            return kept;
+        }
+
+        // Adds this search's nodes to the shared count, and notes when the budget has run out.
+        void flushNodes() {
+            if (search.nodes.addAndGet(localNodes) > nodeBudget || System.nanoTime() - search.deadline > 0) {
+                search.outOfBudget = true;
+            }
+            localNodes = 0;
+        }
+
+        private void countNode() {
+            if (++localNodes == NODE_BATCH) {
+                flushNodes();
+            }
+        }
+
+        // Returns a level's scratch array, growing it if it is too small.
+        private long[] scratch(long[][] arrays, int depth, int n) {
+            if (arrays[depth] == null || arrays[depth].length < n) {
+                arrays[depth] = new long[Math.max(n, 16)];
+            }
+            return arrays[depth];
+        }
+
+        private int[] scratch(int[][] arrays, int depth, int n) {
+            if (arrays[depth] == null || arrays[depth].length < n) {
+                arrays[depth] = new int[Math.max(n, 16)];
+            }
+            return arrays[depth];
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package battleship;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Arena(Battleship)
+ *
+ * Keeps millions of games in progress for the simulator without putting them on the Java heap.
+ * Each game is a fixed-size slot in direct (off-heap) ByteBuffers: a header with each side's
+ * shot count, then for each of the two boards one long for the ships, one for the hits, one for
+ * the misses and one long per ship holding that ship's cells, so boards of up to 64 cells fit.
+ * With the default 7x7 board and four ships a game takes 120 bytes, and the garbage collector
+ * only ever sees the few buffers the slots live in, however many games there are.
+ *
+ * Slots are taken with allocate() and given back with release(); released slots are chained
+ * together through their own headers and handed out again before the arena grows. The buffers
+ * are CHUNK_SLOTS games each and are added as needed, so the arena never copies a game once it is
+ * placed. Boards are read and fired at through ArenaBoard views, which can be moved from slot to
+ * slot, so playing a game does not create any objects either.
+ *
+ * The buffers count against -XX:MaxDirectMemorySize (by default the same as -Xmx), so ten million
+ * games need about 1.2 GB of it. An arena is not thread-safe; give each thread its own.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameArena {
+    // Games per buffer; a power of two so a slot's buffer and offset are a shift and a mask
+    public static final int CHUNK_SLOTS = 1 << 16;
+    private static final int CHUNK_SHIFT = 16;
+
+    // Slot layout: the two shot counts, then the two boards
+    private static final int SHOTS = 0;
+    private static final int HEADER_BYTES = 8;
+    // Board layout, in longs from the start of the board
+    static final int SHIPS = 0;
+    static final int HITS = 1;
+    static final int MISSES = 2;
+    static final int FLEET = 3;
+
+    // Marks a released slot in the second shot count; the first holds the next released slot
+    private static final int FREE = -1;
+    private static final int END = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+    private final int boardBytes;
+    private final int slotBytes;
+
+    private ByteBuffer[] chunks = new ByteBuffer[4];
+    private int chunkCount;
+    // Slots ever handed out, the first released slot, and the games in use
+    private int highWater;
+    private int freeHead = END;
+    private int live;
+
+    // Hides the fleets, one board at a time
+    private final BitBoard scratch;
+
+    /**
+     * Constructor for an empty arena of games of one size and fleet.
+     *
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board by placeFleets
+     * @throws IllegalArgumentException if a board has more than 64 cells
+     */
+    public GameArena(int rows, int cols, int[] fleet) {
+        if (rows * cols > 64) {
+            throw new IllegalArgumentException("An arena board can have at most 64 cells, not " + rows * cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        boardBytes = (FLEET + fleet.length) * Long.BYTES;
+        slotBytes = HEADER_BYTES + 2 * boardBytes;
+        scratch = new BitBoard(rows, cols);
+    }
+
+    /**
+     * Takes a slot for a new game, reusing a released one if there is one. Both boards start
+     * empty, with no ships and no shots.
+     *
+     * @return the slot
+     */
+    public int allocate() {
+        int slot;
+        if (freeHead != END) {
+            slot = freeHead;
+            freeHead = chunk(slot).getInt(offset(slot) + SHOTS);
+        } else {
+            if (highWater == Integer.MAX_VALUE) {
+                throw new IllegalStateException("The arena is full");
+            }
+            slot = highWater++;
+            if ((slot >>> CHUNK_SHIFT) == chunkCount) {
+                addChunk();
+            }
+        }
+        ByteBuffer chunk = chunk(slot);
+        int base = offset(slot);
+        for (int i = 0; i < slotBytes; i += Long.BYTES) {
+            chunk.putLong(base + i, 0L);
+        }
+        live++;
+        return slot;
+    }
+
+    /**
+     * Gives a game's slot back so allocate() can hand it out again.
+     *
+     * @param slot The slot
+     * @throws IllegalArgumentException if the slot is not in use
+     */
+    public void release(int slot) {
+        checkLive(slot);
+        ByteBuffer chunk = chunk(slot);
+        int base = offset(slot);
+        chunk.putInt(base + SHOTS, freeHead);
+        chunk.putInt(base + SHOTS + Integer.BYTES, FREE);
+        freeHead = slot;
+        live--;
+    }
+
+    /**
+     * Hides a new fleet on both boards of a game and clears every shot.
+     *
+     * @param slot The game's slot
+     * @param rng Where the random numbers come from
+     */
+    public void placeFleets(int slot, RandomGenerator rng) {
+        for (int side = 0; side < 2; side++) {
+            scratch.placeFleet(fleet, rng);
+            load(slot, side, scratch);
+        }
+    }
+
+    /**
+     * Copies a board's ships, hits and misses into one side of a game, and sets that side's shot
+     * count to the number of cells already fired at.
+     *
+     * @param slot The game's slot
+     * @param side 0 for the board the first shooter fires at, 1 for the other
+     * @param from The board to copy, the same size as the arena's boards, with no more ships than its fleet
+     */
+    public void load(int slot, int side, BitBoard from) {
+        checkLive(slot);
+        if (from.getRows() != rows || from.getCols() != cols || from.getShipCount() > fleet.length) {
+            throw new IllegalArgumentException("The board does not fit this arena");
+        }
+        ByteBuffer chunk = chunk(slot);
+        int board = boardOffset(slot, side);
+        long shipCells = 0;
+        for (int k = 0; k < fleet.length; k++) {
+            long mask = k < from.getShipCount() ? BitBoard.shipMask(from.getShip(k), cols) : 0L;
+            chunk.putLong(board + (FLEET + k) * Long.BYTES, mask);
+            shipCells |= mask;
+        }
+        long hits = from.getHits(0);
+        long misses = from.getMisses(0);
+        chunk.putLong(board + SHIPS * Long.BYTES, shipCells);
+        chunk.putLong(board + HITS * Long.BYTES, hits);
+        chunk.putLong(board + MISSES * Long.BYTES, misses);
+        chunk.putInt(offset(slot) + SHOTS + side * Integer.BYTES, Long.bitCount(hits | misses));
+    }
+
+    /**
+     * Makes a view of one board of a game. Views can be moved to other games with
+     * ArenaBoard.moveTo, so one view per side is enough for any number of games.
+     *
+     * @param slot The game's slot
+     * @param side 0 for the board the first shooter fires at, 1 for the other
+     * @return the view
+     */
+    public ArenaBoard board(int slot, int side) {
+        ArenaBoard view = new ArenaBoard(this);
+        view.moveTo(slot, side);
+        return view;
+    }
+
+    /**
+     * @return number of rows on each board
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns on each board
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return the ship lengths hidden on each board
+     */
+    public int[] getFleet() {
+        return fleet.clone();
+    }
+
+    /**
+     * @return number of games in use
+     */
+    public int getLiveGames() {
+        return live;
+    }
+
+    /**
+     * @return bytes each game takes
+     */
+    public int getSlotBytes() {
+        return slotBytes;
+    }
+
+    /**
+     * @return off-heap bytes held by the arena's buffers
+     */
+    public long getReservedBytes() {
+        return (long) chunkCount * CHUNK_SLOTS * slotBytes;
+    }
+
+    /**
+     * @param slot A slot
+     * @return true if the slot holds a game that has not been released
+     */
+    public boolean isLive(int slot) {
+        return slot >= 0 && slot < highWater && chunk(slot).getInt(offset(slot) + SHOTS + Integer.BYTES) != FREE;
+    }
+
+    // Throws unless the slot is in use.
+    void checkLive(int slot) {
+        if (!isLive(slot)) {
+            throw new IllegalArgumentException("Slot " + slot + " is not in use");
+        }
+    }
+
+    // The buffer holding a slot.
+    ByteBuffer chunk(int slot) {
+        return chunks[slot >>> CHUNK_SHIFT];
+    }
+
+    // Where a slot starts in its buffer.
+    int offset(int slot) {
+        return (slot & (CHUNK_SLOTS - 1)) * slotBytes;
+    }
+
+    // Where one side's board starts in its slot's buffer.
+    int boardOffset(int slot, int side) {
+        return offset(slot) + HEADER_BYTES + side * boardBytes;
+    }
+
+    // Where one side's shot count is in its slot's buffer.
+    int shotsOffset(int slot, int side) {
+        return offset(slot) + SHOTS + side * Integer.BYTES;
+    }
+
+    // Adds a buffer for CHUNK_SLOTS more games.
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        chunks[chunkCount++] = ByteBuffer.allocateDirect(CHUNK_SLOTS * slotBytes).order(ByteOrder.nativeOrder());
+    }
+}
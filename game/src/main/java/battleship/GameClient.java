@@ -0,0 +1,165 @@
+package battleship;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+/**
+ * Summative Game Client(Battleship)
+ *
+ * Plays one game session on a GameServer. Used by the Swing game when it is started with
+ * -Dbattleship.server=host:port, and by the load test.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameClient implements AutoCloseable {
+    // How long to wait for the server before giving up on a request
+    private static final int TIMEOUT_MILLIS = 10_000;
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final StringBuilder line = new StringBuilder();
+
+    // Board size of the last game started
+    private int rows;
+    private int cols;
+
+    /**
+     * The reply to one FIRE request.
+     */
+    public static class Shot {
+        /** The player's result: BitBoard.MISS, HIT, SUNK or REPEAT */
+        public int result;
+        /** Where the computer fired back, or -1 if it did not */
+        public int computerRow;
+        public int computerCol;
+        /** The computer's result, or -1 if it did not fire */
+        public int computerResult;
+        /** Ship parts left on the player's board and on the computer's board */
+        public int playerPartsLeft;
+        public int computerPartsLeft;
+        /** The score so far */
+        public int score;
+
+        /**
+         * @return true if the shot ended the game
+         */
+        public boolean isGameOver() {
+            return playerPartsLeft == 0 || computerPartsLeft == 0;
+        }
+    }
+
+    /**
+     * Connects to a server.
+     *
+     * @param host The server's host name
+     * @param port The server's port
+     * @throws IOException if the server cannot be reached
+     */
+    public GameClient(String host, int port) throws IOException {
+        socket = new Socket();
+        socket.connect(new InetSocketAddress(host, port), TIMEOUT_MILLIS);
+        socket.setSoTimeout(TIMEOUT_MILLIS);
+        socket.setTcpNoDelay(true);
+        in = new BufferedInputStream(socket.getInputStream(), 256);
+        out = socket.getOutputStream();
+    }
+
+    /**
+     * Connects to a server given as "host:port" (or just "host" for the default port).
+     *
+     * @param address The server's address
+     * @return the connected client
+     * @throws IOException if the server cannot be reached
+     */
+    public static GameClient connect(String address) throws IOException {
+        int colon = address.lastIndexOf(':');
+        if (colon < 0) {
+            return new GameClient(address, GameServer.DEFAULT_PORT);
+        }
+        return new GameClient(address.substring(0, colon), Integer.parseInt(address.substring(colon + 1)));
+    }
+
+    /**
+     * Starts a new game on the server.
+     *
+     * @return the number of ship parts in each fleet
+     * @throws IOException if the server does not answer properly
+     */
+    public int newGame() throws IOException {
+        String[] words = request("NEW", "GAME");
+        rows = Integer.parseInt(words[1]);
+        cols = Integer.parseInt(words[2]);
+        return Integer.parseInt(words[3]);
+    }
+
+    /**
+     * @return number of rows on the boards of the last game started
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns on the boards of the last game started
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Fires at the computer's board; the reply also holds the computer's shot back.
+     *
+     * @param row The row
+     * @param col The column
+     * @param shot Filled with the reply
+     * @return the same shot object
+     * @throws IOException if the server does not answer properly
+     */
+    public Shot fire(int row, int col, Shot shot) throws IOException {
+        String[] words = request("FIRE " + row + " " + col, "SHOT");
+        shot.result = GameServer.resultOf(words[1]);
+        shot.computerRow = Integer.parseInt(words[2]);
+        shot.computerCol = Integer.parseInt(words[3]);
+        shot.computerResult = GameServer.resultOf(words[4]);
+        shot.playerPartsLeft = Integer.parseInt(words[5]);
+        shot.computerPartsLeft = Integer.parseInt(words[6]);
+        shot.score = Integer.parseInt(words[7]);
+        return shot;
+    }
+
+    /**
+     * Says goodbye and closes the connection.
+     *
+     * @throws IOException if the connection cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            GameServer.writeLine(out, "QUIT");
+        } catch (IOException ioException) {
+            // Already closed by the server
+        }
+        socket.close();
+    }
+
+    // Sends one request and checks the reply starts with the expected word.
+    private String[] request(String request, String expected) throws IOException {
+        GameServer.writeLine(out, request);
+        if (!GameServer.readLine(in, line)) {
+            throw new IOException("server closed the connection");
+        }
+        String[] words = line.toString().split(" ");
+        if (!words[0].equals(expected)) {
+            throw new IOException("server replied: " + line);
+        }
+        return words;
+    }
+}
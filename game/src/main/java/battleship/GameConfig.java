@@ -0,0 +1,223 @@
+package battleship;
+
+import java.util.Arrays;
+
+/**
+ * Summative Game Config(Battleship)
+ *
+ * Everything about a game's shape in one place: the board size, the fleet hidden on each board
+ * and how big a cell is drawn. The boards, the renderer, the computer's shooter and the mouse
+ * handling all read it from here instead of assuming a 7x7 board of 60 pixel cells, so the
+ * same game can be played on a 100x100 board with a large fleet.
+ *
+ * The screen layout follows from it: the player's board sits MARGIN pixels from the left and
+ * TOP pixels from the top, and the computer's board GAP pixels to the right of it.
+ * Start the game with, for example,
+ *   -Dbattleship.rows=100 -Dbattleship.cols=100 -Dbattleship.fleet=5,4,3,3,2 -Dbattleship.cellSize=8
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameConfig {
+    // Pixels left of the player's board, above both boards, and between the two boards
+    public static final int MARGIN = 10;
+    public static final int TOP = 40;
+    public static final int GAP = 40;
+
+    // Room right of the computer's board and below both boards, for the frame and the buttons
+    private static final int RIGHT_ROOM = 110;
+    private static final int BOTTOM_ROOM = 140;
+
+    // Smallest cell that still shows a grid line and a colored tile
+    public static final int MIN_CELL_SIZE = 3;
+
+    // The original game: 7x7 boards, ships of 2, 3, 3 and 4, and 60 pixel cells. The fleet is only
+    // handed out as copies, through DEFAULT.getFleet()
+    public static final GameConfig DEFAULT = new GameConfig(7, 7, new int[] {2, 3, 3, 4}, 60);
+
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+    private final int cellSize;
+    private final int parts;
+
+    /**
+     * Constructor for a game's shape.
+     *
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board
+     * @param cellSize width and height of a cell in pixels
+     * @throws IllegalArgumentException if the fleet cannot fit on the board, the sizes are too small,
+     *         or the board or a ship is too big for BitBoard
+     */
+    public GameConfig(int rows, int cols, int[] fleet, int cellSize) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Board size must be positive: " + rows + "x" + cols);
+        }
+        // Multiplied as longs so a huge board cannot overflow into a small one
+        if ((long) rows * cols > BitBoard.MAX_CELLS) {
+            throw new IllegalArgumentException("A board can have at most " + BitBoard.MAX_CELLS + " cells: "
+                    + rows + "x" + cols);
+        }
+        if (cellSize < MIN_CELL_SIZE) {
+            throw new IllegalArgumentException("Cells must be at least " + MIN_CELL_SIZE + " pixels: " + cellSize);
+        }
+        if (fleet.length == 0) {
+            throw new IllegalArgumentException("The fleet needs at least one ship");
+        }
+        long total = 0;
+        for (int length : fleet) {
+            if (length > BitBoard.MAX_SHIP_LENGTH) {
+                throw new IllegalArgumentException("Ships can be at most " + BitBoard.MAX_SHIP_LENGTH
+                        + " long: " + length);
+            }
+            if (length <= 0 || length > Math.max(rows, cols)) {
+                throw new IllegalArgumentException("A ship of length " + length + " cannot fit on a "
+                        + rows + "x" + cols + " board");
+            }
+            total += length;
+        }
+        if (total > (long) rows * cols) {
+            throw new IllegalArgumentException("A fleet of " + total + " parts cannot fit on a "
+                    + rows + "x" + cols + " board");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        this.cellSize = cellSize;
+        this.parts = (int) total;
+    }
+
+    /**
+     * Reads the game's shape from the system properties battleship.rows, battleship.cols,
+     * battleship.fleet (ship lengths separated by commas) and battleship.cellSize. Any left out
+     * keep their DEFAULT values; if the result does not make sense, DEFAULT is used.
+     *
+     * @return the configured game shape
+     */
+    public static GameConfig fromSystemProperties() {
+        try {
+            int rows = Integer.parseInt(System.getProperty("battleship.rows", String.valueOf(DEFAULT.rows)));
+            int cols = Integer.parseInt(System.getProperty("battleship.cols", String.valueOf(DEFAULT.cols)));
+            int cellSize = Integer.parseInt(System.getProperty("battleship.cellSize", String.valueOf(DEFAULT.cellSize)));
+            String fleetProperty = System.getProperty("battleship.fleet");
+            int[] fleet = DEFAULT.fleet;
+            if (fleetProperty != null) {
+                fleet = Arrays.stream(fleetProperty.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+            }
+            return new GameConfig(rows, cols, fleet, cellSize);
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Java Exception: " + exception);
+            System.out.println("Sorry, the board settings do not work, playing on the standard board.");
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * Accessor method for the number of rows.
+     * @return number of rows on each board
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Accessor method for the number of columns.
+     * @return number of columns on each board
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Accessor method for the number of cells.
+     * @return rows * cols
+     */
+    public int getCells() {
+        return rows * cols;
+    }
+
+    /**
+     * Accessor method for the fleet.
+     * @return a copy of the ship lengths hidden on each board
+     */
+    public int[] getFleet() {
+        return fleet.clone();
+    }
+
+    /**
+     * Accessor method for the number of ship parts in the fleet.
+     * @return the sum of the ship lengths
+     */
+    public int getFleetParts() {
+        return parts;
+    }
+
+    /**
+     * Accessor method for the cell size.
+     * @return width and height of a cell in pixels
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return x coordinate of the player's board
+     */
+    public int getPlayerX() {
+        return MARGIN;
+    }
+
+    /**
+     * @return x coordinate of the computer's board
+     */
+    public int getComputerX() {
+        return MARGIN + cols * cellSize + GAP;
+    }
+
+    /**
+     * @return width of the game window in pixels
+     */
+    public int getWindowWidth() {
+        return getComputerX() + cols * cellSize + RIGHT_ROOM;
+    }
+
+    /**
+     * @return height of the game window in pixels
+     */
+    public int getWindowHeight() {
+        return TOP + rows * cellSize + BOTTOM_ROOM;
+    }
+
+    /**
+     * Works out which cell of a board a point on the screen is in.
+     *
+     * @param x The x coordinate on the screen
+     * @param y The y coordinate on the screen
+     * @param boardX The x coordinate of the board
+     * @return the cell index, or -1 if the point is not on the board
+     */
+    public int cellAt(int x, int y, int boardX) {
+        // Checked before dividing, since integer division rounds -0.5 up to row 0
+        if (x <= boardX || y < TOP) {
+            return -1;
+        }
+        int row = (y - TOP) / cellSize;
+        int col = (x - boardX) / cellSize;
+        if (row >= rows || col >= cols) {
+            return -1;
+        }
+        return row * cols + col;
+    }
+
+    /**
+     * @return the board size, fleet and cell size, e.g. "7x7 fleet [2, 3, 3, 4] cell 60px"
+     */
+    @Override
+    public String toString() {
+        return rows + "x" + cols + " fleet " + Arrays.toString(fleet) + " cell " + cellSize + "px";
+    }
+}
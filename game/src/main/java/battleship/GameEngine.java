@@ -0,0 +1,194 @@
+package battleship;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Engine(Battleship)
+ *
+ * Plays complete games between two shooters with no Swing, timer or sound. Each engine
+ * reuses its two boards from game to game, so playing a game does not create any objects.
+ * An engine is not thread-safe; give each thread its own.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameEngine {
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+
+    // firstTarget is the board the first shooter fires at, secondTarget the other one
+    private final BitBoard firstTarget;
+    private final BitBoard secondTarget;
+
+    // Started over from each mirrored game's layout seed, so those games create no objects either
+    private final SessionRng layouts = new SessionRng(0);
+
+    /**
+     * Constructor for the default 7x7 game with the default fleet.
+     */
+    public GameEngine() {
+        this(GameConfig.DEFAULT);
+    }
+
+    /**
+     * Constructor for a game with the size and fleet of a game configuration.
+     *
+     * @param config The board size and fleet
+     */
+    public GameEngine(GameConfig config) {
+        this(config.getRows(), config.getCols(), config.getFleet());
+    }
+
+    /**
+     * Constructor for a game of any size and fleet.
+     *
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board
+     */
+    public GameEngine(int rows, int cols, int[] fleet) {
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        firstTarget = new BitBoard(rows, cols);
+        secondTarget = new BitBoard(rows, cols);
+    }
+
+    /**
+     * Plays one game. Ships are hidden at random on both boards, then the shooters take turns,
+     * first shooter first (like the player in the Swing game), until one has sunk every ship.
+     *
+     * @param first The shooter that moves first
+     * @param second The shooter that moves second
+     * @param rng Where the random numbers for placement and shooting come from
+     * @return the result packed as (shots taken by the winner << 1) | winner, see winner() and shots()
+     */
+    public int play(Shooter first, Shooter second, RandomGenerator rng) {
+        firstTarget.placeFleet(fleet, rng);
+        secondTarget.placeFleet(fleet, rng);
+        return race(first, second, rng, rng, rng, rng);
+    }
+
+    /**
+     * Plays one game from a SessionRng's streams: the first target's fleet is hidden with
+     * placement(0) and the second's with placement(1), and each shooter fires with its own
+     * shooter() and ties() streams, so the same seed always plays the same game.
+     *
+     * @param first The shooter that moves first (side 0)
+     * @param second The shooter that moves second (side 1)
+     * @param streams The game's random number streams
+     * @return the result packed as (shots taken by the winner << 1) | winner, see winner() and shots()
+     */
+    public int play(Shooter first, Shooter second, SessionRng streams) {
+        firstTarget.placeFleet(fleet, streams.placement(0));
+        secondTarget.placeFleet(fleet, streams.placement(1));
+        return race(first, second, streams.shooter(0), streams.ties(0), streams.shooter(1), streams.ties(1));
+    }
+
+    /**
+     * Plays one game where both shooters fire at the same layout, hidden from a seed, so the
+     * only difference between them is how they shoot. The same seed always hides the same layout.
+     *
+     * @param first The shooter that moves first
+     * @param second The shooter that moves second
+     * @param layoutSeed Seed for hiding the ships (the same layout goes on both boards)
+     * @param rng Where the random numbers for shooting come from
+     * @return the result packed as (shots taken by the winner << 1) | winner, see winner() and shots()
+     */
+    public int playMirrored(Shooter first, Shooter second, long layoutSeed, RandomGenerator rng) {
+        firstTarget.placeFleet(fleet, layouts.reset(layoutSeed).placement(0));
+        secondTarget.placeFleet(fleet, layouts.reset(layoutSeed).placement(0));
+        return race(first, second, rng, rng, rng, rng);
+    }
+
+    // The shooters take turns, first shooter first, until one has sunk every ship.
+    private int race(Shooter first, Shooter second, RandomGenerator firstRng, RandomGenerator firstTies,
+            RandomGenerator secondRng, RandomGenerator secondTies) {
+        first.newGame(rows, cols, fleet);
+        second.newGame(rows, cols, fleet);
+
+        int cells = rows * cols;
+        for (int shots = 1; shots <= cells; shots++) {
+            fire(first, firstTarget, firstRng, firstTies);
+            if (firstTarget.allSunk()) {
+                return (shots << 1);
+            }
+            fire(second, secondTarget, secondRng, secondTies);
+            if (secondTarget.allSunk()) {
+                return (shots << 1) | 1;
+            }
+        }
+        throw new IllegalStateException("A shooter fired at the same cell twice");
+    }
+
+    /**
+     * Lets one shooter fire at a freshly hidden fleet until every ship is sunk.
+     *
+     * @param shooter The shooter
+     * @param rng Where the random numbers for placement and shooting come from
+     * @return number of shots needed
+     */
+    public int playSolo(Shooter shooter, RandomGenerator rng) {
+        firstTarget.placeFleet(fleet, rng);
+        shooter.newGame(rows, cols, fleet);
+        int cells = rows * cols;
+        for (int shots = 1; shots <= cells; shots++) {
+            fire(shooter, firstTarget, rng);
+            if (firstTarget.allSunk()) {
+                return shots;
+            }
+        }
+        throw new IllegalStateException("A shooter fired at the same cell twice");
+    }
+
+    /**
+     * Asks a shooter for its next shot, fires it at the target and reports the result back.
+     *
+     * @param shooter The shooter
+     * @param target The board being fired at
+     * @param rng Where the random numbers come from
+     * @return the cell fired at
+     */
+    public static int fire(Shooter shooter, BitBoard target, RandomGenerator rng) {
+        return fire(shooter, target, rng, rng);
+    }
+
+    /**
+     * Asks a shooter for its next shot, breaking ties with their own stream, fires it at the
+     * target and reports the result back.
+     *
+     * @param shooter The shooter
+     * @param target The board being fired at
+     * @param rng Where the random numbers for the shooter's choices come from
+     * @param ties Where the random numbers for breaking ties come from
+     * @return the cell fired at
+     */
+    public static int fire(Shooter shooter, BitBoard target, RandomGenerator rng, RandomGenerator ties) {
+        int cell = shooter.nextShot(rng, ties);
+        int result = target.shoot(cell);
+        if (result == BitBoard.REPEAT) {
+            throw new IllegalStateException("Cell " + cell + " was fired at twice");
+        }
+        shooter.shotResult(cell, result, result == BitBoard.SUNK ? target.getSunkShip() : -1);
+        return cell;
+    }
+
+    /**
+     * @param result A result returned by play()
+     * @return 0 if the first shooter won, 1 if the second shooter won
+     */
+    public static int winner(int result) {
+        return result & 1;
+    }
+
+    /**
+     * @param result A result returned by play()
+     * @return the number of shots the winner took
+     */
+    public static int shots(int result) {
+        return result >>> 1;
+    }
+}
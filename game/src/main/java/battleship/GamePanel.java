@@ -0,0 +1,605 @@
+package battleship;
+
+import javax.swing.JPanel;
+import javax.swing.JLabel;
+import javax.swing.JButton;
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Summative Game Panel(Battleship) extends from JPanel
+ *
+ * @author Sophia Wu
+ *
+ * @version January 17, 2025
+ */
+
+public class GamePanel extends JPanel {
+
+    // Seed of this window's games (-Dbattleship.seed=n plays the same games again), the number
+    // of games started, and the current game's random number streams, see SessionRng
+    long sessionSeed = Long.getLong("battleship.seed", SessionRng.newSeed());
+    long gamesStarted;
+    SessionRng streams = new SessionRng(sessionSeed);
+
+    // Board size, fleet and cell size, and the two boards built from them
+    GameConfig config;
+    Board computerBoard;
+    Board playerBoard;
+
+    // Strategy the computer uses to pick its shots (shared with the headless GameEngine);
+    // -Dbattleship.difficulty=perfect plays the end of each game with the EndgameSolver,
+    // and -Dbattleship.difficulty=sampling aims with the LayoutSampler. shooterKind makes more
+    // of the same kind, for warming up in the background at startup
+    Supplier<Shooter> shooterKind;
+    Shooter computerShooter;
+
+    // Instantiates String for leaderboard pop up, and the service that keeps every score and the top scorer
+    String leaderboard;
+    Leaderboard leaderboardService;
+
+    // Gives the computer its turn as soon as the player shoots, and keeps the score's clock
+    private TurnScheduler turns = new TurnScheduler(this::makeComputerGuess, SwingUtilities::invokeLater);
+
+    // Instantiates string object for username input
+    String name;
+
+    int playerGuessCounter = 0;
+    int computerGuessCounter = 0;
+    int playerScore;
+
+    JLabel scoreLabel = new JLabel("Score " + playerScore);
+    JButton restart = new JButton("Restart");
+
+    private Color color = new Color(34, 82, 160);
+
+    // Sound effects, decoded once on the sound thread while the window is being shown
+    SoundEngine sounds = SoundEngine.createAsync();
+
+    // The game server when started with -Dbattleship.server=host:port, the thread that talks to it
+    // (so a slow server never freezes the window), and its reply to the last shot
+    GameClient server;
+    private ExecutorService serverThread;
+    private GameClient.Shot serverShot = new GameClient.Shot();
+
+    // True while a new game or a shot waits for the server's reply; clicks are ignored meanwhile.
+    // serverGame counts the server games started, so a reply for a game since restarted is dropped
+    private boolean waitingForServer;
+    private int serverGame;
+
+    // Records every local game's placements and shots to replays.log, for replaying with ReplayReader,
+    // and the replay log once it is open, until the next game starts recording to it
+    GameRecorder recorder;
+    private GameRecorder openedRecorder;
+
+    // Serves the game's metrics when started with -Dbattleship.metrics.port=port, see Metrics
+    MetricsServer metricsServer;
+
+    // Set once the files and the metrics server have started opening, after the first paint
+    private boolean opening;
+
+    /**
+     * Constructor for the GamePanel class with the standard 7x7 game.
+     * Initializes the game panel and mouse listener.
+     */
+    public GamePanel() {
+        this(GameConfig.DEFAULT);
+    }
+
+    /**
+     * Constructor for the GamePanel class.
+     * Initializes the game panel and mouse listener. The score store, replay log and metrics
+     * server are opened in the background once the panel is first painted.
+     *
+     * @param config The board size, fleet and cell size to play with
+     */
+    public GamePanel(GameConfig config) {
+        setBackground(color);
+        this.config = config;
+        computerBoard = new Board(config);
+        playerBoard = new Board(config);
+        chooseShooter(System.getProperty("battleship.difficulty", "normal"));
+        // The seed is on the score's tooltip, and only printed along with the other reports
+        String seed = "Session seed " + sessionSeed + " (-Dbattleship.seed=" + sessionSeed + " plays these games again)";
+        scoreLabel.setToolTipText(seed);
+        if (Metrics.PRINT) {
+            System.out.println(seed);
+        }
+
+        // Play on a game server instead of locally if one was given
+        String serverAddress = System.getProperty("battleship.server");
+        if (serverAddress != null) {
+            try {
+                server = GameClient.connect(serverAddress);
+                serverThread = Executors.newSingleThreadExecutor(task -> {
+                    Thread thread = new Thread(task, "game-server");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            } catch (IOException | NumberFormatException exception) {
+                System.err.println("Java Exception: " + exception);
+                System.out.println("Sorry, could not reach the game server, playing locally.");
+                Metrics.error("server");
+            }
+        }
+
+        // Add mouse listener for interaction
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                handleMouseClick(e);
+            }
+        });
+
+        // Set up the restart button so it resets the game when clicked
+        restart.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                resetGame();
+            }
+        });
+    }
+
+    /**
+     * Starts the game by setting up the boards and prompting for the player's name.
+     * Call it once the window is on screen, so the boards show behind the prompt.
+     */
+    public void startGame() {
+        // Hide ships
+        setUpBoards();
+
+        // Add score JLabel and restart JButton
+        add(scoreLabel);
+        add(restart);
+        revalidate();
+
+        // JOptionPane for user to input name
+        name = JOptionPane.showInputDialog("Enter name for leaderboard: ");
+
+        // Start the score's clock once the player is ready
+        turns.start();
+    }
+
+    /**
+     * Resets the game to its initial state, including clearing boards and resetting scores.
+     */
+    public void resetGame() {
+        // Reset all necessary game state variables
+        playerScore = 0;
+        playerGuessCounter = 0;
+        computerGuessCounter = 0;
+        leaderboard = "Leaderboard:\n";
+
+        // Clear the boards
+        playerBoard.clearBoard();
+        computerBoard.clearBoard();
+
+        // Hide ships again
+        setUpBoards();
+
+        // Restart the game
+        turns.start();
+        scoreLabel.setText("Score: " + playerScore);
+        repaint();
+    }
+
+
+     // Hides the ships, either here or on the game server. The server keeps its ships to itself,
+     // so the boards here only show the hits and misses it reports. The server is asked on its
+     // own thread, and clicks wait until it has answered.
+    private void setUpBoards() {
+        if (server != null) {
+            computerBoard.clearBoard();
+            playerBoard.clearBoard();
+            waitingForServer = true;
+            int game = ++serverGame;
+            GameClient client = server;
+            serverThread.execute(() -> {
+                try {
+                    int parts = client.newGame();
+                    if (client.getRows() != config.getRows() || client.getCols() != config.getCols()) {
+                        throw new IllegalStateException("server plays " + client.getRows() + "x" + client.getCols()
+                                + ", this game is " + config.getRows() + "x" + config.getCols());
+                    }
+                    SwingUtilities.invokeLater(() -> {
+                        if (game != serverGame) {
+                            return;
+                        }
+                        computerBoard.setShipsLeft(parts);
+                        playerBoard.setShipsLeft(parts);
+                        waitingForServer = false;
+                    });
+                } catch (IOException | RuntimeException exception) {
+                    SwingUtilities.invokeLater(() -> lostServer(exception));
+                }
+            });
+            return;
+        }
+        // Game n of the session always hides the same ships and makes the same computer moves
+        streams.reset(SessionRng.gameSeed(sessionSeed, gamesStarted++));
+        computerBoard.hideShips(computerBoard, streams.placement(0));
+        playerBoard.hideShips(playerBoard, streams.placement(1));
+        computerShooter.newGame(config.getRows(), config.getCols(), config.getFleet());
+
+        // Record where the ships went, which replaces printing both boards for testing
+        startRecording();
+    }
+
+     // Starts recording the game on the board, first taking over the replay log if it has just been opened.
+    private void startRecording() {
+        if (openedRecorder != null) {
+            recorder = openedRecorder;
+            openedRecorder = null;
+        }
+        if (recorder != null) {
+            try {
+                recorder.startGame(computerBoard.getBitBoard(), playerBoard.getBitBoard(), System.currentTimeMillis());
+            } catch (IOException exception) {
+                replayError(exception);
+            }
+        }
+    }
+
+     // Opens the score store, the replay log and the metrics server on their own thread, so the
+     // window is not held up by the files or the port, then hands them over on the event thread.
+    private void openInBackground() {
+        Thread opener = new Thread(() -> {
+            MetricsServer metrics = Metrics.exportFromSystemProperties();
+            Leaderboard scores = openLeaderboard();
+            GameRecorder replays = openRecorder();
+            SwingUtilities.invokeLater(() -> opened(metrics, scores, replays));
+        }, "game-files");
+        opener.setDaemon(true);
+        opener.start();
+    }
+
+     // Opens the score store, bringing over the scores from the old scores.txt the first time.
+     // Returns null if it cannot be opened.
+    private static Leaderboard openLeaderboard() {
+        try {
+            ScoreStore scoreStore = ScoreStore.open(Paths.get("scores.dat"));
+            Path oldScores = Paths.get("scores.txt");
+            if (scoreStore.size() == 0 && Files.exists(oldScores)) {
+                scoreStore.importScores(oldScores);
+            }
+            Leaderboard scores = new Leaderboard(scoreStore, Paths.get("topScorer.txt"));
+            // Closing the window exits the JVM, so write and force any score still queued first
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    scores.close();
+                } catch (IOException exception) {
+                    System.err.println("Java Exception: " + exception);
+                    System.out.println("Sorry, could not finish saving the scores.");
+                }
+            }, "leaderboard-close"));
+            return scores;
+        } catch (IOException | NumberFormatException exception) {
+            System.err.println("Java Exception: " + exception);
+            System.out.println("Sorry, error with score file scores.dat.");
+            Metrics.error("scores");
+            return null;
+        }
+    }
+
+     // Opens the replay log, carrying on after the games already in it. Returns null if it cannot be opened.
+    private static GameRecorder openRecorder() {
+        try {
+            return new GameRecorder(Paths.get("replays.log"));
+        } catch (IOException exception) {
+            System.err.println("Java Exception: " + exception);
+            System.out.println("Sorry, error with replay file replays.log, games will not be recorded.");
+            Metrics.error("replays");
+            return null;
+        }
+    }
+
+     // Takes over what openInBackground opened. The replay log starts with the next game, or with
+     // the one on the board if nobody has fired in it yet, which is the usual case since the name
+     // prompt comes first.
+    private void opened(MetricsServer metrics, Leaderboard scores, GameRecorder replays) {
+        metricsServer = metrics;
+        leaderboardService = scores;
+        openedRecorder = replays;
+        if (server == null && gamesStarted > 0 && playerGuessCounter == 0 && computerGuessCounter == 0) {
+            startRecording();
+        }
+    }
+
+     // Picks the computer's shooter for a difficulty, falling back to the density shooter when that
+     // one cannot play this board (the EndgameSolver only plays boards of up to 64 cells).
+    private void chooseShooter(String difficulty) {
+        shooterKind = BatchRunner.shooterFor("perfect".equals(difficulty) ? "solver"
+                : "sampling".equals(difficulty) ? "sampling" : "density");
+        computerShooter = shooterKind.get();
+        try {
+            computerShooter.newGame(config.getRows(), config.getCols(), config.getFleet());
+        } catch (IllegalArgumentException exception) {
+            System.err.println("Java Exception: " + exception);
+            System.out.println("Sorry, the " + difficulty + " computer cannot play this board, playing normal instead.");
+            shooterKind = DensityShooter::new;
+            computerShooter = shooterKind.get();
+        }
+    }
+
+     // Carries on locally, with new boards, after the game server could not start a game or take a shot.
+    private void lostServer(Exception exception) {
+        if (server == null) {
+            return;
+        }
+        System.err.println("Java Exception: " + exception);
+        System.out.println("Sorry, lost the game server, playing locally.");
+        Metrics.error("server");
+        server = null;
+        serverThread.shutdown();
+        // Replies still on their way are for server games, so they are dropped
+        serverGame++;
+        waitingForServer = false;
+        setUpBoards();
+        repaint();
+    }
+
+     // Records a local shot in the replay log.
+    private void recordShot(int board, int row, int col, int result) {
+        if (recorder == null || server != null) {
+            return;
+        }
+        try {
+            recorder.shot(board, playerBoard.getBitBoard().index(row, col), result);
+        } catch (IOException exception) {
+            replayError(exception);
+        }
+    }
+
+     // Stops recording after the replay log could not be written.
+    private void replayError(IOException exception) {
+        System.err.println("Java Exception: " + exception);
+        System.out.println("Sorry, error with replay file replays.log, games will not be recorded.");
+        Metrics.error("replays");
+        try {
+            recorder.close();
+        } catch (IOException closeException) {
+            System.err.println("Java Exception: " + closeException);
+        }
+        recorder = null;
+    }
+
+     // Determines whether game is over, adds the new score to the leaderboard if it is,
+     // and updates the score label. Runs right after every shot, so there is nothing to poll.
+    private void checkGameState() {
+        playerScore = turns.getScore();
+
+        // If the game is over, stop the clock
+        if (playerBoard.getShipsLeft() == 0 || computerBoard.getShipsLeft() == 0) {
+            turns.finish();
+            Metrics.count(Metrics.Counter.GAMES);
+            playerScore = turns.getScore();
+            scoreLabel.setText("Score: " + playerScore);
+            if (Metrics.PRINT) {
+                System.out.println(turns.latencyReport());
+            }
+
+            // Finish the game in the replay log, which also writes it to disk
+            if (recorder != null && server == null) {
+                try {
+                    recorder.endGame(playerScore);
+                } catch (IOException exception) {
+                    replayError(exception);
+                }
+            }
+
+            // Hand the score to the leaderboard's writer thread, and show the leaderboard once it is saved
+            if (leaderboardService == null) {
+                showLeaderboard(null);
+                return;
+            }
+            leaderboardService.submit(playerScore, name, System.currentTimeMillis()).whenComplete((snapshot, exception) -> {
+                if (exception != null) {
+                    System.err.println("Java Exception: " + exception);
+                    System.out.println("Sorry, error with output file scores.dat.");
+                }
+                Leaderboard.Snapshot shown = snapshot != null ? snapshot : leaderboardService.snapshot();
+                SwingUtilities.invokeLater(() -> showLeaderboard(shown));
+            });
+            return;
+        }
+        // Updates scoreLabel with most recent score
+        scoreLabel.setText("Score: " + playerScore);
+    }
+
+    /**
+     * Handles the computer's guess, letting the computer's shooter pick a position and updating the board.
+     */
+    public void makeComputerGuess() {
+        if (server != null) {
+            showServerGuess();
+            return;
+        }
+        // The shooter only picks cells it has not guessed before
+        long start = Metrics.start();
+        int cell = computerShooter.nextShot(streams.shooter(0), streams.ties(0));
+        Metrics.stop(Metrics.Timer.AI_MOVE, start);
+        int row = cell / playerBoard.getCols();
+        int col = cell % playerBoard.getCols();
+
+        // Adds to computer guess counter for comparison to player guess counter
+        computerGuessCounter++;
+
+        // Marks the shot as hit or miss, tells the shooter, and plays sound if hit
+        int result = playerBoard.shoot(row, col);
+        recordShot(GameRecorder.PLAYER_BOARD, row, col, result);
+        computerShooter.shotResult(cell, result, playerBoard.getBitBoard().getSunkShip());
+        Metrics.count(Metrics.Counter.COMPUTER_SHOTS);
+        if (result == BitBoard.HIT || result == BitBoard.SUNK) {
+            Metrics.count(Metrics.Counter.COMPUTER_HITS);
+            sounds.play(SoundEngine.Effect.CRASH);
+        }
+        // Repaints only the grid spot that changed, then checks if that shot ended the game
+        repaint(playerBoard.cellBounds(row, col, config.getPlayerX()));
+        checkGameState();
+    }
+
+
+    // Shows the shot the game server's computer made in reply to the player's last shot.
+    private void showServerGuess() {
+        if (serverShot.computerRow < 0) {
+            return;
+        }
+        int row = serverShot.computerRow;
+        int col = serverShot.computerCol;
+        computerGuessCounter++;
+        playerBoard.setGrid(row, col, serverShot.computerResult == BitBoard.MISS ? 'X' : '!');
+        playerBoard.setShipsLeft(serverShot.playerPartsLeft);
+        if (serverShot.computerResult == BitBoard.HIT || serverShot.computerResult == BitBoard.SUNK) {
+            sounds.play(SoundEngine.Effect.CRASH);
+        }
+        repaint(playerBoard.cellBounds(row, col, config.getPlayerX()));
+        checkGameState();
+    }
+
+    // Sends the player's shot to the game server on its thread, then marks the result on the
+    // computer's board back on the event thread. Clicks are ignored until the reply is in.
+    private void fireAtServer(int row, int col, long start) {
+        waitingForServer = true;
+        int game = serverGame;
+        GameClient client = server;
+        serverThread.execute(() -> {
+            GameClient.Shot reply = new GameClient.Shot();
+            try {
+                client.fire(row, col, reply);
+            } catch (IOException | RuntimeException exception) {
+                SwingUtilities.invokeLater(() -> lostServer(exception));
+                return;
+            }
+            SwingUtilities.invokeLater(() -> {
+                // The game was restarted while the shot was on its way
+                if (game != serverGame) {
+                    return;
+                }
+                waitingForServer = false;
+                serverShot = reply;
+                if (reply.result != BitBoard.REPEAT) {
+                    computerBoard.setGrid(row, col, reply.result == BitBoard.MISS ? 'X' : '!');
+                    computerBoard.setShipsLeft(reply.computerPartsLeft);
+                }
+                shotLanded(row, col, reply.result, start);
+            });
+        });
+    }
+
+    /**
+     * @param g the <code>Graphics</code> object to protect
+     */
+    @Override
+    public void paintComponent(Graphics g) {
+        super.paintComponent(g);
+
+        // Draw the player grid
+        playerBoard.drawGrid(g, config.getPlayerX());
+
+        // Draw the computer grid
+        computerBoard.drawGrid(g, config.getComputerX());
+
+        // Once the first frame is up, get the computer's shooter ready in the background
+        if (Startup.firstFrame()) {
+            Startup.warmUp(config, shooterKind);
+        }
+        if (!opening) {
+            opening = true;
+            openInBackground();
+        }
+    }
+
+    /**
+     * Handles mouse clicks on the game board. Makes a guess if the click is on the computer's grid.
+     * @param e The MouseEvent containing the click position.
+     */
+    public void handleMouseClick(MouseEvent e) {
+        int x = e.getX();
+        int y = e.getY();
+
+        // Check if the click is on the computer's grid
+        int cell = config.cellAt(x, y, config.getComputerX());
+        if (cell >= 0) {
+            int row = cell / config.getCols();
+            int col = cell % config.getCols();
+
+            // Fires, locally or at the game server, unless the server has not answered the last click yet
+            if (turns.isRunning() && !waitingForServer) {
+                long start = Metrics.start();
+                if (server != null) {
+                    fireAtServer(row, col, start);
+                } else {
+                    shotLanded(row, col, computerBoard.shoot(row, col), start);
+                }
+            }
+        }
+    }
+
+     // Plays sounds, changes board, and adjusts scores for the player's shot once its result is known.
+    private void shotLanded(int row, int col, int result, long start) {
+        recordShot(GameRecorder.COMPUTER_BOARD, row, col, result);
+        int points = 0;
+        if (result == BitBoard.HIT || result == BitBoard.SUNK) {
+            sounds.play(SoundEngine.Effect.EXPLOSION);
+            points = 100;
+            playerGuessCounter++;
+            Metrics.count(Metrics.Counter.PLAYER_SHOTS);
+            Metrics.count(Metrics.Counter.PLAYER_HITS);
+        } else if (result == BitBoard.MISS) {
+            sounds.play(SoundEngine.Effect.SPLASH);
+            points = -5;
+            playerGuessCounter++;
+            Metrics.count(Metrics.Counter.PLAYER_SHOTS);
+        }
+        // Repaints only the grid spot that changed
+        repaint(computerBoard.cellBounds(row, col, config.getComputerX()));
+
+        // A winning shot ends the game at once; any other new shot gives the computer its turn
+        if (result != BitBoard.REPEAT) {
+            if (computerBoard.getShipsLeft() == 0) {
+                turns.addPoints(points);
+            } else {
+                turns.playerShot(points);
+            }
+            checkGameState();
+            Startup.firstShot();
+        }
+        Metrics.stop(Metrics.Timer.SHOT, start);
+    }
+
+     // Shows the top scores and the top scorer from a leaderboard snapshot.
+    private void showLeaderboard(Leaderboard.Snapshot snapshot) {
+        // Sets and resets leaderboard String for scores to be added to
+        leaderboard = "Leaderboard:\n";
+
+        // The snapshot already holds the best scores and the top scorer, saved together by the writer thread
+        List<ScoreStore.Score> scores = snapshot == null ? List.of() : snapshot.getScores();
+        String topScorer = snapshot == null || snapshot.getTopScorer() == null ? "nobody yet" : snapshot.getTopScorer();
+
+        // Add the sorted scores with ranking numbers
+        for (int count = 0; count < scores.size(); count++) {
+            leaderboard += (count + 1) + ". " + scores.get(count).getScore() + "\n";
+        }
+
+        // Prints the list of scores in order with the top scorer's name in the header
+        JOptionPane.showMessageDialog(null, leaderboard, "Top score held by " + topScorer, JOptionPane.INFORMATION_MESSAGE);
+    }
+}
\ No newline at end of file
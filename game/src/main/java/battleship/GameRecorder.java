@@ -0,0 +1,252 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Summative Game Recorder(Battleship)
+ *
+ * Records games into an append-only binary replay log: every ship placement and every shot is
+ * one varint, so a shot on a 7x7 board takes one or two bytes. Every SNAPSHOT_INTERVAL shots the
+ * masks of the cells shot on both boards are written too, and a side file (the log's name + ".idx")
+ * gets a fixed 16-byte entry for each game start and each snapshot: the log offset, the game
+ * number and the shot count. ReplayReader uses the entries to jump into the middle of any game
+ * and replay at most SNAPSHOT_INTERVAL shots from there.
+ *
+ * Each event is a varint whose low two bits say what it is:
+ *   SHOT      (((cell << 1 | board) << 2 | result) << 2
+ *   PLACE     ((ship << 1 | board) << 2) | 1, with the ship packed by BitBoard.packShip
+ *   SNAPSHOT  (shots << 2) | 2, then the shot cells (hits | misses) of each word of each board as varints
+ *   CONTROL   (kind << 2) | 3, then for GAME_START rows, cols and timestamp, for GAME_END the score
+ * A recorder is not thread-safe; the Swing game uses it from the event thread only.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameRecorder implements AutoCloseable {
+    // Boards: the computer's board is the one the player shoots at
+    public static final int COMPUTER_BOARD = 0;
+    public static final int PLAYER_BOARD = 1;
+
+    // Shots between snapshots
+    public static final int SNAPSHOT_INTERVAL = 16;
+
+    // File layout shared with ReplayReader
+    static final int MAGIC = 0x42535231;
+    static final int SHOT = 0;
+    static final int PLACE = 1;
+    static final int SNAPSHOT = 2;
+    static final int CONTROL = 3;
+    static final int GAME_START = 0;
+    static final int GAME_END = 1;
+    static final int INDEX_ENTRY = 16;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel log;
+    private final FileChannel index;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final ByteBuffer indexBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    // Log offset of the next byte written, and the number of games in the log
+    private long position;
+    private long games;
+
+    // The game being recorded
+    private final BitBoard[] boards = new BitBoard[2];
+    private boolean inGame;
+    private long game;
+    private int shots;
+
+    /**
+     * Opens (or creates) a replay log and its index for appending.
+     *
+     * @param file The replay log
+     * @throws IOException if the files cannot be opened or the log is not a replay log
+     */
+    public GameRecorder(Path file) throws IOException {
+        log = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = FileChannel.open(ReplayReader.indexFile(file), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (log.size() == 0) {
+                buffer.putInt(MAGIC);
+                position = 4;
+                index.truncate(0);
+            } else {
+                ByteBuffer magic = ByteBuffer.allocate(4);
+                log.read(magic, 0);
+                if (magic.flip().remaining() < 4 || magic.getInt() != MAGIC) {
+                    throw new IOException(file + " is not a replay log");
+                }
+                position = log.size();
+                // Drop a half-written index entry, then count the games from the last one
+                long entries = index.size() / INDEX_ENTRY;
+                index.truncate(entries * INDEX_ENTRY);
+                if (entries > 0) {
+                    ByteBuffer last = ByteBuffer.allocate(INDEX_ENTRY);
+                    index.read(last, (entries - 1) * INDEX_ENTRY);
+                    games = last.getInt(8) + 1L;
+                }
+            }
+            index.position(index.size());
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            index.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Records the start of a game and where every ship was placed on both boards.
+     * The recorder keeps the boards to take snapshots from.
+     *
+     * @param computerBoard The board the player shoots at
+     * @param playerBoard The board the computer shoots at
+     * @param timestamp when the game started, in milliseconds since 1970
+     * @return the game's number in the log
+     * @throws IOException if the log cannot be written
+     */
+    public long startGame(BitBoard computerBoard, BitBoard playerBoard, long timestamp) throws IOException {
+        boards[COMPUTER_BOARD] = computerBoard;
+        boards[PLAYER_BOARD] = playerBoard;
+        inGame = true;
+        game = games++;
+        shots = 0;
+        addIndexEntry();
+
+        writeVarint(CONTROL | GAME_START << 2);
+        writeVarint(computerBoard.getRows());
+        writeVarint(computerBoard.getCols());
+        writeVarint(timestamp);
+        for (int board = 0; board < boards.length; board++) {
+            for (int ship = 0; ship < boards[board].getShipCount(); ship++) {
+                writeVarint(PLACE | ((long) boards[board].getShip(ship) << 1 | board) << 2);
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Records a shot. Repeated shots change nothing and are not recorded.
+     *
+     * @param board COMPUTER_BOARD for the player's shots, PLAYER_BOARD for the computer's
+     * @param cell The cell index
+     * @param result BitBoard.MISS, HIT or SUNK
+     * @throws IOException if the log cannot be written
+     */
+    public void shot(int board, int cell, int result) throws IOException {
+        if (!inGame || result == BitBoard.REPEAT) {
+            return;
+        }
+        writeVarint(SHOT | ((long) cell << 1 | board) << 4 | (long) result << 2);
+        shots++;
+        if (shots % SNAPSHOT_INTERVAL == 0) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * Records the end of a game and flushes the log.
+     *
+     * @param score The player's final score
+     * @throws IOException if the log cannot be written
+     */
+    public void endGame(int score) throws IOException {
+        if (!inGame) {
+            return;
+        }
+        writeVarint(CONTROL | GAME_END << 2);
+        writeVarint(((score << 1) ^ (score >> 31)) & 0xFFFFFFFFL);
+        inGame = false;
+        flush();
+    }
+
+    /**
+     * @return number of games in the log
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * @return size of the log in bytes, including what is still buffered
+     */
+    public long getSize() {
+        return position;
+    }
+
+    /**
+     * Writes everything buffered to the files.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        long at = position - buffer.remaining();
+        while (buffer.hasRemaining()) {
+            at += log.write(buffer, at);
+        }
+        buffer.clear();
+        indexBuffer.flip();
+        while (indexBuffer.hasRemaining()) {
+            index.write(indexBuffer);
+        }
+        indexBuffer.clear();
+    }
+
+    /**
+     * Flushes and closes the files.
+     *
+     * @throws IOException if the files cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            log.close();
+            index.close();
+        }
+    }
+
+    // Writes which cells of both boards have been shot; the ships say which of those were hits.
+    private void writeSnapshot() throws IOException {
+        addIndexEntry();
+        writeVarint(SNAPSHOT | (long) shots << 2);
+        for (BitBoard board : boards) {
+            for (int w = 0; w < board.getWords(); w++) {
+                writeVarint(board.getHits(w) | board.getMisses(w));
+            }
+        }
+    }
+
+    // Points an index entry at the next event.
+    private void addIndexEntry() throws IOException {
+        if (indexBuffer.remaining() < INDEX_ENTRY) {
+            flush();
+        }
+        indexBuffer.putLong(position);
+        indexBuffer.putInt((int) game);
+        indexBuffer.putInt(shots);
+    }
+
+    // Writes 7 bits per byte, low bits first, with the top bit set on every byte but the last.
+    private void writeVarint(long value) throws IOException {
+        if (buffer.remaining() < 10) {
+            flush();
+        }
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+            position++;
+        }
+        buffer.put((byte) value);
+        position++;
+    }
+}
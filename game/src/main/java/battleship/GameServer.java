@@ -0,0 +1,330 @@
+package battleship;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Summative Game Server(Battleship)
+ *
+ * Hosts many games at once over TCP on localhost. Every connection gets its own GameSession
+ * and its own thread: a virtual thread on Java versions that have them, otherwise a pooled
+ * thread with a small stack. A connection that sends nothing for the idle timeout is closed
+ * and its session thrown away.
+ *
+ * The protocol is one ASCII line per request and per reply:
+ *   NEW [seed]         -> GAME rows cols parts
+ *   FIRE row col       -> SHOT yourResult theirRow theirCol theirResult yourPartsLeft theirPartsLeft score
+ *   SCORE              -> SCORE score
+ *   QUIT               -> BYE
+ * Results are MISS, HIT, SUNK or REPEAT; "their" shot is -1 -1 NONE when the computer did not
+ * fire (a repeated spot, or the player's shot ended the game). "your" parts are on the player's
+ * board. The game is over when either parts count is 0. Anything wrong gets ERR and a reason.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7707;
+    public static final int DEFAULT_IDLE_MILLIS = 60_000;
+
+    // Longest request line accepted
+    private static final int MAX_LINE = 128;
+    // Stack size for pooled threads when virtual threads are not available
+    private static final long STACK_SIZE = 256 * 1024;
+
+    private static final String[] RESULTS = {"MISS", "HIT", "SUNK", "REPEAT"};
+
+    private final ServerSocket serverSocket;
+    private final int idleMillis;
+    private final ExecutorService handlers;
+    private final boolean virtualThreads;
+    private Thread acceptor;
+
+    // Board size and fleet of every session
+    private final GameConfig config;
+
+    // Statistics
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong totalSessions = new AtomicLong();
+    private final AtomicLong evictedSessions = new AtomicLong();
+    private final AtomicLong shots = new AtomicLong();
+
+    /**
+     * Opens the server socket on the loopback address, for standard 7x7 games.
+     *
+     * @param port The port, or 0 for any free port
+     * @param idleMillis How long a connection may stay silent before it is closed
+     * @throws IOException if the port cannot be opened
+     */
+    public GameServer(int port, int idleMillis) throws IOException {
+        this(port, idleMillis, GameConfig.DEFAULT);
+    }
+
+    /**
+     * Opens the server socket on the loopback address.
+     *
+     * @param port The port, or 0 for any free port
+     * @param idleMillis How long a connection may stay silent before it is closed
+     * @param config The board size and fleet of every game
+     * @throws IOException if the port cannot be opened
+     */
+    public GameServer(int port, int idleMillis, GameConfig config) throws IOException {
+        this.idleMillis = idleMillis;
+        this.config = config;
+        serverSocket = new ServerSocket(port, 4096, InetAddress.getLoopbackAddress());
+        ExecutorService virtual = newVirtualThreadExecutor();
+        virtualThreads = virtual != null;
+        handlers = virtual != null ? virtual : Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(null, task, "session", STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     */
+    public void start() {
+        acceptor = new Thread(this::acceptLoop, "accept");
+        acceptor.start();
+    }
+
+    /**
+     * @return the port the server listens on
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return true if each connection runs on a virtual thread
+     */
+    public boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return number of connections open now
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * @return number of connections accepted
+     */
+    public long getTotalSessions() {
+        return totalSessions.get();
+    }
+
+    /**
+     * @return number of connections closed for being idle
+     */
+    public long getEvictedSessions() {
+        return evictedSessions.get();
+    }
+
+    /**
+     * @return number of FIRE requests served
+     */
+    public long getShots() {
+        return shots.get();
+    }
+
+    /**
+     * Stops accepting connections and stops the session threads.
+     *
+     * @throws IOException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        handlers.shutdownNow();
+        try {
+            handlers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a server until the process is stopped. Arguments: [port] [idleSeconds]
+     * The board size and fleet come from the same system properties as the Swing game's.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int idleMillis = args.length > 1 ? Integer.parseInt(args[1]) * 1000 : DEFAULT_IDLE_MILLIS;
+        GameServer server = new GameServer(port, idleMillis, GameConfig.fromSystemProperties());
+        Metrics.exportFromSystemProperties();
+        server.start();
+        System.out.println("Listening on port " + server.getPort()
+                + (server.usesVirtualThreads() ? " (virtual threads)" : " (pooled threads)"));
+    }
+
+    /**
+     * Reads one line (without the line ending) from the stream.
+     *
+     * @param in The stream, buffered
+     * @param line Filled with the line
+     * @return false at the end of the stream
+     * @throws IOException if reading fails or the line is too long
+     */
+    static boolean readLine(InputStream in, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                return line.length() > 0;
+            }
+            if (b != '\r') {
+                if (line.length() == MAX_LINE) {
+                    throw new IOException("line too long");
+                }
+                line.append((char) b);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes one line and flushes it.
+     *
+     * @param out The stream
+     * @param line The line, without the line ending
+     * @throws IOException if writing fails
+     */
+    static void writeLine(OutputStream out, String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * @param result A BitBoard shot result, or -1
+     * @return its protocol word
+     */
+    static String resultName(int result) {
+        return result < 0 ? "NONE" : RESULTS[result];
+    }
+
+    /**
+     * @param name A protocol result word
+     * @return the BitBoard shot result, or -1 for NONE
+     */
+    static int resultOf(String name) {
+        for (int result = 0; result < RESULTS.length; result++) {
+            if (RESULTS[result].equals(name)) {
+                return result;
+            }
+        }
+        return -1;
+    }
+
+    // Virtual threads became final in Java 21; look them up so the game still builds and runs on 17.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Hands every new connection to its own thread.
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                totalSessions.incrementAndGet();
+                handlers.execute(() -> serve(socket));
+            } catch (IOException ioException) {
+                if (!serverSocket.isClosed()) {
+                    System.err.println("Java Exception: " + ioException);
+                }
+            }
+        }
+    }
+
+    // Runs one connection's session until the client quits, goes idle or disconnects.
+    private void serve(Socket socket) {
+        activeSessions.incrementAndGet();
+        // A fresh seed per connection, with no lock shared between the handler threads
+        long seed = SessionRng.newSeed();
+        GameSession session = new GameSession(config.getRows(), config.getCols(), config.getFleet(), seed);
+        StringBuilder line = new StringBuilder();
+        try (Socket s = socket) {
+            s.setSoTimeout(idleMillis);
+            s.setTcpNoDelay(true);
+            InputStream in = new BufferedInputStream(s.getInputStream(), 256);
+            OutputStream out = s.getOutputStream();
+            try {
+                while (readLine(in, line)) {
+                    String reply = handle(session, line.toString());
+                    writeLine(out, reply);
+                    if (reply.equals("BYE")) {
+                        break;
+                    }
+                }
+            } catch (SocketTimeoutException timeout) {
+                evictedSessions.incrementAndGet();
+                writeLine(out, "ERR idle");
+            }
+        } catch (IOException ioException) {
+            // The client went away; nothing to clean up beyond the socket
+        } finally {
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    // Carries out one request and returns the reply line.
+    private String handle(GameSession session, String request) {
+        String[] words = request.trim().split(" +");
+        try {
+            switch (words[0]) {
+                case "NEW":
+                    if (words.length > 1) {
+                        session.newGame(Long.parseLong(words[1]));
+                    } else {
+                        session.newGame();
+                    }
+                    return "GAME " + session.getRows() + " " + session.getCols() + " " + session.getFleetParts();
+                case "FIRE":
+                    if (words.length != 3) {
+                        return "ERR usage: FIRE row col";
+                    }
+                    int result = session.fire(Integer.parseInt(words[1]), Integer.parseInt(words[2]));
+                    shots.incrementAndGet();
+                    int cell = session.getComputerCell();
+                    return "SHOT " + resultName(result)
+                            + " " + (cell < 0 ? -1 : cell / session.getCols())
+                            + " " + (cell < 0 ? -1 : cell % session.getCols())
+                            + " " + resultName(session.getComputerResult())
+                            + " " + session.getPlayerPartsLeft()
+                            + " " + session.getComputerPartsLeft()
+                            + " " + session.getScore();
+                case "SCORE":
+                    return "SCORE " + session.getScore();
+                case "QUIT":
+                    return "BYE";
+                default:
+                    return "ERR unknown command " + words[0];
+            }
+        } catch (NumberFormatException e) {
+            return "ERR not a number";
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+}
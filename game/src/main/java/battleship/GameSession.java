@@ -0,0 +1,218 @@
+package battleship;
+
+/**
+ * Summative Game Session(Battleship)
+ *
+ * One player's game against the computer, with all of its state in one object instead of in
+ * the fields of GamePanel, so a server can run thousands of them side by side. Each session has
+ * its own boards, computer shooter and random numbers, and is used by one thread at a time.
+ * The random numbers come from a SessionRng: game n of a session plays from the streams of
+ * SessionRng.forGame(seed, n), so a seed and the player's shots replay every game exactly.
+ * The score follows the Swing game: +100 for a hit, -5 for a miss and -1 for every half second played.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class GameSession {
+    // Points for the player's shots
+    public static final int HIT_POINTS = 100;
+    public static final int MISS_POINTS = -5;
+
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+    private long seed;
+    private long games;
+    private final SessionRng streams;
+
+    // The computer's board (the player shoots at it) and the player's board (the computer shoots at it)
+    private final BitBoard computerBoard;
+    private final BitBoard playerBoard;
+    private final Shooter computerShooter = new DensityShooter();
+
+    private boolean over = true;
+    private int points;
+    private long startNanos;
+    private long endNanos;
+
+    // The computer's reply to the last player shot, or -1 if it did not shoot
+    private int computerCell = -1;
+    private int computerResult = -1;
+
+    /**
+     * Constructor for a session; call newGame() before firing.
+     *
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board
+     * @param seed Seed for the ship layouts and the computer's shots
+     */
+    public GameSession(int rows, int cols, int[] fleet, long seed) {
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        this.seed = seed;
+        streams = new SessionRng(seed);
+        computerBoard = new BitBoard(rows, cols);
+        playerBoard = new BitBoard(rows, cols);
+    }
+
+    /**
+     * Hides both fleets again and restarts the score's clock.
+     */
+    public void newGame() {
+        streams.reset(SessionRng.gameSeed(seed, games++));
+        computerBoard.placeFleet(fleet, streams.placement(0));
+        playerBoard.placeFleet(fleet, streams.placement(1));
+        computerShooter.newGame(rows, cols, fleet);
+        points = 0;
+        over = false;
+        computerCell = -1;
+        computerResult = -1;
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts the session over from a seed, then starts its first game, so the same seed and
+     * the same shots always play the same game.
+     *
+     * @param seed Seed for the ship layouts and the computer's shots
+     */
+    public void newGame(long seed) {
+        this.seed = seed;
+        games = 0;
+        newGame();
+    }
+
+    /**
+     * The player fires at the computer's board; unless that ends the game or repeats an
+     * earlier shot, the computer fires back (see getComputerCell and getComputerResult).
+     *
+     * @param row The row
+     * @param col The column
+     * @return BitBoard.MISS, HIT, SUNK or REPEAT
+     * @throws IllegalStateException if the game is over
+     * @throws IllegalArgumentException if the spot is off the board
+     */
+    public int fire(int row, int col) {
+        if (over) {
+            throw new IllegalStateException("game over");
+        }
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("no spot " + row + " " + col);
+        }
+        computerCell = -1;
+        computerResult = -1;
+        int result = computerBoard.shoot(computerBoard.index(row, col));
+        if (result == BitBoard.REPEAT) {
+            return result;
+        }
+        points += result == BitBoard.MISS ? MISS_POINTS : HIT_POINTS;
+        Metrics.count(Metrics.Counter.PLAYER_SHOTS);
+        if (result != BitBoard.MISS) {
+            Metrics.count(Metrics.Counter.PLAYER_HITS);
+        }
+        if (computerBoard.allSunk()) {
+            finish();
+            return result;
+        }
+
+        long start = Metrics.start();
+        computerCell = computerShooter.nextShot(streams.shooter(0), streams.ties(0));
+        Metrics.stop(Metrics.Timer.AI_MOVE, start);
+        computerResult = playerBoard.shoot(computerCell);
+        Metrics.count(Metrics.Counter.COMPUTER_SHOTS);
+        if (computerResult != BitBoard.MISS) {
+            Metrics.count(Metrics.Counter.COMPUTER_HITS);
+        }
+        computerShooter.shotResult(computerCell, computerResult, playerBoard.getSunkShip());
+        if (playerBoard.allSunk()) {
+            finish();
+        }
+        return result;
+    }
+
+    /**
+     * @return the cell the computer fired at after the last player shot, or -1 if it did not fire
+     */
+    public int getComputerCell() {
+        return computerCell;
+    }
+
+    /**
+     * @return the result of the computer's last shot, or -1 if it did not fire
+     */
+    public int getComputerResult() {
+        return computerResult;
+    }
+
+    /**
+     * @return ship parts left on the player's board
+     */
+    public int getPlayerPartsLeft() {
+        return playerBoard.countShipsLeft();
+    }
+
+    /**
+     * @return ship parts left on the computer's board
+     */
+    public int getComputerPartsLeft() {
+        return computerBoard.countShipsLeft();
+    }
+
+    /**
+     * @return total ship parts in the fleet
+     */
+    public int getFleetParts() {
+        int parts = 0;
+        for (int length : fleet) {
+            parts += length;
+        }
+        return parts;
+    }
+
+    /**
+     * @return true once either fleet is sunk (or before the first game)
+     */
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * @return points from shots minus one point for every half second played
+     */
+    public int getScore() {
+        long elapsed = (over ? endNanos : System.nanoTime()) - startNanos;
+        return points - (int) (elapsed / TurnScheduler.DECAY_NANOS);
+    }
+
+    /**
+     * @return the seed of the current game's random number streams
+     */
+    public long getGameSeed() {
+        return streams.getSeed();
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    // Stops the score's clock.
+    private void finish() {
+        Metrics.count(Metrics.Counter.GAMES);
+        over = true;
+        endNanos = System.nanoTime();
+    }
+}
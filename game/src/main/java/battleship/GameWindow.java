@@ -0,0 +1,49 @@
+package battleship;
+
+import javax.swing.JFrame;
+import java.awt.BorderLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+/**
+ * Summative Game Window(Battleship) extends from JFrame
+ *
+ * @author Sophia Wu
+ *
+ * @version January 17, 2025
+ */
+
+public class GameWindow extends JFrame {
+    /**
+     * No argument-constructor that builds the game window, sized for the board settings
+     * given on the command line (see GameConfig.fromSystemProperties)
+     */
+    public GameWindow() {
+        this(GameConfig.fromSystemProperties());
+    }
+
+    /**
+     * Constructor that builds the game window for a board size, fleet and cell size.
+     * The game starts when the window is first shown; call it on the event thread
+     *
+     * @param config The board size, fleet and cell size to play with
+     */
+    public GameWindow(GameConfig config) {
+        setTitle("Battleship");
+        setSize(config.getWindowWidth(), config.getWindowHeight());
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setLayout(new BorderLayout());
+
+        // Add the game panel
+        GamePanel gamePanel = new GamePanel(config);
+        add(gamePanel, BorderLayout.CENTER);
+
+        // Starts the game once the window is on screen, so the name prompt does not hold it up
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                gamePanel.startGame();
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,753 @@
+package battleship;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.zip.CRC32;
+
+/**
+ * Summative Game History Analytics(Battleship)
+ *
+ * Answers questions about every game ever played, in one pass over the files and in memory that
+ * does not grow with their length. The score store (scores.dat) gives score percentiles (from a
+ * TDigest) and each player's games, mean, best and worst score; the replay log (replays.log)
+ * gives how often each cell is hit when it is fired at, for each board, shots per game and the
+ * players' and the computer's hit rates.
+ *
+ * Both files are split into chunks that fork/join tasks map with NIO and read on their own: the
+ * score file by record number, since its records are all the same size, and the replay log by
+ * game, using its index to find where each chunk's first game starts. Each task keeps its own
+ * digests, player table and heatmap counts, and the results are merged as the tasks join, so
+ * the threads never share anything while they read. The score file is read up to the record
+ * count in its header plus any whole records after it; records in that range whose checksum does
+ * not match are skipped, and so is the end of a replay log from the first event that is cut off
+ * or damaged.
+ *
+ * Usage: java battleship.HistoryAnalytics [scores.dat] [replays.log] [threads] [players to list]
+ * (- skips a file)
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class HistoryAnalytics {
+    // Score records per task (48 MB of the file), and replay index entries per task (about
+    // 10,000 games of a 7x7 board)
+    private static final long SCORE_CHUNK = 1 << 20;
+    private static final long REPLAY_CHUNK = 1 << 16;
+
+    // Percentiles shown in the reports
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for analytics run on a number of threads.
+     *
+     * @param threads number of threads
+     */
+    public HistoryAnalytics(int threads) {
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Reads every score in a score store file. The file can be in use by a game at the same
+     * time; scores written while it is read may or may not be counted.
+     *
+     * @param scoresFile The score store, as written by ScoreStore
+     * @return the score percentiles and per-player totals
+     * @throws IOException if the file cannot be read
+     */
+    public ScoreReport scanScores(Path scoresFile) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(scoresFile, StandardOpenOption.READ)) {
+            // The header's record count, from the store's last checkpoint
+            ByteBuffer header = ByteBuffer.allocate(24);
+            channel.read(header, 0);
+            if (header.position() < header.capacity() || header.getInt(0) != ScoreStore.MAGIC) {
+                throw new IOException(scoresFile + " is not a score file");
+            }
+            long fileRecords = Math.max(0, (channel.size() - ScoreStore.HEADER_SIZE) / ScoreStore.RECORD_SIZE);
+            long records = Math.min(Math.max(header.getLong(16), 0), fileRecords);
+            // Then the scores added since, up to the first that is not completely written, as
+            // ScoreStore does when it opens the file
+            ByteBuffer record = ByteBuffer.allocate(ScoreStore.RECORD_SIZE);
+            CRC32 crc = new CRC32();
+            while (records < fileRecords) {
+                record.clear();
+                channel.read(record, ScoreStore.HEADER_SIZE + records * ScoreStore.RECORD_SIZE);
+                if (record.position() < record.capacity() || !whole(record, record.duplicate(), 0, crc)) {
+                    break;
+                }
+                records++;
+            }
+            ScoreReport report = pool.invoke(new ScoreTask(channel, 0, records));
+            report.nanos = System.nanoTime() - start;
+            return report;
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Reads every game in a replay log.
+     *
+     * @param log The replay log, as written by GameRecorder, with its index beside it
+     * @return the heatmaps, hit rates and shots per game
+     * @throws IOException if the log or its index cannot be read
+     */
+    public ReplayReport scanReplays(Path log) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel events = FileChannel.open(log, StandardOpenOption.READ);
+             FileChannel index = FileChannel.open(ReplayReader.indexFile(log), StandardOpenOption.READ)) {
+            long entries = index.size() / GameRecorder.INDEX_ENTRY;
+            ReplayReport report = pool.invoke(new ReplayTask(events, index, 0, entries));
+            report.nanos = System.nanoTime() - start;
+            return report;
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Prints the reports for a score store and a replay log.
+     */
+    public static void main(String[] args) throws IOException {
+        String scores = args.length > 0 ? args[0] : "scores.dat";
+        String replays = args.length > 1 ? args[1] : "replays.log";
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int players = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        HistoryAnalytics analytics = new HistoryAnalytics(threads);
+        if (!scores.equals("-")) {
+            try {
+                System.out.print(analytics.scanScores(Paths.get(scores)).toString(players));
+            } catch (IOException exception) {
+                System.err.println("Java Exception: " + exception);
+                System.out.println("Sorry, could not read the scores in " + scores + ".");
+                Metrics.error("scores");
+            }
+        }
+        if (!replays.equals("-")) {
+            try {
+                System.out.print(analytics.scanReplays(Paths.get(replays)));
+            } catch (IOException exception) {
+                System.err.println("Java Exception: " + exception);
+                System.out.println("Sorry, could not read the replays in " + replays + ".");
+                Metrics.error("replays");
+            }
+        }
+    }
+
+    /**
+     * Score percentiles and per-player totals from a score store.
+     */
+    public static class ScoreReport {
+        private final TDigest scores = new TDigest();
+        private final Players players = new Players();
+        private long skipped;
+        private long nanos;
+
+        /**
+         * @return the scores' digest, for percentiles, count, mean, minimum and maximum
+         */
+        public TDigest getScores() {
+            return scores;
+        }
+
+        /**
+         * @return number of records skipped because they were empty or torn
+         */
+        public long getSkipped() {
+            return skipped;
+        }
+
+        /**
+         * @return number of players with at least one score
+         */
+        public int getPlayerCount() {
+            return players.size;
+        }
+
+        /**
+         * @param name A player's name (as stored, at most ScoreStore.NAME_BYTES bytes)
+         * @return that player's games, total, best and worst score, or null if they have none
+         */
+        public long[] getPlayer(String name) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            int slot = players.find(Players.hash(bytes, 0, Math.min(bytes.length, ScoreStore.NAME_BYTES)));
+            return slot < 0 ? null : new long[] {players.games[slot], players.total[slot], players.best[slot],
+                players.worst[slot]};
+        }
+
+        /**
+         * @return the report with the ten players with the most games
+         */
+        @Override
+        public String toString() {
+            return toString(10);
+        }
+
+        /**
+         * @param top number of players to list, those with the most games first
+         * @return the report
+         */
+        public String toString(int top) {
+            StringBuilder out = new StringBuilder();
+            out.append(String.format("%d scores (%d records skipped) read in %.2f s (%.1f M scores/s)%n",
+                    scores.getCount(), skipped, nanos / 1e9, scores.getCount() / Math.max(1, nanos / 1e3)));
+            appendDigest(out, "Score", scores);
+            out.append(players.size).append(" players\n");
+            Integer[] order = new Integer[players.size];
+            int filled = 0;
+            for (int slot = 0; slot < players.names.length; slot++) {
+                if (players.names[slot] != null) {
+                    order[filled++] = slot;
+                }
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(players.games[b], players.games[a]));
+            for (int i = 0; i < Math.min(top, order.length); i++) {
+                int slot = order[i];
+                out.append(String.format("  %-28s %10d games, mean %9.1f, best %7d, worst %7d%n", players.names[slot],
+                        players.games[slot], (double) players.total[slot] / players.games[slot], players.best[slot],
+                        players.worst[slot]));
+            }
+            return out.toString();
+        }
+
+        // Adds another task's results to these.
+        private ScoreReport merge(ScoreReport other) {
+            scores.merge(other.scores);
+            players.merge(other.players);
+            skipped += other.skipped;
+            return this;
+        }
+    }
+
+    /**
+     * Hit-rate heatmaps, hit rates and shots per game from a replay log.
+     */
+    public static class ReplayReport {
+        // One heatmap per board size, keyed by rows << 32 | cols
+        private final Map<Long, Heatmap> heatmaps = new HashMap<>();
+        private final TDigest shotsPerGame = new TDigest();
+        private final TDigest endScores = new TDigest();
+        private long games;
+        private long skippedBytes;
+        // Shots and hits by board: GameRecorder.COMPUTER_BOARD is fired at by the player
+        private final long[] shots = new long[2];
+        private final long[] hits = new long[2];
+        private long nanos;
+
+        /**
+         * @return number of games read
+         */
+        public long getGames() {
+            return games;
+        }
+
+        /**
+         * @return number of bytes of the log not read because they were cut off or damaged
+         */
+        public long getSkippedBytes() {
+            return skippedBytes;
+        }
+
+        /**
+         * @return shots fired in each game, by both sides together
+         */
+        public TDigest getShotsPerGame() {
+            return shotsPerGame;
+        }
+
+        /**
+         * @return the scores of the games that were finished
+         */
+        public TDigest getEndScores() {
+            return endScores;
+        }
+
+        /**
+         * @param board GameRecorder.COMPUTER_BOARD (fired at by the player) or PLAYER_BOARD
+         * @return the fraction of shots at that board that hit a ship
+         */
+        public double getHitRate(int board) {
+            return shots[board] == 0 ? Double.NaN : (double) hits[board] / shots[board];
+        }
+
+        /**
+         * @param rows number of rows
+         * @param cols number of columns
+         * @return the heatmap for boards of that size, or null if no such games were read
+         */
+        public Heatmap getHeatmap(int rows, int cols) {
+            return heatmaps.get((long) rows << 32 | cols);
+        }
+
+        /**
+         * @return the report
+         */
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder();
+            long totalShots = shots[0] + shots[1];
+            out.append(String.format("%d games, %d shots (%d bytes skipped) read in %.2f s (%.1f M games/s)%n", games,
+                    totalShots, skippedBytes, nanos / 1e9, games / Math.max(1, nanos / 1e3)));
+            out.append(String.format("Player hit rate %.1f%%, computer hit rate %.1f%%%n",
+                    100 * getHitRate(GameRecorder.COMPUTER_BOARD), 100 * getHitRate(GameRecorder.PLAYER_BOARD)));
+            appendDigest(out, "Shots per game", shotsPerGame);
+            appendDigest(out, "Final score", endScores);
+            for (Heatmap heatmap : new TreeMap<>(heatmaps).values()) {
+                out.append(heatmap);
+            }
+            return out.toString();
+        }
+
+        // Adds another task's results to these.
+        private ReplayReport merge(ReplayReport other) {
+            for (Map.Entry<Long, Heatmap> entry : other.heatmaps.entrySet()) {
+                Heatmap mine = heatmaps.get(entry.getKey());
+                if (mine == null) {
+                    heatmaps.put(entry.getKey(), entry.getValue());
+                } else {
+                    mine.merge(entry.getValue());
+                }
+            }
+            shotsPerGame.merge(other.shotsPerGame);
+            endScores.merge(other.endScores);
+            games += other.games;
+            skippedBytes += other.skippedBytes;
+            for (int board = 0; board < 2; board++) {
+                shots[board] += other.shots[board];
+                hits[board] += other.hits[board];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * How many times each cell of each board was fired at, and hit, for one board size.
+     */
+    public static class Heatmap {
+        private final int rows;
+        private final int cols;
+        private final long[][] shots;
+        private final long[][] hits;
+
+        Heatmap(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+            shots = new long[2][rows * cols];
+            hits = new long[2][rows * cols];
+        }
+
+        /**
+         * @param board GameRecorder.COMPUTER_BOARD or PLAYER_BOARD
+         * @param cell The cell index
+         * @return times that cell was fired at
+         */
+        public long getShots(int board, int cell) {
+            return shots[board][cell];
+        }
+
+        /**
+         * @param board GameRecorder.COMPUTER_BOARD or PLAYER_BOARD
+         * @param cell The cell index
+         * @return the fraction of shots at that cell that hit a ship, or NaN if it was never fired at
+         */
+        public double getHitRate(int board, int cell) {
+            return shots[board][cell] == 0 ? Double.NaN : (double) hits[board][cell] / shots[board][cell];
+        }
+
+        /**
+         * @return both boards' hit rates as grids of percentages (only the first 40 columns of big boards)
+         */
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder();
+            String[] titles = {"Player's shots at the computer's board", "Computer's shots at the player's board"};
+            for (int board = 0; board < 2; board++) {
+                out.append(titles[board]).append(", ").append(rows).append('x').append(cols).append(", hit %:\n");
+                for (int row = 0; row < rows; row++) {
+                    for (int col = 0; col < Math.min(cols, 40); col++) {
+                        double rate = getHitRate(board, row * cols + col);
+                        out.append(Double.isNaN(rate) ? "    -" : String.format("%5.1f", 100 * rate));
+                    }
+                    out.append('\n');
+                }
+            }
+            return out.toString();
+        }
+
+        // Adds another task's counts to these.
+        private void merge(Heatmap other) {
+            for (int board = 0; board < 2; board++) {
+                for (int cell = 0; cell < shots[board].length; cell++) {
+                    shots[board][cell] += other.shots[board][cell];
+                    hits[board][cell] += other.hits[board][cell];
+                }
+            }
+        }
+    }
+
+    // Reads the score records from .. to - 1, splitting big ranges between two tasks.
+    private static final class ScoreTask extends RecursiveTask<ScoreReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long from;
+        private final long to;
+
+        ScoreTask(FileChannel channel, long from, long to) {
+            this.channel = channel;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ScoreReport compute() {
+            if (to - from > SCORE_CHUNK) {
+                long middle = (from + to) >>> 1;
+                ScoreTask right = new ScoreTask(channel, middle, to);
+                right.fork();
+                ScoreReport left = new ScoreTask(channel, from, middle).compute();
+                return left.merge(right.join());
+            }
+            ScoreReport report = new ScoreReport();
+            if (from == to) {
+                return report;
+            }
+            MappedByteBuffer records;
+            try {
+                records = channel.map(FileChannel.MapMode.READ_ONLY,
+                        ScoreStore.HEADER_SIZE + from * ScoreStore.RECORD_SIZE, (to - from) * ScoreStore.RECORD_SIZE);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            // A second view of the records for the checksums, which move its position and limit
+            ByteBuffer checked = records.duplicate();
+            CRC32 crc = new CRC32();
+            int end = (int) (to - from) * ScoreStore.RECORD_SIZE;
+            for (int offset = 0; offset < end; offset += ScoreStore.RECORD_SIZE) {
+                if (!whole(records, checked, offset, crc)) {
+                    report.skipped++;
+                    continue;
+                }
+                int score = records.getInt(offset + 8);
+                int length = Math.min(Math.max(records.getInt(offset + 12), 0), ScoreStore.NAME_BYTES);
+                report.scores.add(score);
+                report.players.add(records, offset + 16, length, score);
+            }
+            return report;
+        }
+    }
+
+    // Whether the record at an offset was completely written: not empty, and its checksum matches.
+    // checked is a second view of the same bytes, whose position and limit the checksum moves.
+    private static boolean whole(ByteBuffer records, ByteBuffer checked, int offset, CRC32 crc) {
+        int stored = records.getInt(offset + 44);
+        if (stored == 0 && records.getLong(offset) == 0) {
+            return false;
+        }
+        crc.reset();
+        checked.limit(offset + 44).position(offset);
+        crc.update(checked);
+        checked.limit(checked.capacity());
+        return (int) crc.getValue() == stored;
+    }
+
+    // Reads the games whose starts are at index entries from .. to - 1.
+    private static final class ReplayTask extends RecursiveTask<ReplayReport> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel events;
+        private final FileChannel index;
+        private final long from;
+        private final long to;
+
+        ReplayTask(FileChannel events, FileChannel index, long from, long to) {
+            this.events = events;
+            this.index = index;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ReplayReport compute() {
+            if (to - from > REPLAY_CHUNK) {
+                long middle = (from + to) >>> 1;
+                ReplayTask right = new ReplayTask(events, index, middle, to);
+                right.fork();
+                ReplayReport left = new ReplayTask(events, index, from, middle).compute();
+                return left.merge(right.join());
+            }
+            ReplayReport report = new ReplayReport();
+            try {
+                long start = gameStart(from);
+                if (start < 0) {
+                    return report;
+                }
+                long end = gameStart(to);
+                if (end < 0) {
+                    end = events.size();
+                }
+                if (start < end) {
+                    read(events.map(FileChannel.MapMode.READ_ONLY, start, end - start), report);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            return report;
+        }
+
+        // The log offset of the first game starting at or after an index entry, or -1 if none does.
+        private long gameStart(long entry) throws IOException {
+            ByteBuffer entries = ByteBuffer.allocate(64 * GameRecorder.INDEX_ENTRY);
+            while (true) {
+                entries.clear();
+                int read = index.read(entries, entry * GameRecorder.INDEX_ENTRY);
+                if (read < GameRecorder.INDEX_ENTRY) {
+                    return -1;
+                }
+                for (int i = 0; i + GameRecorder.INDEX_ENTRY <= read; i += GameRecorder.INDEX_ENTRY) {
+                    // Game starts are the entries with no shots
+                    if (entries.getInt(i + 12) == 0) {
+                        return entries.getLong(i);
+                    }
+                    entry++;
+                }
+            }
+        }
+
+        // Counts every event in a run of whole games. The log is written while games are played,
+        // so it can end part way through an event, and a crash can leave anything after the last
+        // write; reading stops at the first event that is cut off or makes no sense, and the bytes
+        // from there on are counted as skipped.
+        private static void read(MappedByteBuffer log, ReplayReport report) {
+            Heatmap heatmap = null;
+            int words = 0;
+            int shots = 0;
+            boolean inGame = false;
+            int eventStart = 0;
+            try {
+                while (log.hasRemaining()) {
+                    eventStart = log.position();
+                    long event = readVarint(log);
+                    switch ((int) (event & 3)) {
+                        case GameRecorder.SHOT:
+                            int board = (int) (event >>> 4) & 1;
+                            long cell = event >>> 5;
+                            if (heatmap == null || cell >= heatmap.shots[board].length) {
+                                report.skippedBytes += log.limit() - eventStart;
+                                return;
+                            }
+                            report.shots[board]++;
+                            heatmap.shots[board][(int) cell]++;
+                            if (((event >>> 2) & 3) != BitBoard.MISS) {
+                                report.hits[board]++;
+                                heatmap.hits[board][(int) cell]++;
+                            }
+                            shots++;
+                            break;
+                        case GameRecorder.PLACE:
+                            break;
+                        case GameRecorder.SNAPSHOT:
+                            // Only needed for seeking
+                            for (int i = 0; i < words * 2; i++) {
+                                readVarint(log);
+                            }
+                            break;
+                        default:
+                            if ((event >>> 2) == GameRecorder.GAME_START) {
+                                long rows = readVarint(log);
+                                long cols = readVarint(log);
+                                readVarint(log);
+                                if (rows <= 0 || cols <= 0 || rows * cols > BitBoard.MAX_CELLS) {
+                                    report.skippedBytes += log.limit() - eventStart;
+                                    return;
+                                }
+                                if (inGame) {
+                                    report.shotsPerGame.add(shots);
+                                }
+                                words = (int) ((rows * cols + 63) >>> 6);
+                                heatmap = report.heatmaps.computeIfAbsent(rows << 32 | cols,
+                                    key -> new Heatmap((int) rows, (int) cols));
+                                report.games++;
+                                shots = 0;
+                                inGame = true;
+                            } else if ((event >>> 2) == GameRecorder.GAME_END) {
+                                int zigzag = (int) readVarint(log);
+                                report.endScores.add((zigzag >>> 1) ^ -(zigzag & 1));
+                                report.shotsPerGame.add(shots);
+                                inGame = false;
+                            } else {
+                                report.skippedBytes += log.limit() - eventStart;
+                                return;
+                            }
+                    }
+                }
+            } catch (BufferUnderflowException exception) {
+                // The last event was cut off
+                report.skippedBytes += log.limit() - eventStart;
+            } finally {
+                if (inGame) {
+                    report.shotsPerGame.add(shots);
+                }
+            }
+        }
+
+        private static long readVarint(ByteBuffer log) {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = log.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    // Each player's games, total, best and worst score, in an open-addressing table keyed by a
+    // 64-bit hash of the name's bytes, so a name is only turned into a String the first time it is seen.
+    private static final class Players {
+        private long[] keys = new long[1024];
+        private String[] names = new String[1024];
+        private long[] games = new long[1024];
+        private long[] total = new long[1024];
+        private long[] best = new long[1024];
+        private long[] worst = new long[1024];
+        private int size;
+
+        // Adds one score for the player whose name is at offset .. offset + length - 1 of a buffer.
+        void add(ByteBuffer buffer, int offset, int length, int score) {
+            long key = 0xCBF29CE484222325L;
+            for (int i = 0; i < length; i++) {
+                key = (key ^ (buffer.get(offset + i) & 0xFF)) * 0x100000001B3L;
+            }
+            int slot = slotFor(key);
+            if (names[slot] == null) {
+                byte[] bytes = new byte[length];
+                buffer.get(offset, bytes);
+                slot = insert(slot, key, new String(bytes, StandardCharsets.UTF_8));
+            }
+            games[slot]++;
+            total[slot] += score;
+            best[slot] = Math.max(best[slot], score);
+            worst[slot] = Math.min(worst[slot], score);
+        }
+
+        // Adds another table's players to this one.
+        void merge(Players other) {
+            for (int i = 0; i < other.keys.length; i++) {
+                if (other.names[i] == null) {
+                    continue;
+                }
+                int slot = slotFor(other.keys[i]);
+                if (names[slot] == null) {
+                    slot = insert(slot, other.keys[i], other.names[i]);
+                }
+                games[slot] += other.games[i];
+                total[slot] += other.total[i];
+                best[slot] = Math.max(best[slot], other.best[i]);
+                worst[slot] = Math.min(worst[slot], other.worst[i]);
+            }
+        }
+
+        // The slot holding a key, or -1 if it is not in the table.
+        int find(long key) {
+            int slot = slotFor(key);
+            return names[slot] == null ? -1 : slot;
+        }
+
+        // The same hash add() uses, over part of an array.
+        static long hash(byte[] bytes, int offset, int length) {
+            long key = 0xCBF29CE484222325L;
+            for (int i = 0; i < length; i++) {
+                key = (key ^ (bytes[offset + i] & 0xFF)) * 0x100000001B3L;
+            }
+            return key;
+        }
+
+        // The slot holding a key, or the empty slot where it would go.
+        private int slotFor(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) SessionRng.mix64(key) & mask;
+            while (names[slot] != null && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        // Puts a new player in an empty slot, growing the table when it is half full, and returns
+        // the slot the player is in afterwards.
+        private int insert(int slot, long key, String name) {
+            keys[slot] = key;
+            names[slot] = name;
+            best[slot] = Long.MIN_VALUE;
+            worst[slot] = Long.MAX_VALUE;
+            size++;
+            if (size * 2 > keys.length) {
+                grow();
+                return slotFor(key);
+            }
+            return slot;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            String[] oldNames = names;
+            long[] oldGames = games;
+            long[] oldTotal = total;
+            long[] oldBest = best;
+            long[] oldWorst = worst;
+            int capacity = oldKeys.length * 2;
+            keys = new long[capacity];
+            names = new String[capacity];
+            games = new long[capacity];
+            total = new long[capacity];
+            best = new long[capacity];
+            worst = new long[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldNames[i] != null) {
+                    int slot = slotFor(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    names[slot] = oldNames[i];
+                    games[slot] = oldGames[i];
+                    total[slot] = oldTotal[i];
+                    best[slot] = oldBest[i];
+                    worst[slot] = oldWorst[i];
+                }
+            }
+        }
+    }
+
+    // Prints a digest's count, mean, range and percentiles on one line.
+    private static void appendDigest(StringBuilder out, String title, TDigest digest) {
+        if (digest.getCount() == 0) {
+            out.append(title).append(": none\n");
+            return;
+        }
+        out.append(String.format("%s: n=%d mean=%.1f min=%.0f", title, digest.getCount(), digest.getMean(), digest.getMin()));
+        for (double quantile : QUANTILES) {
+            out.append(String.format(" p%s=%.0f", BigDecimal.valueOf(quantile * 100).stripTrailingZeros()
+                    .toPlainString(), digest.quantile(quantile)));
+        }
+        out.append(String.format(" max=%.0f%n", digest.getMax()));
+    }
+}
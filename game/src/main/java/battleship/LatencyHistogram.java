@@ -0,0 +1,125 @@
+package battleship;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summative Game Latency Histogram(Battleship)
+ *
+ * Counts durations in nanoseconds in buckets that grow with the value, like an HDR histogram:
+ * below 64 ns every value has its own bucket, and above that each power of two is split into
+ * 32 buckets, so any percentile read back is within about 3% of the true value. The buckets are
+ * allocated once (under 2000 longs), recording is one atomic add and never allocates, and any
+ * number of threads can record at once. Reading while others record gives a slightly blurred
+ * but still sensible picture.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class LatencyHistogram {
+    // Each power of two above 2 * SUB_BUCKETS is split into SUB_BUCKETS buckets
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    // Enough buckets for any positive long
+    private static final int BUCKETS = bucket(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one duration. Negative durations (a clock that went backwards) count as 0.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * @return number of durations recorded
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return total of the durations recorded, in nanoseconds
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return longest duration recorded, in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Works out a percentile from the buckets.
+     *
+     * @param fraction The fraction of durations at or below the answer, e.g. 0.99
+     * @return the top of the bucket holding that percentile, in nanoseconds, or 0 if nothing was recorded
+     */
+    public long percentile(double fraction) {
+        long total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            total += counts.get(b);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts.get(b);
+            if (seen >= rank) {
+                return Math.min(highest(b), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Forgets every duration recorded.
+     */
+    public void reset() {
+        for (int b = 0; b < BUCKETS; b++) {
+            counts.set(b, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    // The bucket a value goes in.
+    static int bucket(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    // The largest value that goes in a bucket.
+    static long highest(int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long top = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        return ((top + 1) << shift) - 1;
+    }
+}
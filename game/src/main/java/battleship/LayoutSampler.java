@@ -0,0 +1,642 @@
+package battleship;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Summative Game Layout Sampler(Battleship)
+ *
+ * Estimates how likely each cell is to hold a ship by drawing random layouts of the ships still
+ * afloat that fit everything seen so far. Listing every layout like the EndgameSolver stops
+ * working on big boards, but sampling keeps working on a 30x30 board or larger.
+ *
+ * Each worker builds a starting layout by placing ships over the hits first (a hit can only be
+ * covered by the few placements that go through it), then the rest at random, starting again if
+ * it gets stuck. From there it runs a Markov chain, where each step is one of these moves:
+ *   - A ship not over any hit is proposed a random position and moves if it fits there.
+ *   - A ship over hits can only go through those hits, so it moves to one of the few positions
+ *     that do, picked evenly (at least its old position is one of them).
+ *   - Two ships are lifted and dropped at random positions, and the move is kept if every hit is
+ *     still covered. This is what lets a hit pass from a ship to one not over any hit.
+ *   - Every ship over a hit near a random hit is lifted, and one of all the ways those ships can
+ *     cover their hits again is picked evenly. This shuffles a tight cluster of hits between its
+ *     ships, which one or two random moves almost never manage.
+ * Each kind of step leaves every layout that fits equally likely, so in the long run the counts
+ * are the true chances. After every step the ship cells of the current layout are counted.
+ *
+ * Workers run in parallel on a fork/join pool, each with its own split of the random number
+ * generator, and stop at a deadline; whatever has been counted by then is the estimate.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class LayoutSampler {
+    // Times a worker starts its first layout again before giving up
+    private static final int START_ATTEMPTS = 64;
+    // Random positions tried for a ship before looking through all of them
+    private static final int RANDOM_TRIES = 16;
+    // Steps a worker takes between looks at the clock
+    private static final int CLOCK_STEPS = 64;
+    // Most ship positions a cluster step will try before leaving the cluster as it is
+    private static final int MAX_CLUSTER_TRIES = 2048;
+
+    /**
+     * The counts from one round of sampling.
+     */
+    public static class Estimate {
+        private final long[] counts;
+        private final long samples;
+        private final long accepted;
+        private final long nanos;
+
+        private Estimate(long[] counts, long samples, long accepted, long nanos) {
+            this.counts = counts;
+            this.samples = samples;
+            this.accepted = accepted;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @param cell The cell index
+         * @return the share of sampled layouts with a ship part on the cell
+         */
+        public double probability(int cell) {
+            return samples == 0 ? 0 : (double) counts[cell] / samples;
+        }
+
+        /**
+         * @param cell The cell index
+         * @return number of sampled layouts with a ship part on the cell
+         */
+        public long getCount(int cell) {
+            return counts[cell];
+        }
+
+        /**
+         * @return number of layouts counted
+         */
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * @return the share of proposed moves that were kept
+         */
+        public double getAcceptRate() {
+            return samples == 0 ? 0 : (double) accepted / samples;
+        }
+
+        /**
+         * @return time taken, in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return the estimate's statistics on one line
+         */
+        @Override
+        public String toString() {
+            return String.format("%d samples in %.1f ms (%.0f samples/s), %.1f%% of moves kept", samples, nanos / 1e6,
+                    samples / Math.max(1e-9, nanos / 1e9), 100 * getAcceptRate());
+        }
+    }
+
+    private final int rows;
+    private final int cols;
+    private final int cells;
+    private final int threads;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for a sampler using every thread of the common fork/join pool.
+     *
+     * @param rows number of rows on the board
+     * @param cols number of columns on the board
+     */
+    public LayoutSampler(int rows, int cols) {
+        this(rows, cols, ForkJoinPool.commonPool().getParallelism(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for a sampler with its own number of workers.
+     *
+     * @param rows number of rows on the board
+     * @param cols number of columns on the board
+     * @param threads number of workers sampling at once
+     * @param pool Where the workers run
+     */
+    public LayoutSampler(int rows, int cols, int threads, ForkJoinPool pool) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = rows * cols;
+        this.threads = Math.max(1, threads);
+        this.pool = pool;
+    }
+
+    /**
+     * Samples layouts until the time budget runs out.
+     *
+     * @param hits The cells hit on ships still afloat, one bit per cell (cell >>> 6 is the word)
+     * @param blocked The cells that cannot hold those ships: misses and the cells of sunk ships
+     * @param fleet The lengths of the ships still afloat
+     * @param budgetNanos How long to sample for
+     * @param seed Where the workers' random numbers start
+     * @return the counts; no samples at all if no layout could be found
+     */
+    public Estimate sample(long[] hits, long[] blocked, int[] fleet, long budgetNanos, long seed) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<ForkJoinTask<Worker>> tasks = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Worker worker = new Worker(hits, blocked, fleet, seeds.split());
+            tasks.add(pool.submit(() -> worker.run(deadline), worker));
+        }
+        long[] counts = new long[cells];
+        long samples = 0;
+        long accepted = 0;
+        for (ForkJoinTask<Worker> task : tasks) {
+            Worker worker = task.join();
+            for (int c = 0; c < cells; c++) {
+                counts[c] += worker.counts[c];
+            }
+            samples += worker.samples;
+            accepted += worker.accepted;
+        }
+        return new Estimate(counts, samples, accepted, System.nanoTime() - start);
+    }
+
+    // One chain of layouts, with everything it needs so workers share nothing while they run.
+    private final class Worker {
+        private final long[] hits;
+        private final long[] blocked;
+        private final int[] fleet;
+        private final SplittableRandom rng;
+
+        // The ship on each cell (ship index + 1, or 0), and each ship's first cell and direction
+        private final int[] owner = new int[cells];
+        private final int[] shipStart;
+        private final boolean[] shipVertical;
+
+        // The hit cells, so uncovered ones can be found quickly while building a layout
+        private final int[] hitCells;
+
+        // Scratch for a step: the hits a ship covers, and the positions it could move to (~start if vertical)
+        private final int[] orphan;
+        private final int[] choices;
+
+        // Scratch for a cluster step: its ships, which are placed, where they were and where they go,
+        // the hits they must cover, the window around the chosen hit, and the arrangements seen so far
+        private final int[] cluster;
+        private final boolean[] inCluster;
+        private final int[] oldStarts;
+        private final boolean[] oldVerticals;
+        private final int[] chosenStarts;
+        private final boolean[] chosenVerticals;
+        private final int[] required;
+        private final int longest;
+        private int clusterSize;
+        private int requiredCount;
+        private int windowRow;
+        private int windowCol;
+        private int windowRadius;
+        private int arrangements;
+        private int tries;
+
+        final long[] counts = new long[cells];
+        long samples;
+        long accepted;
+
+        Worker(long[] hits, long[] blocked, int[] fleet, SplittableRandom rng) {
+            this.hits = hits;
+            this.blocked = blocked;
+            this.fleet = fleet.clone();
+            this.rng = rng;
+            shipStart = new int[fleet.length];
+            shipVertical = new boolean[fleet.length];
+            int hitCount = 0;
+            for (long word : hits) {
+                hitCount += Long.bitCount(word);
+            }
+            hitCells = new int[hitCount];
+            int longestShip = 1;
+            for (int length : fleet) {
+                longestShip = Math.max(longestShip, length);
+            }
+            longest = longestShip;
+            orphan = new int[longest];
+            choices = new int[2 * longest];
+            cluster = new int[fleet.length];
+            inCluster = new boolean[fleet.length];
+            oldStarts = new int[fleet.length];
+            oldVerticals = new boolean[fleet.length];
+            chosenStarts = new int[fleet.length];
+            chosenVerticals = new boolean[fleet.length];
+            required = new int[hitCount];
+            int h = 0;
+            for (int w = 0; w < hits.length; w++) {
+                for (long bits = hits[w]; bits != 0; bits &= bits - 1) {
+                    hitCells[h++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+        }
+
+        // Builds a starting layout, then takes steps and counts layouts until the deadline.
+        void run(long deadline) {
+            boolean started = false;
+            for (int attempt = 0; attempt < START_ATTEMPTS && !started; attempt++) {
+                started = buildLayout();
+            }
+            if (!started || fleet.length == 0) {
+                return;
+            }
+            while (System.nanoTime() - deadline < 0) {
+                for (int s = 0; s < CLOCK_STEPS; s++) {
+                    step();
+                    count();
+                }
+            }
+        }
+
+        // Places ships over every hit first, then the rest anywhere they fit. Returns false if it got stuck.
+        private boolean buildLayout() {
+            Arrays.fill(owner, 0);
+            boolean[] placed = new boolean[fleet.length];
+
+            // Cover the hits one at a time, in a random order
+            int[] order = hitCells.clone();
+            for (int i = order.length - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            for (int hit : order) {
+                if (owner[hit] != 0) {
+                    continue;
+                }
+                // Count every unplaced ship and position through the hit, then pick one of them
+                int options = 0;
+                for (int pass = 0; pass < 2; pass++) {
+                    int pick = pass == 1 ? rng.nextInt(options) : -1;
+                    for (int ship = 0; ship < fleet.length && pick != -2; ship++) {
+                        if (placed[ship]) {
+                            continue;
+                        }
+                        int length = fleet[ship];
+                        for (int d = 0; d < 2 && pick != -2; d++) {
+                            boolean vertical = d == 1;
+                            for (int k = 0; k < length; k++) {
+                                int start = vertical ? hit - k * cols : hit - k;
+                                if (!fits(-1, start, vertical, length)) {
+                                    continue;
+                                }
+                                if (pass == 0) {
+                                    options++;
+                                } else if (pick-- == 0) {
+                                    put(ship, start, vertical, length);
+                                    placed[ship] = true;
+                                    pick = -2;
+                                    break;
+                                }
+                            }
+                        }
+                    }
+                    if (options == 0) {
+                        return false;
+                    }
+                }
+            }
+
+            // Then every other ship anywhere it fits (the hits are taken by now, so it cannot go over one)
+            for (int ship = 0; ship < fleet.length; ship++) {
+                if (!placed[ship] && !placeAnywhere(ship)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Puts a ship at a random free position; returns false if there is none.
+        private boolean placeAnywhere(int ship) {
+            int length = fleet[ship];
+            for (int tries = 0; tries < RANDOM_TRIES; tries++) {
+                int start = rng.nextInt(cells);
+                boolean vertical = rng.nextBoolean();
+                if (fits(-1, start, vertical, length)) {
+                    put(ship, start, vertical, length);
+                    return true;
+                }
+            }
+            // Crowded: count the free positions and pick one
+            int options = 0;
+            for (int start = 0; start < cells * 2; start++) {
+                if (fits(-1, start >> 1, (start & 1) == 1, length)) {
+                    options++;
+                }
+            }
+            if (options == 0) {
+                return false;
+            }
+            int pick = rng.nextInt(options);
+            for (int start = 0; ; start++) {
+                if (fits(-1, start >> 1, (start & 1) == 1, length) && pick-- == 0) {
+                    put(ship, start >> 1, (start & 1) == 1, length);
+                    return true;
+                }
+            }
+        }
+
+        // One Markov chain step: a cluster of ships over hits, a pair of ships, or a single ship.
+        private void step() {
+            int kind = rng.nextInt(4);
+            if (kind == 0 && hitCells.length > 0) {
+                stepCluster();
+                return;
+            }
+            if (kind == 1 && fleet.length > 1) {
+                stepPair();
+                return;
+            }
+            int ship = rng.nextInt(fleet.length);
+            int length = fleet[ship];
+            int oldStart = shipStart[ship];
+            boolean oldVertical = shipVertical[ship];
+
+            // Find the hits only this ship covers (no two ships share a cell, so that is every hit it covers)
+            int orphans = 0;
+            int step = oldVertical ? cols : 1;
+            for (int k = 0, c = oldStart; k < length; k++, c += step) {
+                if (isSet(hits, c)) {
+                    orphan[orphans++] = c;
+                }
+            }
+            if (orphans == 0) {
+                // A free ship: propose any position and keep it if it fits
+                int start = rng.nextInt(cells);
+                boolean vertical = rng.nextBoolean();
+                if (fits(ship, start, vertical, length)) {
+                    lift(ship);
+                    put(ship, start, vertical, length);
+                    accepted++;
+                }
+                return;
+            }
+
+            // A ship over hits can only go through them, so pick evenly among the few positions that do
+            lift(ship);
+            int options = 0;
+            for (int d = 0; d < 2; d++) {
+                boolean vertical = d == 1;
+                for (int k = 0; k < length; k++) {
+                    int start = vertical ? orphan[0] - k * cols : orphan[0] - k;
+                    if (fits(-1, start, vertical, length) && coversAll(start, vertical, length, orphans)) {
+                        choices[options++] = vertical ? ~start : start;
+                    }
+                }
+            }
+            // The ship's old position is always one of them
+            int choice = choices[rng.nextInt(options)];
+            put(ship, choice < 0 ? ~choice : choice, choice < 0, length);
+            if (choice != (oldVertical ? ~oldStart : oldStart)) {
+                accepted++;
+            }
+        }
+
+        // Whether a ship at a position covers the first `orphans` cells of orphan.
+        private boolean coversAll(int start, boolean vertical, int length, int orphans) {
+            for (int i = 0; i < orphans; i++) {
+                if (!covers(start, vertical, length, orphan[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Lifts two ships and drops them at random positions; undoes it unless every hit is still covered.
+        private void stepPair() {
+            int first = rng.nextInt(fleet.length);
+            int second = rng.nextInt(fleet.length - 1);
+            second += second >= first ? 1 : 0;
+            int oldFirst = shipStart[first];
+            boolean oldFirstVertical = shipVertical[first];
+            int oldSecond = shipStart[second];
+            boolean oldSecondVertical = shipVertical[second];
+            lift(first);
+            lift(second);
+
+            int start = rng.nextInt(cells);
+            boolean vertical = rng.nextBoolean();
+            int start2 = rng.nextInt(cells);
+            boolean vertical2 = rng.nextBoolean();
+            if (fits(-1, start, vertical, fleet[first])) {
+                put(first, start, vertical, fleet[first]);
+                if (fits(-1, start2, vertical2, fleet[second])) {
+                    put(second, start2, vertical2, fleet[second]);
+                    if (hitsCovered()) {
+                        accepted++;
+                        return;
+                    }
+                    lift(second);
+                }
+                lift(first);
+            }
+            put(first, oldFirst, oldFirstVertical, fleet[first]);
+            put(second, oldSecond, oldSecondVertical, fleet[second]);
+        }
+
+        // Lifts every ship over a hit in the window around a random hit, and puts them back in one of
+        // all the arrangements where each still covers a hit in the window and together they cover
+        // every hit they covered before. Those ships and arrangements are the same whichever of them
+        // the chain is in, so picking evenly keeps every layout equally likely.
+        private void stepCluster() {
+            int hit = hitCells[rng.nextInt(hitCells.length)];
+            windowRow = hit / cols;
+            windowCol = hit % cols;
+            windowRadius = rng.nextInt(longest);
+            clusterSize = 0;
+            requiredCount = 0;
+            for (int ship = 0; ship < fleet.length; ship++) {
+                inCluster[ship] = coversWindowHit(ship);
+                if (inCluster[ship]) {
+                    oldStarts[clusterSize] = shipStart[ship];
+                    oldVerticals[clusterSize] = shipVertical[ship];
+                    cluster[clusterSize++] = ship;
+                    int step = shipVertical[ship] ? cols : 1;
+                    for (int k = 0, c = shipStart[ship]; k < fleet[ship]; k++, c += step) {
+                        if (isSet(hits, c)) {
+                            required[requiredCount++] = c;
+                        }
+                    }
+                }
+            }
+            // In cell order, so every layout in the block walks the same search
+            Arrays.sort(required, 0, requiredCount);
+            for (int i = 0; i < clusterSize; i++) {
+                lift(cluster[i]);
+            }
+            arrangements = 0;
+            tries = 0;
+            int length = 0;
+            for (int i = 0; i < clusterSize; i++) {
+                length += fleet[cluster[i]];
+            }
+            arrange(0, length);
+            boolean keep = tries > MAX_CLUSTER_TRIES;
+            for (int i = 0; i < clusterSize; i++) {
+                int ship = cluster[i];
+                if (keep) {
+                    put(ship, oldStarts[i], oldVerticals[i], fleet[ship]);
+                } else {
+                    put(ship, chosenStarts[i], chosenVerticals[i], fleet[ship]);
+                    accepted += chosenStarts[i] != oldStarts[i] || chosenVerticals[i] != oldVerticals[i] ? 1 : 0;
+                }
+            }
+        }
+
+        // Places the cluster's ships over its first uncovered required hit, one ship at a time, and
+        // keeps one finished arrangement picked evenly (reservoir sampling) in chosenStarts.
+        // `length` is the total length of the ships not placed yet.
+        private void arrange(int placed, int length) {
+            if (tries > MAX_CLUSTER_TRIES) {
+                return;
+            }
+            int target = -1;
+            int uncovered = 0;
+            for (int r = 0; r < requiredCount; r++) {
+                if (owner[required[r]] == 0) {
+                    target = target < 0 ? required[r] : target;
+                    uncovered++;
+                }
+            }
+            if (uncovered > length) {
+                return;
+            }
+            if (target < 0) {
+                if (placed == clusterSize) {
+                    if (rng.nextInt(++arrangements) == 0) {
+                        for (int i = 0; i < clusterSize; i++) {
+                            chosenStarts[i] = shipStart[cluster[i]];
+                            chosenVerticals[i] = shipVertical[cluster[i]];
+                        }
+                    }
+                }
+                return;
+            }
+            for (int i = 0; i < clusterSize; i++) {
+                int ship = cluster[i];
+                if (!inCluster[ship]) {
+                    continue;
+                }
+                int shipLength = fleet[ship];
+                inCluster[ship] = false;
+                for (int d = 0; d < 2; d++) {
+                    boolean vertical = d == 1;
+                    for (int k = 0; k < shipLength; k++) {
+                        int start = vertical ? target - k * cols : target - k;
+                        if (covers(start, vertical, shipLength, target) && fits(-1, start, vertical, shipLength)) {
+                            tries++;
+                            put(ship, start, vertical, shipLength);
+                            // Every ship in the cluster has to stay over a hit in the window
+                            if (coversWindowHit(ship)) {
+                                arrange(placed + 1, length - shipLength);
+                            }
+                            lift(ship);
+                        }
+                    }
+                }
+                inCluster[ship] = true;
+            }
+        }
+
+        // Whether a ship covers a hit within windowRadius rows and columns of the chosen hit.
+        private boolean coversWindowHit(int ship) {
+            int step = shipVertical[ship] ? cols : 1;
+            for (int k = 0, c = shipStart[ship]; k < fleet[ship]; k++, c += step) {
+                if (isSet(hits, c) && Math.abs(c / cols - windowRow) <= windowRadius
+                        && Math.abs(c % cols - windowCol) <= windowRadius) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean hitsCovered() {
+            for (int hit : hitCells) {
+                if (owner[hit] == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Takes a ship off the board.
+        private void lift(int ship) {
+            int step = shipVertical[ship] ? cols : 1;
+            for (int k = 0, c = shipStart[ship]; k < fleet[ship]; k++, c += step) {
+                owner[c] = 0;
+            }
+        }
+
+        // Counts the current layout's ship cells.
+        private void count() {
+            for (int ship = 0; ship < fleet.length; ship++) {
+                int step = shipVertical[ship] ? cols : 1;
+                for (int k = 0, c = shipStart[ship]; k < fleet[ship]; k++, c += step) {
+                    counts[c]++;
+                }
+            }
+            samples++;
+        }
+
+        // Whether a ship fits at a position: on the board, off blocked cells, and only on cells free or
+        // already its own (ship -1 for a ship not on the board yet).
+        private boolean fits(int ship, int start, boolean vertical, int length) {
+            if (start < 0 || start >= cells) {
+                return false;
+            }
+            int row = start / cols;
+            int col = start % cols;
+            if (vertical ? row + length > rows : col + length > cols) {
+                return false;
+            }
+            int step = vertical ? cols : 1;
+            for (int k = 0, c = start; k < length; k++, c += step) {
+                if (isSet(blocked, c) || (owner[c] != 0 && owner[c] != ship + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Whether a ship at a position covers a cell.
+        private boolean covers(int start, boolean vertical, int length, int cell) {
+            if (vertical) {
+                int offset = cell - start;
+                return offset >= 0 && offset % cols == 0 && offset / cols < length;
+            }
+            return cell >= start && cell < start + length && cell / cols == start / cols;
+        }
+
+        private void put(int ship, int start, boolean vertical, int length) {
+            shipStart[ship] = start;
+            shipVertical[ship] = vertical;
+            int step = vertical ? cols : 1;
+            for (int k = 0, c = start; k < length; k++, c += step) {
+                owner[c] = ship + 1;
+            }
+        }
+    }
+
+    private static boolean isSet(long[] mask, int cell) {
+        return (mask[cell >>> 6] & (1L << cell)) != 0;
+    }
+}
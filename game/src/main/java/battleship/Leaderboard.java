@@ -0,0 +1,329 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Summative Game Leaderboard(Battleship)
+ *
+ * Takes finished games' scores from any thread and keeps the best scores together with the
+ * name of the top scorer. Every change is made by one PersistenceWriter thread, which appends
+ * the scores waiting in its queue to the ScoreStore in one batch, saves the top scorer at most
+ * once for the batch, and then publishes a new immutable Snapshot in a volatile field, so readers
+ * never lock and never see the scores and the top scorer's name out of step.
+ *
+ * The score file is forced to disk according to -Dbattleship.fsync (interval by default, at
+ * most every SYNC_INTERVAL_MILLIS; always makes every completed submit durable). close() writes
+ * and forces everything already submitted, so no score is lost when the game exits.
+ *
+ * The top scorer is saved to topScorer.txt (name, then score) by writing a temporary file and
+ * renaming it over the old one, while holding a lock on topScorer.txt.lock. Other games sharing
+ * the folder therefore never see a half-written file, and a lower score never replaces a higher one.
+ * If that file cannot be written, the error is reported but the scores still count as saved.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class Leaderboard implements AutoCloseable {
+    // FileLock is held per JVM, so leaderboards in the same JVM also take turns on this
+    private static final Object FILE_LOCK = new Object();
+
+    // Scores that can wait to be written before submit() makes the caller wait too
+    private static final int QUEUE_CAPACITY = 1024;
+    // Most scores written in one batch
+    private static final int MAX_BATCH = 256;
+    // Longest a written score waits to be forced to disk under FsyncPolicy.INTERVAL
+    private static final long SYNC_INTERVAL_MILLIS = 100;
+
+    // A submitted score, waiting to be written
+    private static final class Entry {
+        private final int score;
+        private final String name;
+        private final long timestamp;
+
+        Entry(int score, String name, long timestamp) {
+            this.score = score;
+            this.name = name;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * The leaderboard at one moment. Never changes once published.
+     */
+    public static class Snapshot {
+        private final List<ScoreStore.Score> scores;
+        private final String topScorer;
+        private final int topScore;
+        private final long submissions;
+
+        /**
+         * @param scores the best scores, best first
+         * @param topScorer name of the top scorer, or null if there is none yet
+         * @param topScore the top scorer's score
+         * @param submissions number of scores submitted to this leaderboard
+         */
+        public Snapshot(List<ScoreStore.Score> scores, String topScorer, int topScore, long submissions) {
+            this.scores = List.copyOf(scores);
+            this.topScorer = topScorer;
+            this.topScore = topScore;
+            this.submissions = submissions;
+        }
+
+        /**
+         * @return the best scores, best first
+         */
+        public List<ScoreStore.Score> getScores() {
+            return scores;
+        }
+
+        /**
+         * @return name of the top scorer, or null if there is none yet
+         */
+        public String getTopScorer() {
+            return topScorer;
+        }
+
+        /**
+         * @return the top scorer's score, or Integer.MIN_VALUE if it is not known
+         */
+        public int getTopScore() {
+            return topScore;
+        }
+
+        /**
+         * @return number of scores submitted to this leaderboard when the snapshot was taken
+         */
+        public long getSubmissions() {
+            return submissions;
+        }
+    }
+
+    private final ScoreStore store;
+    private final Path topScorerFile;
+    private final Path lockFile;
+    private final PersistenceWriter.FsyncPolicy policy;
+    private final PersistenceWriter<Entry, Snapshot> writer;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a leaderboard over a score store, loading the current top scorer from the file.
+     * The fsync policy comes from -Dbattleship.fsync, interval if it is not set.
+     *
+     * @param store Where the scores are kept; only the leaderboard's writer thread uses it from now on
+     * @param topScorerFile The shared top scorer file
+     */
+    public Leaderboard(ScoreStore store, Path topScorerFile) {
+        this(store, topScorerFile, PersistenceWriter.FsyncPolicy.fromSystemProperties(PersistenceWriter.FsyncPolicy.INTERVAL));
+    }
+
+    /**
+     * Creates a leaderboard over a score store, loading the current top scorer from the file.
+     *
+     * @param store Where the scores are kept; only the leaderboard's writer thread uses it from now on
+     * @param topScorerFile The shared top scorer file
+     * @param policy When written scores are forced to disk
+     */
+    public Leaderboard(ScoreStore store, Path topScorerFile, PersistenceWriter.FsyncPolicy policy) {
+        this.store = store;
+        this.topScorerFile = topScorerFile.toAbsolutePath();
+        this.lockFile = this.topScorerFile.resolveSibling(this.topScorerFile.getFileName() + ".lock");
+        this.policy = policy;
+
+        String topScorer = null;
+        int topScore = Integer.MIN_VALUE;
+        try {
+            String[] holder = readTopScorer();
+            if (holder != null) {
+                topScorer = holder[0];
+                topScore = holder.length > 1 ? Integer.parseInt(holder[1]) : store.bestScore();
+            }
+        } catch (IOException | NumberFormatException exception) {
+            System.err.println("Java Exception: " + exception);
+            Metrics.error("scores");
+        }
+        snapshot = new Snapshot(store.top(), topScorer, topScore, 0);
+
+        writer = new PersistenceWriter<>("leaderboard", new PersistenceWriter.Sink<>() {
+            @Override
+            public Snapshot write(List<Entry> batch) throws IOException {
+                long start = Metrics.start();
+                try {
+                    return update(batch);
+                } catch (IOException ioException) {
+                    Metrics.error("scores");
+                    throw ioException;
+                } finally {
+                    Metrics.stop(Metrics.Timer.SCORE_IO, start);
+                }
+            }
+
+            @Override
+            public void sync() {
+                store.force();
+            }
+
+            @Override
+            public void close() throws IOException {
+                store.close();
+            }
+        }, QUEUE_CAPACITY, MAX_BATCH, policy, SYNC_INTERVAL_MILLIS);
+        Metrics.gauge(Metrics.Gauge.SCORE_QUEUE_DEPTH, () -> writer.getStats().getQueueDepth());
+        Metrics.gauge(Metrics.Gauge.SCORE_QUEUE_MAX_DEPTH, () -> writer.getStats().getMaxQueueDepth());
+    }
+
+    /**
+     * Returns the latest snapshot. Never blocks.
+     *
+     * @return the current leaderboard
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Queues a finished game's score. The writer thread stores it with the others waiting,
+     * updates the top scorer if the score is at least as good as the best so far, and publishes
+     * a new snapshot. Waits while QUEUE_CAPACITY scores are already waiting.
+     *
+     * @param score The score
+     * @param name The player's name
+     * @param timestamp when the game ended, in milliseconds since 1970
+     * @return completes with the snapshot that includes this score (and the rest of its batch)
+     */
+    public CompletableFuture<Snapshot> submit(int score, String name, long timestamp) {
+        String cleanName = name == null ? "" : name.replace('\n', ' ').replace('\r', ' ');
+        return writer.submit(new Entry(score, cleanName, timestamp));
+    }
+
+    /**
+     * @return how many scores have been written, in how many batches, and how many are waiting
+     */
+    public PersistenceWriter.Stats getStats() {
+        return writer.getStats();
+    }
+
+    /**
+     * Writes the queued scores and forces them to disk, then closes the score store.
+     *
+     * @throws IOException if the store cannot be forced or closed
+     */
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    // Runs on the writer thread only, so the store and the snapshot always change together.
+    private Snapshot update(List<Entry> batch) throws IOException {
+        Snapshot old = snapshot;
+        int best = store.bestScore();
+        // The last score in the batch at least as good as everything before it takes the title,
+        // as it would have if the scores had been written one at a time
+        Entry title = old.topScorer == null ? batch.get(0) : null;
+        int written = 0;
+        try {
+            for (Entry entry : batch) {
+                store.append(entry.score, entry.name, entry.timestamp);
+                written++;
+                if (entry.score >= best) {
+                    best = entry.score;
+                    title = entry;
+                }
+            }
+        } finally {
+            // Readers see every score that is in the store, even if a later one could not be written
+            snapshot = new Snapshot(store.top(), old.topScorer, old.topScore, old.submissions + written);
+        }
+
+        if (title != null) {
+            // The scores are saved whether or not the top scorer file can be written, so a failure
+            // there is reported here instead of failing the batch
+            String topScorer = title.name;
+            int topScore = title.score;
+            try {
+                String[] holder = saveTopScorer(title.name, title.score);
+                topScorer = holder[0];
+                topScore = Integer.parseInt(holder[1]);
+            } catch (IOException exception) {
+                System.err.println("Java Exception: " + exception);
+                System.out.println("Sorry, could not save the top scorer to " + topScorerFile.getFileName() + ".");
+                Metrics.error("scores");
+            }
+            snapshot = new Snapshot(snapshot.scores, topScorer, topScore, snapshot.submissions);
+        }
+        return snapshot;
+    }
+
+    // Replaces the top scorer file unless another game has already saved a higher score.
+    // Returns the name and score held in the file afterwards.
+    private String[] saveTopScorer(String name, int score) throws IOException {
+        synchronized (FILE_LOCK) {
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = lockChannel.lock();
+                try {
+                    return replaceTopScorer(name, score);
+                } finally {
+                    lock.release();
+                }
+            } catch (NumberFormatException exception) {
+                throw new IOException(topScorerFile + " has a bad score line", exception);
+            }
+        }
+    }
+
+    // Does the work of saveTopScorer while it holds the lock.
+    private String[] replaceTopScorer(String name, int score) throws IOException {
+        String[] onDisk = readTopScorer();
+        if (onDisk != null && onDisk.length > 1 && Integer.parseInt(onDisk[1]) > score) {
+            return onDisk;
+        }
+        Path temp = Files.createTempFile(topScorerFile.getParent(), "topScorer", ".tmp");
+        try {
+            Files.write(temp, List.of(name, Integer.toString(score)), StandardCharsets.UTF_8);
+            if (policy != PersistenceWriter.FsyncPolicy.NEVER) {
+                // So the rename never leaves an empty file behind after a crash
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(temp, topScorerFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temp, topScorerFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return new String[] {name, Integer.toString(score)};
+    }
+
+    // Reads the name (and, in files written by this class, the score) from the top scorer file.
+    // Returns null if the file is missing or empty.
+    private String[] readTopScorer() throws IOException {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(topScorerFile, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException exception) {
+            return null;
+        }
+        if (lines.isEmpty()) {
+            return null;
+        }
+        if (lines.size() == 1 || lines.get(1).trim().isEmpty()) {
+            return new String[] {lines.get(0)};
+        }
+        return new String[] {lines.get(0), lines.get(1).trim()};
+    }
+}
@@ -1,3 +1,7 @@
+package battleship;
+
+import javax.swing.SwingUtilities;
+
 /**
  * Summative Game Main file(Battleship)
  *
@@ -9,11 +13,14 @@
 
 public class Main {
     /**
-     * This is the main method. Instantiates the game window and makes it visible.
+     * This is the main method. Instantiates the game window and makes it visible,
+     * on the event thread as Swing requires.
      */
     public static void main(String[] args) {
+        SwingUtilities.invokeLater(() -> {
             GameWindow gameWindow = new GameWindow();
             gameWindow.setVisible(true);
+        });
     }
 }
 
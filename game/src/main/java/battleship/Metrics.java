@@ -0,0 +1,352 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Summative Game Metrics(Battleship)
+ *
+ * Where the game's time goes and what went wrong, in one place. Each Timer keeps a
+ * LatencyHistogram (shot handling, the computer's move, repaints, sound loading and start-up,
+ * score file writes, and the time to the first frame and first shot) and also sends a JFR
+ * event, so a flight recording shows every timing on the threads that took it. Counters keep
+ * totals such as shots and hits. Gauges read a current value (such as how many scores are
+ * waiting to be written) when the metrics are shown, and errors are counted by area as well as printed.
+ *
+ * The numbers can be read as Prometheus text: served over HTTP on localhost when the game is
+ * started with -Dbattleship.metrics.port=9464 (see MetricsServer), and written to a file when
+ * it exits with -Dbattleship.metrics.file=metrics.txt. -Dbattleship.metrics.print=true also prints
+ * the reports the game keeps for itself to the console.
+ *
+ * -Dbattleship.metrics=false turns it all off. ENABLED is a static final, so the JIT compiles
+ * the timing calls away and nothing is left on the hot path, not even the clock reads.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public final class Metrics {
+    // Read once; the JIT treats it as a constant
+    public static final boolean ENABLED = !"false".equals(System.getProperty("battleship.metrics"));
+
+    // -Dbattleship.metrics.print=true also prints the game's own reports (such as the computer's
+    // reply times after each game) to the console; otherwise they are only in the metrics
+    public static final boolean PRINT = Boolean.getBoolean("battleship.metrics.print");
+
+    // Percentiles shown in the Prometheus text
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    /**
+     * The durations the game measures.
+     */
+    public enum Timer {
+        SHOT("battleship_shot_seconds", "Time to handle one of the player's shots"),
+        AI_MOVE("battleship_ai_move_seconds", "Time the computer takes to pick a shot"),
+        REPAINT("battleship_repaint_seconds", "Time to paint one board"),
+        SOUND_LOAD("battleship_sound_load_seconds", "Time to load and open every sound effect"),
+        SOUND_START("battleship_sound_start_seconds", "Time from asking for a sound to its clip starting"),
+        SCORE_IO("battleship_score_io_seconds", "Time to write one batch of scores and the top scorer"),
+        FIRST_FRAME("battleship_first_frame_seconds", "Time from the JVM starting to the boards first being painted"),
+        FIRST_SHOT("battleship_first_shot_seconds", "Time from the JVM starting to the player's first shot being handled");
+
+        private final String metricName;
+        private final String help;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        Timer(String metricName, String help) {
+            this.metricName = metricName;
+            this.help = help;
+        }
+
+        /**
+         * @return the durations recorded so far
+         */
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+
+    /**
+     * The totals the game keeps.
+     */
+    public enum Counter {
+        PLAYER_SHOTS("battleship_player_shots_total", "Shots the player fired"),
+        PLAYER_HITS("battleship_player_hits_total", "Player shots that hit a ship"),
+        COMPUTER_SHOTS("battleship_computer_shots_total", "Shots the computer fired"),
+        COMPUTER_HITS("battleship_computer_hits_total", "Computer shots that hit a ship"),
+        GAMES("battleship_games_total", "Games finished");
+
+        private final String metricName;
+        private final String help;
+        private final LongAdder total = new LongAdder();
+
+        Counter(String metricName, String help) {
+            this.metricName = metricName;
+            this.help = help;
+        }
+
+        /**
+         * @return the total so far
+         */
+        public long get() {
+            return total.sum();
+        }
+    }
+
+    /**
+     * The values the game reads when the metrics are shown, from whatever set them last.
+     */
+    public enum Gauge {
+        SCORE_QUEUE_DEPTH("battleship_score_queue_depth", "Scores waiting to be written"),
+        SCORE_QUEUE_MAX_DEPTH("battleship_score_queue_max_depth", "Most scores that have waited to be written at once");
+
+        private final String metricName;
+        private final String help;
+        private volatile LongSupplier source = () -> 0L;
+
+        Gauge(String metricName, String help) {
+            this.metricName = metricName;
+            this.help = help;
+        }
+
+        /**
+         * @return the current value
+         */
+        public long get() {
+            return source.getAsLong();
+        }
+    }
+
+    /**
+     * A JFR event for one timing; JDK Mission Control shows them under Battleship.
+     */
+    @Name("battleship.Timing")
+    @Label("Battleship Timing")
+    @Category("Battleship")
+    @Description("One duration measured by the game")
+    static class TimingEvent extends Event {
+        @Label("Metric")
+        String metric;
+
+        // Not "duration": every JFR event already has that field, for begin() and end()
+        @Label("Time Taken")
+        @Timespan(Timespan.NANOSECONDS)
+        long nanos;
+    }
+
+    // Errors seen, by area (e.g. "scores", "replays")
+    private static final Map<String, LongAdder> ERRORS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    /**
+     * Reads the clock to time something, if metrics are on.
+     *
+     * @return the start time for stop(), or 0 when metrics are off
+     */
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the time since start().
+     *
+     * @param timer What was timed
+     * @param startNanos The value start() returned
+     */
+    public static void stop(Timer timer, long startNanos) {
+        if (ENABLED) {
+            record(timer, System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Records a duration measured elsewhere.
+     *
+     * @param timer What was timed
+     * @param nanos The duration in nanoseconds
+     */
+    public static void record(Timer timer, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        timer.histogram.record(nanos);
+        // Setting JFR up takes a few hundred milliseconds, so events are only made once a
+        // recording has started it (at launch or later with jcmd)
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        TimingEvent event = new TimingEvent();
+        if (event.isEnabled()) {
+            event.metric = timer.metricName;
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Adds one to a counter.
+     *
+     * @param counter The counter
+     */
+    public static void count(Counter counter) {
+        if (ENABLED) {
+            counter.total.increment();
+        }
+    }
+
+    /**
+     * Sets where a gauge reads its value from, replacing the last source.
+     *
+     * @param gauge The gauge
+     * @param source Gives the current value; called from the thread showing the metrics
+     */
+    public static void gauge(Gauge gauge, LongSupplier source) {
+        gauge.source = source;
+    }
+
+    /**
+     * Counts an error. Errors are rare, so this is not on any hot path.
+     *
+     * @param area Where it happened, e.g. "scores"
+     */
+    public static void error(String area) {
+        if (ENABLED) {
+            ERRORS.computeIfAbsent(area, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @param area Where errors happened
+     * @return number of errors counted there
+     */
+    public static long getErrors(String area) {
+        LongAdder errors = ERRORS.get(area);
+        return errors == null ? 0 : errors.sum();
+    }
+
+    /**
+     * Writes every metric in the Prometheus text format, durations in seconds.
+     *
+     * @param out Where to write
+     */
+    public static void writePrometheus(StringBuilder out) {
+        for (Timer timer : Timer.values()) {
+            LatencyHistogram histogram = timer.histogram;
+            out.append("# HELP ").append(timer.metricName).append(' ').append(timer.help).append('\n');
+            out.append("# TYPE ").append(timer.metricName).append(" summary\n");
+            for (double quantile : QUANTILES) {
+                out.append(timer.metricName).append("{quantile=\"").append(quantile).append("\"} ")
+                        .append(seconds(histogram.percentile(quantile))).append('\n');
+            }
+            out.append(timer.metricName).append("_sum ").append(seconds(histogram.getSum())).append('\n');
+            out.append(timer.metricName).append("_count ").append(histogram.getCount()).append('\n');
+            out.append("# HELP ").append(timer.metricName).append("_max Longest of: ").append(timer.help).append('\n');
+            out.append("# TYPE ").append(timer.metricName).append("_max gauge\n");
+            out.append(timer.metricName).append("_max ").append(seconds(histogram.getMax())).append('\n');
+        }
+        for (Counter counter : Counter.values()) {
+            out.append("# HELP ").append(counter.metricName).append(' ').append(counter.help).append('\n');
+            out.append("# TYPE ").append(counter.metricName).append(" counter\n");
+            out.append(counter.metricName).append(' ').append(counter.get()).append('\n');
+        }
+        for (Gauge gauge : Gauge.values()) {
+            out.append("# HELP ").append(gauge.metricName).append(' ').append(gauge.help).append('\n');
+            out.append("# TYPE ").append(gauge.metricName).append(" gauge\n");
+            out.append(gauge.metricName).append(' ').append(gauge.get()).append('\n');
+        }
+        out.append("# HELP battleship_errors_total Errors, by where they happened\n");
+        out.append("# TYPE battleship_errors_total counter\n");
+        for (Map.Entry<String, LongAdder> entry : new TreeMap<>(ERRORS).entrySet()) {
+            out.append("battleship_errors_total{area=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().sum()).append('\n');
+        }
+    }
+
+    /**
+     * @return every metric in the Prometheus text format
+     */
+    public static String prometheusText() {
+        StringBuilder out = new StringBuilder(4096);
+        writePrometheus(out);
+        return out.toString();
+    }
+
+    /**
+     * Writes every metric to a file in the Prometheus text format, replacing it in one step.
+     *
+     * @param file The file
+     * @throws IOException if the file cannot be written
+     */
+    public static void dump(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), "metrics", ".tmp");
+        try {
+            Files.write(temp, prometheusText().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Starts whatever export the system properties ask for: an HTTP endpoint on
+     * battleship.metrics.port and a file written at exit to battleship.metrics.file.
+     * Problems are printed and the game carries on without that export.
+     *
+     * @return the HTTP server, or null if none was started
+     */
+    public static MetricsServer exportFromSystemProperties() {
+        if (!ENABLED) {
+            return null;
+        }
+        String file = System.getProperty("battleship.metrics.file");
+        if (file != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    dump(Paths.get(file));
+                } catch (IOException | RuntimeException exception) {
+                    System.err.println("Java Exception: " + exception);
+                    System.out.println("Sorry, could not write the metrics to " + file + ".");
+                }
+            }, "metrics-dump"));
+        }
+        String port = System.getProperty("battleship.metrics.port");
+        if (port == null) {
+            return null;
+        }
+        try {
+            MetricsServer server = new MetricsServer(Integer.parseInt(port));
+            System.out.println("Metrics at http://localhost:" + server.getPort() + "/metrics");
+            return server;
+        } catch (IOException | NumberFormatException exception) {
+            System.err.println("Java Exception: " + exception);
+            System.out.println("Sorry, could not serve the metrics on port " + port + ".");
+            return null;
+        }
+    }
+
+    // Nanoseconds as seconds, the unit Prometheus expects.
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+}
@@ -0,0 +1,79 @@
+package battleship;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Summative Game Metrics Server(Battleship)
+ *
+ * Serves Metrics.prometheusText() at http://localhost:port/metrics for a Prometheus server (or
+ * curl) to scrape. It listens on the loopback address only, and answers on one background
+ * thread, so a scrape never runs on the game's event thread.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class MetricsServer implements AutoCloseable {
+    private final HttpServer server;
+    private final ExecutorService handler;
+
+    /**
+     * Starts serving the metrics.
+     *
+     * @param port The port, or 0 for any free port
+     * @throws IOException if the port cannot be opened
+     */
+    public MetricsServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 16);
+        handler = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handler);
+        server.createContext("/metrics", this::serve);
+        server.start();
+    }
+
+    /**
+     * @return the port the metrics are served on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving the metrics.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        handler.shutdownNow();
+    }
+
+    // Answers one request with the metrics, or 405 for anything but GET.
+    private void serve(HttpExchange exchange) throws IOException {
+        try (HttpExchange request = exchange) {
+            if (!"GET".equals(request.getRequestMethod())) {
+                request.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = Metrics.prometheusText().getBytes(StandardCharsets.UTF_8);
+            request.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            request.sendResponseHeaders(200, body.length);
+            try (OutputStream out = request.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
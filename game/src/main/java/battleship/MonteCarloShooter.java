@@ -0,0 +1,180 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Monte Carlo Shooter(Battleship)
+ *
+ * A computer opponent for boards of any size. Once it has hit a ship, before each shot it asks
+ * the LayoutSampler which cells hold a ship in the most layouts that fit what it has seen, for a
+ * fixed time per move, and fires at the likeliest untried cell. Unlike the DensityShooter, which
+ * counts each ship on its own, the samples take every ship into account at once, which matters
+ * most when hits from several ships sit side by side. While hunting, or if no layout can be
+ * found in time, it fires where the DensityShooter would.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class MonteCarloShooter implements Shooter {
+    // Sampling time per move when none is given
+    public static final long DEFAULT_BUDGET_MILLIS = 20;
+
+    private final long budgetNanos;
+    private final DensityShooter density = new DensityShooter();
+    private LayoutSampler sampler;
+    private int rows;
+    private int cols;
+    private int cells;
+
+    // Hits on ships still afloat, misses and sunk cells, and the lengths of the ships still afloat
+    private long[] hits = new long[0];
+    private long[] blocked = new long[0];
+    private int[] fleet = new int[0];
+    private int afloat;
+
+    // The last round of sampling, for showing how the sampler is doing
+    private LayoutSampler.Estimate lastEstimate;
+
+    /**
+     * Constructor for a shooter that samples for DEFAULT_BUDGET_MILLIS per move.
+     */
+    public MonteCarloShooter() {
+        this(DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Constructor for a shooter with its own time per move.
+     *
+     * @param budgetMillis Milliseconds of sampling before each shot
+     */
+    public MonteCarloShooter(long budgetMillis) {
+        this.budgetNanos = budgetMillis * 1_000_000;
+    }
+
+    /**
+     * Forgets the last game and gets ready for a new one.
+     *
+     * @param rows number of rows on the target board
+     * @param cols number of columns on the target board
+     * @param fleet the lengths of the ships hidden on the target board
+     */
+    @Override
+    public void newGame(int rows, int cols, int[] fleet) {
+        if (sampler == null || rows != this.rows || cols != this.cols) {
+            sampler = new LayoutSampler(rows, cols);
+            this.rows = rows;
+            this.cols = cols;
+            this.cells = rows * cols;
+        }
+        density.newGame(rows, cols, fleet);
+        hits = new long[(cells + 63) >>> 6];
+        blocked = new long[hits.length];
+        this.fleet = fleet.clone();
+        afloat = fleet.length;
+        lastEstimate = null;
+    }
+
+    /**
+     * Fires at the untried cell with a ship in the most sampled layouts, once a ship afloat has
+     * been hit; until then, where the DensityShooter would. Ties are broken at random.
+     *
+     * @param rng Where the random numbers come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng) {
+        return nextShot(rng, rng);
+    }
+
+    /**
+     * As nextShot(rng), with the sampler seeded from rng and ties broken with ties.
+     *
+     * @param rng Where the random numbers for sampling come from
+     * @param ties Where the random numbers for breaking ties come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng, RandomGenerator ties) {
+        // With nothing to follow up, every layout spreads the ships almost evenly, and the
+        // DensityShooter's exact counts aim better than noisy samples
+        if (!anyHits()) {
+            lastEstimate = null;
+            return density.nextShot(rng, ties);
+        }
+        lastEstimate = sampler.sample(hits, blocked, Arrays.copyOf(fleet, afloat), budgetNanos, rng.nextLong());
+        int best = -1;
+        long bestCount = 0;
+        int tied = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            long count = lastEstimate.getCount(cell);
+            if (count == 0 || count < bestCount || isSet(hits, cell) || isSet(blocked, cell)) {
+                continue;
+            }
+            if (count > bestCount) {
+                bestCount = count;
+                tied = 0;
+            }
+            // Keep each tied cell with an equal chance
+            if (ties.nextInt(++tied) == 0) {
+                best = cell;
+            }
+        }
+        return best >= 0 ? best : density.nextShot(rng, ties);
+    }
+
+    /**
+     * Records a shot's result for the sampler and the DensityShooter.
+     *
+     * @param cell The cell index that was fired at
+     * @param result BitBoard.MISS, BitBoard.HIT or BitBoard.SUNK
+     * @param sunkShip the ship that was sunk, packed with BitBoard.packShip, when result is SUNK
+     */
+    @Override
+    public void shotResult(int cell, int result, int sunkShip) {
+        density.shotResult(cell, result, sunkShip);
+        if (result == BitBoard.MISS) {
+            blocked[cell >>> 6] |= 1L << cell;
+            return;
+        }
+        hits[cell >>> 6] |= 1L << cell;
+        if (result == BitBoard.SUNK && sunkShip >= 0) {
+            int length = BitBoard.shipLength(sunkShip);
+            int step = BitBoard.shipVertical(sunkShip) ? cols : 1;
+            for (int parts = 0, c = BitBoard.shipStart(sunkShip); parts < length; parts++, c += step) {
+                hits[c >>> 6] &= ~(1L << c);
+                blocked[c >>> 6] |= 1L << c;
+            }
+            // Take one ship of that length out of the fleet
+            for (int i = 0; i < afloat; i++) {
+                if (fleet[i] == length) {
+                    fleet[i] = fleet[--afloat];
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the last round of sampling, or null if the last shot was not sampled
+     */
+    public LayoutSampler.Estimate getLastEstimate() {
+        return lastEstimate;
+    }
+
+    // Whether any ship afloat has been hit.
+    private boolean anyHits() {
+        for (long word : hits) {
+            if (word != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSet(long[] mask, int cell) {
+        return (mask[cell >>> 6] & (1L << cell)) != 0;
+    }
+}
@@ -0,0 +1,433 @@
+package battleship;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summative Game Persistence Writer(Battleship)
+ *
+ * Writes things to disk on one background thread, many at a time. Callers queue an item and get
+ * a future back. The writer thread takes everything waiting in the queue (up to a batch limit),
+ * hands the whole batch to its Sink in one write, syncs to disk according to the FsyncPolicy,
+ * and completes every future in the batch with the sink's result. So a burst of games finishing
+ * together costs one write and one fsync, not one per game.
+ *
+ * The queue is bounded: when the disk falls behind and it fills up, submit() waits for room,
+ * which slows the callers down instead of letting memory grow. Items are written in the order
+ * they were queued, and close() writes everything already queued and syncs it before it returns,
+ * whatever the policy.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class PersistenceWriter<T, R> implements AutoCloseable {
+    /**
+     * When written batches are forced to the disk.
+     */
+    public enum FsyncPolicy {
+        // After every batch, before its futures complete: a completed future means it is on disk
+        ALWAYS,
+        // At most once per sync interval, after the batch's futures have completed
+        INTERVAL,
+        // Only at close; the operating system writes the rest back when it likes
+        NEVER;
+
+        /**
+         * Reads the policy from -Dbattleship.fsync=always, interval or never.
+         *
+         * @param fallback The policy to use if the property is missing or not one of those
+         * @return the policy
+         */
+        public static FsyncPolicy fromSystemProperties(FsyncPolicy fallback) {
+            String value = System.getProperty("battleship.fsync");
+            if (value == null) {
+                return fallback;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException exception) {
+                System.err.println("Java Exception: " + exception);
+                System.out.println("Sorry, battleship.fsync must be always, interval or never; using "
+                        + fallback.name().toLowerCase() + ".");
+                return fallback;
+            }
+        }
+    }
+
+    /**
+     * Where the batches go.
+     */
+    public interface Sink<T, R> {
+        /**
+         * Writes a batch of items, in order.
+         *
+         * @param batch The items
+         * @return the result every item of the batch completes with
+         * @throws IOException if the batch cannot be written
+         */
+        R write(List<T> batch) throws IOException;
+
+        /**
+         * Forces everything written so far to the disk.
+         *
+         * @throws IOException if it cannot be synced
+         */
+        void sync() throws IOException;
+
+        /**
+         * Closes the files, after the last batch has been written and synced.
+         *
+         * @throws IOException if they cannot be closed
+         */
+        void close() throws IOException;
+    }
+
+    // One queued item and the future it completes
+    private static final class Request<T, R> {
+        private final T item;
+        private final CompletableFuture<R> done;
+
+        Request(T item, CompletableFuture<R> done) {
+            this.item = item;
+            this.done = done;
+        }
+    }
+
+    private final Sink<T, R> sink;
+    private final FsyncPolicy policy;
+    private final long syncIntervalNanos;
+    private final int maxBatch;
+    private final BlockingQueue<Request<T, R>> queue;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    // Put on the queue by close() to tell the writer thread to finish
+    private final Request<T, R> end = new Request<>(null, null);
+
+    // Statistics, see getStats()
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final AtomicLong maxDepth = new AtomicLong();
+    private volatile long written;
+    private volatile long batches;
+    private volatile long largestBatch;
+    private volatile long syncs;
+    private volatile long writeNanos;
+    private volatile long syncNanos;
+
+    /**
+     * Starts a writer thread for a sink.
+     *
+     * @param name The writer thread's name
+     * @param sink Where the batches go; only the writer thread uses it from now on
+     * @param capacity The most items that can wait in the queue
+     * @param maxBatch The most items written in one batch
+     * @param policy When to sync to disk
+     * @param syncIntervalMillis For FsyncPolicy.INTERVAL, the longest written data waits to be synced
+     */
+    public PersistenceWriter(String name, Sink<T, R> sink, int capacity, int maxBatch, FsyncPolicy policy,
+            long syncIntervalMillis) {
+        this.sink = sink;
+        this.policy = policy;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+        this.maxBatch = maxBatch;
+        queue = new ArrayBlockingQueue<>(capacity);
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues an item to be written. Waits while the queue is full.
+     *
+     * @param item The item
+     * @return completes with the sink's result once the item's batch is written (and synced, for
+     *         FsyncPolicy.ALWAYS), or with the exception if it could not be written (or synced), or
+     *         with a RejectedExecutionException if the writer is closed
+     */
+    public CompletableFuture<R> submit(T item) {
+        CompletableFuture<R> done = new CompletableFuture<>();
+        if (closed) {
+            done.completeExceptionally(new RejectedExecutionException("The writer is closed"));
+            return done;
+        }
+        Request<T, R> request = new Request<>(item, done);
+        submitted.increment();
+        try {
+            if (!queue.offer(request)) {
+                // The disk has fallen behind: wait for room, checking every 10 ms that the writer
+                // has not been closed meanwhile
+                waited.increment();
+                boolean queued = false;
+                while (!closed && !queued) {
+                    queued = queue.offer(request, 10, TimeUnit.MILLISECONDS);
+                }
+                if (!queued) {
+                    done.completeExceptionally(new RejectedExecutionException("The writer is closed"));
+                    return done;
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            done.completeExceptionally(exception);
+            return done;
+        }
+        // close() may have run between the check above and the offer, and finished without seeing
+        // this request. If it is still in the queue nobody will write it, so take it back out;
+        // if it is gone, the writer thread or close() has it and will complete it
+        if (closed && queue.remove(request)) {
+            done.completeExceptionally(new RejectedExecutionException("The writer is closed"));
+            return done;
+        }
+        int depth = queue.size();
+        if (depth > maxDepth.get()) {
+            maxDepth.accumulateAndGet(depth, Math::max);
+        }
+        return done;
+    }
+
+    /**
+     * Writes and syncs everything already queued, then closes the sink. Items queued after this
+     * is called are rejected.
+     *
+     * @throws IOException if the last sync or closing the sink fails
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(end);
+            thread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        // Anything that slipped in after the end marker missed the last batch
+        for (Request<T, R> request = queue.poll(); request != null; request = queue.poll()) {
+            if (request != end) {
+                request.done.completeExceptionally(new RejectedExecutionException("The writer is closed"));
+            }
+        }
+        try {
+            sink.sync();
+        } finally {
+            sink.close();
+        }
+    }
+
+    /**
+     * @return the fsync policy
+     */
+    public FsyncPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the writer's statistics so far
+     */
+    public Stats getStats() {
+        return new Stats(submitted.sum(), written, batches, largestBatch, syncs, queue.size(), maxDepth.get(),
+                waited.sum(), writeNanos, syncNanos);
+    }
+
+    // The writer thread: takes a batch, writes it, syncs as the policy says, completes its futures.
+    private void run() {
+        List<Request<T, R>> batch = new ArrayList<>(maxBatch);
+        List<T> items = new ArrayList<>(maxBatch);
+        boolean dirty = false;
+        long lastSync = System.nanoTime();
+        boolean ending = false;
+        while (!ending) {
+            Request<T, R> first;
+            try {
+                // Under INTERVAL, wake up in time to sync what is waiting even if nothing new comes
+                if (dirty && policy == FsyncPolicy.INTERVAL) {
+                    first = queue.poll(Math.max(0, lastSync + syncIntervalNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } else {
+                    first = queue.take();
+                }
+            } catch (InterruptedException exception) {
+                return;
+            }
+            if (first == null) {
+                dirty = sync() != null;
+                lastSync = System.nanoTime();
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, maxBatch - 1);
+            items.clear();
+            for (Request<T, R> request : batch) {
+                if (request == end) {
+                    ending = true;
+                } else {
+                    items.add(request.item);
+                }
+            }
+
+            R result = null;
+            IOException failure = null;
+            if (!items.isEmpty()) {
+                long start = System.nanoTime();
+                try {
+                    result = sink.write(items);
+                    dirty = true;
+                } catch (IOException | RuntimeException exception) {
+                    failure = exception instanceof IOException ? (IOException) exception : new IOException(exception);
+                }
+                writeNanos += System.nanoTime() - start;
+                written += items.size();
+                batches++;
+                largestBatch = Math.max(largestBatch, items.size());
+            }
+            boolean syncNow = policy == FsyncPolicy.ALWAYS
+                    || policy == FsyncPolicy.INTERVAL && System.nanoTime() - lastSync >= syncIntervalNanos;
+            if (dirty && failure == null && syncNow) {
+                IOException syncFailure = sync();
+                dirty = syncFailure != null;
+                lastSync = System.nanoTime();
+                // Under ALWAYS a completed future promises the item is on disk, so a failed sync
+                // fails the whole batch
+                if (syncFailure != null && policy == FsyncPolicy.ALWAYS) {
+                    failure = syncFailure;
+                }
+            }
+            for (Request<T, R> request : batch) {
+                if (request == end) {
+                    continue;
+                }
+                if (failure != null) {
+                    request.done.completeExceptionally(failure);
+                } else {
+                    request.done.complete(result);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    // Syncs the sink. Returns why it failed, so it is tried again later, or null if it worked.
+    private IOException sync() {
+        long start = System.nanoTime();
+        try {
+            sink.sync();
+            return null;
+        } catch (IOException | RuntimeException exception) {
+            System.err.println("Java Exception: " + exception);
+            return exception instanceof IOException ? (IOException) exception : new IOException(exception);
+        } finally {
+            syncNanos += System.nanoTime() - start;
+            syncs++;
+        }
+    }
+
+    /**
+     * How much a writer has written and how far behind it is, at one moment.
+     */
+    public static class Stats {
+        private final long submitted;
+        private final long written;
+        private final long batches;
+        private final long largestBatch;
+        private final long syncs;
+        private final long queueDepth;
+        private final long maxQueueDepth;
+        private final long waited;
+        private final long writeNanos;
+        private final long syncNanos;
+
+        Stats(long submitted, long written, long batches, long largestBatch, long syncs, long queueDepth,
+                long maxQueueDepth, long waited, long writeNanos, long syncNanos) {
+            this.submitted = submitted;
+            this.written = written;
+            this.batches = batches;
+            this.largestBatch = largestBatch;
+            this.syncs = syncs;
+            this.queueDepth = queueDepth;
+            this.maxQueueDepth = maxQueueDepth;
+            this.waited = waited;
+            this.writeNanos = writeNanos;
+            this.syncNanos = syncNanos;
+        }
+
+        /**
+         * @return number of items submitted
+         */
+        public long getSubmitted() {
+            return submitted;
+        }
+
+        /**
+         * @return number of items written
+         */
+        public long getWritten() {
+            return written;
+        }
+
+        /**
+         * @return number of batches written
+         */
+        public long getBatches() {
+            return batches;
+        }
+
+        /**
+         * @return number of syncs to disk
+         */
+        public long getSyncs() {
+            return syncs;
+        }
+
+        /**
+         * @return number of items waiting in the queue
+         */
+        public long getQueueDepth() {
+            return queueDepth;
+        }
+
+        /**
+         * @return the most items that have waited in the queue at once
+         */
+        public long getMaxQueueDepth() {
+            return maxQueueDepth;
+        }
+
+        /**
+         * @return number of submits that had to wait for room in the queue
+         */
+        public long getWaited() {
+            return waited;
+        }
+
+        /**
+         * @return items written per second of the writer thread's time spent writing and syncing
+         */
+        public double writesPerSecond() {
+            long busy = writeNanos + syncNanos;
+            return busy == 0 ? 0 : written * 1e9 / busy;
+        }
+
+        /**
+         * @return a one-line report
+         */
+        @Override
+        public String toString() {
+            return String.format("%d written in %d batches (largest %d, mean %.1f), %d syncs, %.0f writes/s;"
+                    + " queue %d now, %d at most, %d submits waited",
+                    written, batches, largestBatch, batches == 0 ? 0.0 : (double) written / batches, syncs,
+                    writesPerSecond(), queueDepth, maxQueueDepth, waited);
+        }
+    }
+}
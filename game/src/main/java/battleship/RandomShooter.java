@@ -0,0 +1,65 @@
+package battleship;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Random Shooter(Battleship)
+ *
+ * The original computer opponent: fires at a random cell it has not tried yet. Rather than
+ * drawing cells until an unused one comes up, it keeps the untried cells in an array and
+ * removes each pick, so every shot takes the same time however late in the game it is.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class RandomShooter implements Shooter {
+    // Cells that have not been fired at yet are stored in untried[0 .. left - 1]
+    private int[] untried = new int[0];
+    private int left;
+
+    /**
+     * Fills the list of untried cells with every cell of the board.
+     *
+     * @param rows number of rows on the target board
+     * @param cols number of columns on the target board
+     * @param fleet the lengths of the ships (not needed by this shooter)
+     */
+    @Override
+    public void newGame(int rows, int cols, int[] fleet) {
+        int cells = rows * cols;
+        if (untried.length != cells) {
+            untried = new int[cells];
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            untried[cell] = cell;
+        }
+        left = cells;
+    }
+
+    /**
+     * Picks a random untried cell and removes it from the list.
+     *
+     * @param rng Where the random numbers come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng) {
+        if (left == 0) {
+            throw new IllegalStateException("Every cell has already been fired at");
+        }
+        int pick = rng.nextInt(left);
+        int cell = untried[pick];
+        // Move the last untried cell into the gap
+        untried[pick] = untried[--left];
+        return cell;
+    }
+
+    /**
+     * Random shooting ignores the results.
+     */
+    @Override
+    public void shotResult(int cell, int result, int sunkShip) {
+    }
+}
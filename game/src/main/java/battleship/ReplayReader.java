@@ -0,0 +1,408 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Summative Game Replay Reader(Battleship)
+ *
+ * Reads the replay logs written by GameRecorder. read() streams every event of the log through
+ * a small direct buffer, so millions of games can be replayed or analysed without loading the
+ * file into memory. seek() rebuilds both boards of one game after any number of shots: the index
+ * says where the game's nearest snapshot is, so at most SNAPSHOT_INTERVAL shots are replayed.
+ * A reader is not thread-safe; give each thread its own.
+ *
+ * Run from the repository root with:
+ *   java -cp game/target/battleship.jar battleship.ReplayReader replays.log [game [shots]]
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ReplayReader implements AutoCloseable {
+    /**
+     * Receives the events of a log as they are read. Every method does nothing by default.
+     */
+    public interface Listener {
+        /**
+         * A game started; its placements follow.
+         *
+         * @param game The game's number in the log
+         * @param rows number of rows on each board
+         * @param cols number of columns on each board
+         * @param timestamp when the game started, in milliseconds since 1970
+         */
+        default void gameStart(long game, int rows, int cols, long timestamp) {
+        }
+
+        /**
+         * A ship was placed.
+         *
+         * @param board GameRecorder.COMPUTER_BOARD or PLAYER_BOARD
+         * @param ship The ship packed with BitBoard.packShip
+         */
+        default void place(int board, int ship) {
+        }
+
+        /**
+         * A shot was fired.
+         *
+         * @param board The board shot at, GameRecorder.COMPUTER_BOARD or PLAYER_BOARD
+         * @param cell The cell index
+         * @param result BitBoard.MISS, HIT or SUNK
+         */
+        default void shot(int board, int cell, int result) {
+        }
+
+        /**
+         * A game ended.
+         *
+         * @param score The player's final score
+         */
+        default void gameEnd(int score) {
+        }
+    }
+
+    /**
+     * Both boards of one game at some point of the game.
+     */
+    public static class Replay {
+        private final BitBoard computerBoard;
+        private final BitBoard playerBoard;
+        private final long game;
+        private final long timestamp;
+        private int shots;
+
+        // Filled in by seek()
+        private Replay(int rows, int cols, long game, long timestamp) {
+            computerBoard = new BitBoard(rows, cols);
+            playerBoard = new BitBoard(rows, cols);
+            this.game = game;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * @return the board the player shoots at
+         */
+        public BitBoard getComputerBoard() {
+            return computerBoard;
+        }
+
+        /**
+         * @return the board the computer shoots at
+         */
+        public BitBoard getPlayerBoard() {
+            return playerBoard;
+        }
+
+        /**
+         * @return the game's number in the log
+         */
+        public long getGame() {
+            return game;
+        }
+
+        /**
+         * @return when the game started, in milliseconds since 1970
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        /**
+         * @return number of shots replayed, which is less than asked for if the game had fewer
+         */
+        public int getShots() {
+            return shots;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Bytes read at a time when seeking, enough for a game start or a snapshot and the shots after it
+    private static final int SEEK_READ = 512;
+
+    private final FileChannel log;
+    private final Path indexPath;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    // Log offset of the first byte in the buffer
+    private long bufferStart;
+
+    // Built from the index the first time it is needed: the index entry each game starts at
+    private MappedByteBuffer index;
+    private long[] gameEntries;
+    private int games;
+
+    /**
+     * Opens a replay log for reading.
+     *
+     * @param file The replay log
+     * @throws IOException if the log cannot be opened or is not a replay log
+     */
+    public ReplayReader(Path file) throws IOException {
+        log = FileChannel.open(file, StandardOpenOption.READ);
+        indexPath = indexFile(file);
+        try {
+            moveTo(0, BUFFER_SIZE);
+            if (remaining(4) < 4 || buffer.getInt() != GameRecorder.MAGIC) {
+                throw new IOException(file + " is not a replay log");
+            }
+        } catch (IOException | RuntimeException e) {
+            log.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @param log A replay log
+     * @return the path of its index file
+     */
+    public static Path indexFile(Path log) {
+        return log.resolveSibling(log.getFileName() + ".idx");
+    }
+
+    /**
+     * Streams every event in the log to the listener, in order.
+     *
+     * @param listener Receives the events
+     * @return number of games read
+     * @throws IOException if the log cannot be read
+     */
+    public long read(Listener listener) throws IOException {
+        moveTo(4, BUFFER_SIZE);
+        long gamesRead = 0;
+        int words = 0;
+        while (remaining(1) > 0) {
+            long event = readVarint();
+            switch ((int) (event & 3)) {
+                case GameRecorder.SHOT:
+                    listener.shot((int) (event >>> 4) & 1, (int) (event >>> 5), (int) (event >>> 2) & 3);
+                    break;
+                case GameRecorder.PLACE:
+                    listener.place((int) (event >>> 2) & 1, (int) (event >>> 3));
+                    break;
+                case GameRecorder.SNAPSHOT:
+                    // Only needed for seeking
+                    for (int i = 0; i < words * 2; i++) {
+                        readVarint();
+                    }
+                    break;
+                default:
+                    if ((event >>> 2) == GameRecorder.GAME_START) {
+                        int rows = (int) readVarint();
+                        int cols = (int) readVarint();
+                        words = (rows * cols + 63) >>> 6;
+                        listener.gameStart(gamesRead++, rows, cols, readVarint());
+                    } else {
+                        int zigzag = (int) readVarint();
+                        listener.gameEnd((zigzag >>> 1) ^ -(zigzag & 1));
+                    }
+            }
+        }
+        return gamesRead;
+    }
+
+    /**
+     * @return number of games in the log, from its index
+     * @throws IOException if the index cannot be read
+     */
+    public long getGames() throws IOException {
+        loadIndex();
+        return games;
+    }
+
+    /**
+     * Rebuilds both boards of a game after the given number of shots (counting both players' shots).
+     *
+     * @param game The game's number in the log
+     * @param shots Shots to replay; more than the game had gives the final boards
+     * @return the boards at that point
+     * @throws IOException if the log or index cannot be read
+     */
+    public Replay seek(long game, int shots) throws IOException {
+        loadIndex();
+        if (game < 0 || game >= games) {
+            throw new IndexOutOfBoundsException("No game " + game + " in a log of " + games);
+        }
+        long first = gameEntries[(int) game];
+        long end = gameEntries[(int) game + 1];
+
+        // The game start and its placements
+        moveTo(index.getLong((int) (first * GameRecorder.INDEX_ENTRY)), SEEK_READ);
+        readVarint();
+        int rows = (int) readVarint();
+        int cols = (int) readVarint();
+        Replay replay = new Replay(rows, cols, game, readVarint());
+        BitBoard[] boards = {replay.computerBoard, replay.playerBoard};
+        long event = -1;
+        while (remaining(1) > 0 && ((event = readVarint()) & 3) == GameRecorder.PLACE) {
+            int ship = (int) (event >>> 3);
+            boards[(int) (event >>> 2) & 1].placeShip(BitBoard.shipStart(ship) / cols, BitBoard.shipStart(ship) % cols,
+                    BitBoard.shipVertical(ship), BitBoard.shipLength(ship));
+            event = -1;
+        }
+
+        // Jump to the last snapshot at or before the wanted shot and apply its masks
+        long entry = Math.min(first + shots / GameRecorder.SNAPSHOT_INTERVAL, end - 1);
+        if (entry > first) {
+            moveTo(index.getLong((int) (entry * GameRecorder.INDEX_ENTRY)), SEEK_READ);
+            replay.shots = (int) (readVarint() >>> 2);
+            for (BitBoard board : boards) {
+                for (int w = 0; w < board.getWords(); w++) {
+                    shootAll(board, w, readVarint());
+                }
+            }
+            event = -1;
+        }
+
+        // Replay the shots after it
+        while (replay.shots < shots) {
+            if (event < 0) {
+                if (remaining(1) == 0) {
+                    break;
+                }
+                event = readVarint();
+            }
+            if ((event & 3) == GameRecorder.CONTROL) {
+                break;
+            }
+            if ((event & 3) == GameRecorder.SHOT) {
+                boards[(int) (event >>> 4) & 1].shoot((int) (event >>> 5));
+                replay.shots++;
+            }
+            event = -1;
+        }
+        return replay;
+    }
+
+    /**
+     * Closes the log and releases the index.
+     *
+     * @throws IOException if the log cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        log.close();
+        index = null;
+    }
+
+    /**
+     * Prints a summary of a replay log, or one game's boards after some shots.
+     * Arguments: log [game [shots]]
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : "replays.log");
+        try (ReplayReader reader = new ReplayReader(file)) {
+            if (args.length < 2) {
+                long[] counts = new long[2];
+                long start = System.nanoTime();
+                long gamesRead = reader.read(new Listener() {
+                    @Override
+                    public void shot(int board, int cell, int result) {
+                        counts[0]++;
+                    }
+
+                    @Override
+                    public void gameEnd(int score) {
+                        counts[1]++;
+                    }
+                });
+                System.out.printf("%d games (%d finished), %d shots, %.2f bytes per shot, read in %.1f ms%n",
+                        gamesRead, counts[1], counts[0], (double) Files.size(file) / Math.max(1, counts[0]),
+                        (System.nanoTime() - start) / 1e6);
+                return;
+            }
+            Replay replay = reader.seek(Long.parseLong(args[1]), args.length > 2 ? Integer.parseInt(args[2]) : Integer.MAX_VALUE);
+            System.out.println("Game " + replay.getGame() + " after " + replay.getShots() + " shots");
+            System.out.println("Computer's board:\n" + toBoard(replay.getComputerBoard()));
+            System.out.println("Player's board:\n" + toBoard(replay.getPlayerBoard()));
+        }
+    }
+
+    // Copies a replayed board into a Board so it prints like the game's own boards.
+    private static Board toBoard(BitBoard bits) {
+        Board board = new Board(bits.getRows(), bits.getCols());
+        for (int cell = 0; cell < bits.getCells(); cell++) {
+            if (bits.isShip(cell) || bits.isShot(cell)) {
+                board.setGrid(cell / bits.getCols(), cell % bits.getCols(),
+                        bits.isHit(cell) ? '!' : bits.isMiss(cell) ? 'X' : 'S');
+            }
+        }
+        return board;
+    }
+
+    // Fires at every cell whose bit is set, so the board counts its hits and sunk ships itself.
+    private static void shootAll(BitBoard board, int word, long bits) {
+        while (bits != 0) {
+            board.shoot((word << 6) + Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+        }
+    }
+
+    // Reads the index once and notes the entry each game starts at.
+    private void loadIndex() throws IOException {
+        if (index != null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            long entries = channel.size() / GameRecorder.INDEX_ENTRY;
+            index = channel.map(FileChannel.MapMode.READ_ONLY, 0, entries * GameRecorder.INDEX_ENTRY);
+            gameEntries = new long[16];
+            games = 0;
+            for (long entry = 0; entry < entries; entry++) {
+                if (index.getInt((int) (entry * GameRecorder.INDEX_ENTRY + 12)) == 0) {
+                    if (games + 1 == gameEntries.length) {
+                        gameEntries = Arrays.copyOf(gameEntries, games * 2);
+                    }
+                    gameEntries[games++] = entry;
+                }
+            }
+            gameEntries[games] = entries;
+        }
+    }
+
+    // Starts reading at a log offset, reading up to `length` bytes for now.
+    private void moveTo(long offset, int length) throws IOException {
+        bufferStart = offset;
+        buffer.clear().limit(length);
+        log.read(buffer, offset);
+        buffer.flip();
+    }
+
+    // Makes sure the buffer holds at least `wanted` bytes if the log has them; returns how many it holds.
+    private int remaining(int wanted) throws IOException {
+        if (buffer.remaining() < wanted) {
+            bufferStart += buffer.position();
+            buffer.compact();
+            int read = log.read(buffer, bufferStart + buffer.position());
+            buffer.flip();
+            if (read < 0) {
+                return buffer.remaining();
+            }
+        }
+        return buffer.remaining();
+    }
+
+    // Reads one varint, refilling the buffer when a varint may run past its end.
+    private long readVarint() throws IOException {
+        if (buffer.remaining() < 10) {
+            remaining(10);
+        }
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
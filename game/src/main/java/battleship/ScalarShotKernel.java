@@ -0,0 +1,52 @@
+package battleship;
+
+/**
+ * Summative Game Scalar Shot Kernel(Battleship)
+ *
+ * Fires at the boards of a BoardBatch one board at a time, in plain Java. It is used when the
+ * Vector API is not available, and by VectorShotKernel for the boards left over after its last
+ * full vector.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+final class ScalarShotKernel implements ShotKernel {
+    @Override
+    public void shoot(long[] ships, long[] hits, long[] misses, long[] shipMasks, int fleetSize, int boards,
+            int[] cells, int[] results) {
+        shootRange(ships, hits, misses, shipMasks, fleetSize, boards, cells, results, 0, boards);
+    }
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    // Fires at boards from .. to - 1.
+    static void shootRange(long[] ships, long[] hits, long[] misses, long[] shipMasks, int fleetSize, int boards,
+            int[] cells, int[] results, int from, int to) {
+        for (int b = from; b < to; b++) {
+            long bit = 1L << cells[b];
+            if (((hits[b] | misses[b]) & bit) != 0) {
+                results[b] = BitBoard.REPEAT;
+            } else if ((ships[b] & bit) == 0) {
+                misses[b] |= bit;
+                results[b] = BitBoard.MISS;
+            } else {
+                long hit = hits[b] | bit;
+                hits[b] = hit;
+                // The ship under the shot is sunk once all its cells are hit
+                int result = BitBoard.HIT;
+                for (int k = 0; k < fleetSize; k++) {
+                    long ship = shipMasks[k * boards + b];
+                    if ((ship & bit) != 0 && (hit & ship) == ship) {
+                        result = BitBoard.SUNK;
+                    }
+                }
+                results[b] = result;
+            }
+        }
+    }
+}
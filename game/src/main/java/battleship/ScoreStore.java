@@ -0,0 +1,378 @@
+package battleship;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.zip.CRC32;
+
+/**
+ * Summative Game Score Store(Battleship)
+ *
+ * Keeps every finished game's score in an append-only file of fixed-width records
+ * (timestamp, score, player name) that is memory-mapped, plus the best K scores in memory.
+ * The top K are updated as each score is added, so the leaderboard never re-reads or sorts
+ * the whole history.
+ *
+ * The file starts with a header holding a checkpoint: how many records had been written and
+ * the top K at that point. Opening the file loads the checkpoint and replays only the records
+ * after it, stopping at the first record whose checksum does not match (e.g. half-written
+ * when the game crashed).
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ScoreStore implements AutoCloseable {
+    // Number of scores kept on the leaderboard
+    public static final int DEFAULT_TOP = 10;
+
+    // Longest player name kept, in UTF-8 bytes
+    public static final int NAME_BYTES = 28;
+
+    // File layout: a header page, then records of RECORD_SIZE bytes mapped CHUNK_RECORDS at a time.
+    // The last chunk is mapped FIRST_RECORDS records long at first and remapped twice as long each
+    // time it fills, so a store with a few scores takes a few pages, not a whole chunk
+    static final int MAGIC = 0x42534331;
+    static final int HEADER_SIZE = 4096;
+    static final int RECORD_SIZE = 48;
+    private static final int CHUNK_RECORDS = 1 << 20;
+    private static final int FIRST_RECORDS = 256;
+    private static final int MAX_TOP = (HEADER_SIZE - 24) / 12;
+
+    // Records written between checkpoints
+    private static final int CHECKPOINT_INTERVAL = 4096;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final List<MappedByteBuffer> chunks = new ArrayList<>();
+    private final CRC32 crc = new CRC32();
+    private final byte[] nameBuffer = new byte[NAME_BYTES];
+    private long records;
+    private long checkpointed;
+
+    // Best scores first, and the record each one came from
+    private final int[] topScores;
+    private final long[] topRecords;
+    private int topSize;
+
+    /**
+     * A score read back from the store.
+     */
+    public static class Score {
+        private final int score;
+        private final String name;
+        private final long timestamp;
+
+        /**
+         * @param score the score
+         * @param name the player's name
+         * @param timestamp when the game ended, in milliseconds since 1970
+         */
+        public Score(int score, String name, long timestamp) {
+            this.score = score;
+            this.name = name;
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * @return the score
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * @return the player's name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return when the game ended, in milliseconds since 1970
+         */
+        public long getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    /**
+     * Opens (or creates) a score file that keeps the default number of top scores.
+     *
+     * @param file The score file
+     * @return the open store
+     * @throws IOException if the file cannot be opened or is not a score file
+     */
+    public static ScoreStore open(Path file) throws IOException {
+        return new ScoreStore(file, DEFAULT_TOP);
+    }
+
+    /**
+     * Opens (or creates) a score file, recovering any records written after the last checkpoint.
+     *
+     * @param file The score file
+     * @param top Number of top scores to keep
+     * @throws IOException if the file cannot be opened or is not a score file
+     */
+    public ScoreStore(Path file, int top) throws IOException {
+        if (top <= 0 || top > MAX_TOP) {
+            throw new IllegalArgumentException("Top size must be between 1 and " + MAX_TOP + ": " + top);
+        }
+        topScores = new int[top];
+        topRecords = new long[top];
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (header.getInt(0) == 0) {
+                // A new file
+                header.putInt(0, MAGIC);
+                header.putInt(4, 1);
+                writeCheckpoint();
+            } else if (header.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not a score file");
+            } else {
+                readCheckpoint();
+            }
+            recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds a score to the end of the file and to the top scores if it is good enough.
+     *
+     * @param score The score
+     * @param name The player's name (cut to NAME_BYTES bytes)
+     * @param timestamp when the game ended, in milliseconds since 1970
+     * @return the record number of the new score
+     * @throws IOException if the file cannot grow
+     */
+    public synchronized long append(int score, String name, long timestamp) throws IOException {
+        long record = records;
+        MappedByteBuffer chunk = chunkFor(record);
+        int offset = (int) (record % CHUNK_RECORDS) * RECORD_SIZE;
+
+        byte[] bytes = (name == null ? "" : name).getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, NAME_BYTES);
+        chunk.putLong(offset, timestamp);
+        chunk.putInt(offset + 8, score);
+        chunk.putInt(offset + 12, length);
+        for (int i = 0; i < NAME_BYTES; i++) {
+            chunk.put(offset + 16 + i, i < length ? bytes[i] : 0);
+        }
+        chunk.putInt(offset + 44, checksum(chunk, offset));
+
+        records++;
+        addToTop(score, record);
+        if (records - checkpointed >= CHECKPOINT_INTERVAL) {
+            writeCheckpoint();
+        }
+        return record;
+    }
+
+    /**
+     * Returns the best scores, best first. Takes time proportional to the number of top scores,
+     * not to the number of scores stored.
+     *
+     * @return the top scores
+     */
+    public synchronized List<Score> top() {
+        List<Score> scores = new ArrayList<>(topSize);
+        for (int i = 0; i < topSize; i++) {
+            scores.add(read(topRecords[i]));
+        }
+        return scores;
+    }
+
+    /**
+     * @return the best score, or Integer.MIN_VALUE if there are none
+     */
+    public synchronized int bestScore() {
+        return topSize == 0 ? Integer.MIN_VALUE : topScores[0];
+    }
+
+    /**
+     * @return number of scores stored
+     */
+    public synchronized long size() {
+        return records;
+    }
+
+    /**
+     * Reads one record.
+     *
+     * @param record The record number
+     * @return the score stored there
+     */
+    public synchronized Score read(long record) {
+        if (record < 0 || record >= records) {
+            throw new IndexOutOfBoundsException("No record " + record + " in a store of " + records);
+        }
+        MappedByteBuffer chunk = chunks.get((int) (record / CHUNK_RECORDS));
+        int offset = (int) (record % CHUNK_RECORDS) * RECORD_SIZE;
+        int length = Math.min(chunk.getInt(offset + 12), NAME_BYTES);
+        for (int i = 0; i < length; i++) {
+            nameBuffer[i] = chunk.get(offset + 16 + i);
+        }
+        return new Score(chunk.getInt(offset + 8), new String(nameBuffer, 0, length, StandardCharsets.UTF_8),
+                chunk.getLong(offset));
+    }
+
+    /**
+     * Adds the scores from an old scores.txt (one number per line) to the store.
+     *
+     * @param scoresFile The old score file
+     * @return number of scores added
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized int importScores(Path scoresFile) throws IOException {
+        int added = 0;
+        try (Scanner fileInput = new Scanner(scoresFile)) {
+            while (fileInput.hasNextLine()) {
+                String line = fileInput.nextLine().trim();
+                if (!line.isEmpty()) {
+                    append(Integer.parseInt(line), "", 0);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Writes a checkpoint and flushes every change to the disk.
+     */
+    public synchronized void force() {
+        writeCheckpoint();
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    /**
+     * Flushes everything and closes the file.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        force();
+        chunks.clear();
+        channel.close();
+    }
+
+    // Replays records after the checkpoint until the first one that was not completely written.
+    private void recover() throws IOException {
+        long fileRecords = Math.max(0, (channel.size() - HEADER_SIZE) / RECORD_SIZE);
+        while (records < fileRecords) {
+            MappedByteBuffer chunk = chunkFor(records);
+            int offset = (int) (records % CHUNK_RECORDS) * RECORD_SIZE;
+            if (chunk.getInt(offset + 44) != checksum(chunk, offset)) {
+                break;
+            }
+            addToTop(chunk.getInt(offset + 8), records);
+            records++;
+        }
+        // Wipe anything after a torn record, so old records there cannot come back once it is overwritten
+        for (long record = records; record < fileRecords; record++) {
+            MappedByteBuffer chunk = chunkFor(record);
+            int offset = (int) (record % CHUNK_RECORDS) * RECORD_SIZE;
+            boolean empty = true;
+            for (int i = 0; i < RECORD_SIZE; i += 8) {
+                if (chunk.getLong(offset + i) != 0) {
+                    empty = false;
+                    chunk.putLong(offset + i, 0L);
+                }
+            }
+            if (empty) {
+                break;
+            }
+        }
+        if (records != checkpointed) {
+            writeCheckpoint();
+        }
+    }
+
+    // Keeps the top scores sorted, best first; a new score goes after older equal scores.
+    private void addToTop(int score, long record) {
+        if (topSize == topScores.length && score <= topScores[topSize - 1]) {
+            return;
+        }
+        int i = topSize == topScores.length ? topSize - 1 : topSize++;
+        while (i > 0 && topScores[i - 1] < score) {
+            topScores[i] = topScores[i - 1];
+            topRecords[i] = topRecords[i - 1];
+            i--;
+        }
+        topScores[i] = score;
+        topRecords[i] = record;
+    }
+
+    // Header: magic, version, top size, number of top entries, record count, then (score, record) pairs.
+    private void writeCheckpoint() {
+        header.putInt(8, topScores.length);
+        header.putInt(12, topSize);
+        for (int i = 0; i < topSize; i++) {
+            header.putInt(24 + i * 12, topScores[i]);
+            header.putLong(28 + i * 12, topRecords[i]);
+        }
+        header.putLong(16, records);
+        checkpointed = records;
+    }
+
+    // Loads the record count and top scores saved in the header.
+    private void readCheckpoint() {
+        records = header.getLong(16);
+        checkpointed = records;
+        int saved = Math.min(header.getInt(12), topScores.length);
+        for (int i = 0; i < saved; i++) {
+            addToTop(header.getInt(24 + i * 12), header.getLong(28 + i * 12));
+        }
+    }
+
+    // Returns the mapped chunk holding a record, mapping new chunks (and remapping the last one
+    // longer) as the file grows. Every chunk but the last is mapped full length. Mapping past the
+    // end of the file makes the file that long.
+    private MappedByteBuffer chunkFor(long record) throws IOException {
+        int index = (int) (record / CHUNK_RECORDS);
+        int needed = (int) (record % CHUNK_RECORDS) + 1;
+        while (chunks.size() <= index || chunks.get(index).capacity() < needed * RECORD_SIZE) {
+            int last = chunks.size() - 1;
+            int lastRecords = last < 0 ? CHUNK_RECORDS : chunks.get(last).capacity() / RECORD_SIZE;
+            if (last == index || lastRecords < CHUNK_RECORDS) {
+                // Map the last chunk again, twice as long (or as long as needed)
+                int wanted = last == index ? needed : CHUNK_RECORDS;
+                chunks.set(last, map(last, Math.min(CHUNK_RECORDS, Math.max(lastRecords * 2, wanted))));
+            } else {
+                // Start a new chunk small, unless the file already has records there
+                long existing = (channel.size() - HEADER_SIZE) / RECORD_SIZE - (long) chunks.size() * CHUNK_RECORDS;
+                chunks.add(map(chunks.size(), (int) Math.min(CHUNK_RECORDS, Math.max(FIRST_RECORDS, existing))));
+            }
+        }
+        return chunks.get(index);
+    }
+
+    // Maps the first records of a chunk.
+    private MappedByteBuffer map(int index, int records) throws IOException {
+        long position = HEADER_SIZE + (long) index * CHUNK_RECORDS * RECORD_SIZE;
+        return channel.map(FileChannel.MapMode.READ_WRITE, position, (long) records * RECORD_SIZE);
+    }
+
+    // Checksum of the first 44 bytes of a record.
+    private int checksum(MappedByteBuffer chunk, int offset) {
+        crc.reset();
+        crc.update(chunk.slice(offset, 44));
+        return (int) crc.getValue();
+    }
+}
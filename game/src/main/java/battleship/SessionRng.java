@@ -0,0 +1,142 @@
+package battleship;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Session Rng(Battleship)
+ *
+ * The random numbers for one game, all worked out from a single seed, so the same seed always
+ * plays the same game bit for bit. Instead of one stream shared by everything, each use has
+ * its own stream: the placement of each board's fleet, each side's shooter, and each side's
+ * tie-breaks. Drawing more numbers from one (say, a smarter computer shooter) never changes
+ * another (where the ships go), and nothing is shared between games or threads, so parallel
+ * simulations never wait on each other the way they do on one java.util.Random.
+ *
+ * forGame() numbers the games of a session, so game n of seed s can be played again on its
+ * own. reset() starts the same object over from another seed, so a simulator can reuse one
+ * SessionRng for millions of games without creating any objects. Each stream is SplitMix64,
+ * the generator behind SplittableRandom, started from the seed mixed with the stream's number.
+ * A SessionRng is not thread-safe; give each thread its own.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public final class SessionRng {
+    // The golden ratio step SplittableRandom uses, to spread nearby numbers over the seeds
+    static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    // Stream numbers, as offsets from a side's first stream
+    private static final int PLACEMENT = 0;
+    private static final int SHOOTER = 1;
+    private static final int TIES = 2;
+    private static final int PER_SIDE = 3;
+
+    private long seed;
+    private final Stream[] streams = new Stream[2 * PER_SIDE];
+
+    /**
+     * Constructor for the streams of one seed.
+     *
+     * @param seed The seed
+     */
+    public SessionRng(long seed) {
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new Stream();
+        }
+        reset(seed);
+    }
+
+    /**
+     * Makes the streams for one game of a session.
+     *
+     * @param sessionSeed The session's seed
+     * @param game The game's number in the session, from 0
+     * @return the game's streams
+     */
+    public static SessionRng forGame(long sessionSeed, long game) {
+        return new SessionRng(gameSeed(sessionSeed, game));
+    }
+
+    /**
+     * @param sessionSeed The session's seed
+     * @param game The game's number in the session, from 0
+     * @return the seed of that game, as forGame uses it
+     */
+    public static long gameSeed(long sessionSeed, long game) {
+        return mix64(sessionSeed + GOLDEN * (game + 1));
+    }
+
+    /**
+     * @return a new seed, different every time (from SplittableRandom's own seed generator)
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Starts every stream over from a new seed.
+     *
+     * @param seed The seed
+     * @return this SessionRng
+     */
+    public SessionRng reset(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < streams.length; i++) {
+            // Each stream starts from the mixed seed plus its own step
+            streams[i].state = mix64(mix64(seed) + GOLDEN * (i + 1));
+        }
+        return this;
+    }
+
+    /**
+     * @return the seed the streams were started from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @param board 0 or 1: which board (in the Swing game 0 is the computer's, 1 the player's)
+     * @return the stream for hiding that board's fleet
+     */
+    public RandomGenerator placement(int board) {
+        return streams[board * PER_SIDE + PLACEMENT];
+    }
+
+    /**
+     * @param side 0 or 1: which side's shooter (in the Swing game the computer is 0)
+     * @return the stream for that shooter's choices
+     */
+    public RandomGenerator shooter(int side) {
+        return streams[side * PER_SIDE + SHOOTER];
+    }
+
+    /**
+     * @param side 0 or 1: which side's shooter
+     * @return the stream for breaking that shooter's ties between equally good cells
+     */
+    public RandomGenerator ties(int side) {
+        return streams[side * PER_SIDE + TIES];
+    }
+
+    // Scrambles a seed so nearby numbers give unrelated random numbers (SplittableRandom's mix).
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // One SplitMix64 stream; RandomGenerator builds every other kind of number from nextLong.
+    private static final class Stream implements RandomGenerator {
+        private long state;
+
+        @Override
+        public long nextLong() {
+            state += GOLDEN;
+            return mix64(state);
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Ship Placer(Battleship)
+ *
+ * Hides a fleet without guessing and retrying. For each ship it counts every position where the
+ * ship would fit against the ships already placed, then picks one of them uniformly with a single
+ * random number. The work per ship does not depend on how crowded the board is, and the same seed
+ * always gives the same layout.
+ *
+ * Boards up to 64 columns keep one mask of free cells per row, so the positions for a whole row
+ * are found with a few shifts and ANDs. Wider boards count free runs cell by cell instead.
+ * On a mostly empty board a random spot is nearly always free, so a few random spots are tried
+ * first. They are drawn evenly from every spot on the board, so the pick stays uniform either way.
+ * On wide boards this matters most: counting runs reads every cell, which for thousands of ships
+ * on a 1000x1000 board would be billions of reads, while a random spot reads only the ship's cells.
+ *
+ * A crowded fleet can still leave no room for a later ship after the earlier ones were put down
+ * at random. After a few fresh tries the placer falls back to a backtracking search that decides
+ * the board cell by cell, so a fleet that fits is always placed unless the search runs out of
+ * steps. The steps allowed grow with the board and the fleet (STEPS_PER_PLACEMENT for each cell
+ * and ship, at most SEARCH_STEPS), so a fleet that does not fit fails in about the time placing
+ * it would take. Before searching, a coloring check (see colorsAllow) turns down most crowded
+ * fleets that cannot fit at all without searching.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class ShipPlacer {
+    // How many times a whole fleet is tried again when an early choice leaves no room for a later ship
+    private static final int FLEET_ATTEMPTS = 16;
+    // Random spots tried before counting every position
+    private static final int RANDOM_TRIES = 4;
+    // Choices the backtracking search may make for each cell and ship before it gives up on a
+    // fleet, and at most in all. The hardest fleets that fit seen so far needed under 50 per cell
+    // and ship (fifteen 6s on a 10x10 board)
+    private static final long STEPS_PER_PLACEMENT = 256;
+    private static final long SEARCH_STEPS = 20_000_000;
+
+    // Free cells in each row (bit = column), and the rows' horizontal and vertical start positions for one ship
+    private long[] rowFree = new long[0];
+    private long[] horizontalStarts = new long[0];
+    private long[] verticalStarts = new long[0];
+
+    // For boards wider than 64 columns: free cells to the right of (and including) each cell, and below it
+    private int[] runRight = new int[0];
+    private int[] runDown = new int[0];
+
+    /**
+     * Clears the board and hides the whole fleet on it.
+     *
+     * @param board The board to place the ships on
+     * @param fleet The ship lengths, placed in order
+     * @param rng Where the random numbers come from
+     * @throws IllegalStateException if the fleet cannot fit on the board, or the backtracking
+     *         search ran out of steps before finding room for it
+     */
+    public void placeFleet(BitBoard board, int[] fleet, RandomGenerator rng) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int parts = 0;
+        for (int length : fleet) {
+            if (length <= 0 || length > Math.max(rows, cols)) {
+                throw new IllegalStateException("A ship of length " + length + " cannot fit on a " + rows + "x" + cols + " board");
+            }
+            parts += length;
+        }
+        if (parts > rows * cols) {
+            throw new IllegalStateException("A fleet of " + parts + " parts cannot fit on a " + rows + "x" + cols + " board");
+        }
+
+        for (int attempt = 0; attempt < FLEET_ATTEMPTS; attempt++) {
+            board.clear();
+            boolean masks = cols <= 64;
+            if (masks) {
+                startRows(rows, cols);
+            }
+            boolean placed = true;
+            for (int length : fleet) {
+                if (!(masks ? placeWithMasks(board, length, rng) : placeWithRuns(board, length, rng))) {
+                    placed = false;
+                    break;
+                }
+            }
+            if (placed) {
+                return;
+            }
+        }
+        if (!colorsAllow(rows, cols, fleet) || !placeBySearch(board, fleet, rng)) {
+            throw new IllegalStateException("Could not fit the fleet on a " + rows + "x" + cols + " board");
+        }
+    }
+
+    // Colors cell (row, col) with (row + col) % m for each m from 2 to the longest ship. A ship of
+    // length L covers L cells of consecutive colors, going right or down, so at least L / m of
+    // every color. Returns false if the fleet needs more of some color than the board has, like
+    // 25 ships of 4 on a 10x10 board, where color 3 has only 24 cells.
+    private static boolean colorsAllow(int rows, int cols, int[] fleet) {
+        int longest = 0;
+        for (int length : fleet) {
+            longest = Math.max(longest, length);
+        }
+        for (int m = 2; m <= longest; m++) {
+            long needed = 0;
+            for (int length : fleet) {
+                needed += length / m;
+            }
+            // Each row has cols / m cells of every color, and each run of m rows gives every color
+            // cols % m more, so only the rows left over can make one color short
+            int whole = cols / m;
+            int extra = cols % m;
+            if (needed <= (long) rows * whole + (long) (rows / m) * extra) {
+                continue;
+            }
+            // Row r adds one more to colors r % m .. r % m + extra - 1, wrapping around
+            long[] counts = new long[m];
+            for (int first = 0; first < m; first++) {
+                long rowsLikeThis = rows / m + (first < rows % m ? 1 : 0);
+                for (int k = 0; k < extra; k++) {
+                    counts[(first + k) % m] += rowsLikeThis;
+                }
+            }
+            for (long count : counts) {
+                if (needed > (long) rows * whole + count) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // Searches for a layout cell by cell, like filling in a grid: the first cell not decided yet
+    // either starts one of the ships still to place (going right or down) or is left empty, which
+    // is allowed only as many times as the board has cells to spare. Any choice that leaves no way
+    // on is undone and the next one tried. The ships' order at each cell is rotated by a random
+    // amount and the layout is mirrored at random, so different seeds give different layouts.
+    // Returns false if the fleet does not fit, or the search ran out of steps.
+    private static boolean placeBySearch(BitBoard board, int[] fleet, RandomGenerator rng) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int cells = rows * cols;
+        long maxSteps = Math.min(SEARCH_STEPS, STEPS_PER_PLACEMENT * cells * fleet.length);
+
+        // The different ship lengths, longest first, and how many of each are still to place
+        int[] sorted = fleet.clone();
+        Arrays.sort(sorted);
+        int[] kinds = new int[sorted.length];
+        int[] left = new int[sorted.length];
+        int kindCount = 0;
+        int spare = cells;
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            if (kindCount == 0 || kinds[kindCount - 1] != sorted[i]) {
+                kinds[kindCount++] = sorted[i];
+            }
+            left[kindCount - 1]++;
+            spare -= sorted[i];
+        }
+        int shipChoices = 2 * kindCount;
+        int rotation = rng.nextInt(shipChoices);
+
+        // One level per decided cell: the cell, and the choice made there (shipChoices = left empty)
+        int[] levelCell = new int[cells];
+        int[] levelChoice = new int[cells];
+        long[] taken = new long[(cells + 63) >>> 6];
+        int shipsLeft = fleet.length;
+        int empty = 0;
+        long steps = 0;
+        int level = 0;
+        levelCell[0] = 0;
+        levelChoice[0] = -1;
+        while (shipsLeft > 0) {
+            if (level < 0 || ++steps > maxSteps) {
+                return false;
+            }
+            int cell = levelCell[level];
+            // Undo the choice tried here last time
+            int choice = levelChoice[level];
+            if (choice >= 0 && choice < shipChoices) {
+                int kind = (choice + rotation) % shipChoices >>> 1;
+                mark(taken, cell, kinds[kind], ((choice + rotation) & 1) == 1 ? cols : 1, false);
+                left[kind]++;
+                shipsLeft++;
+            } else if (choice == shipChoices) {
+                taken[cell >>> 6] &= ~(1L << cell);
+                empty--;
+                level--;
+                continue;
+            }
+            // Try the next choice at this cell
+            for (choice++; choice < shipChoices; choice++) {
+                int rotated = (choice + rotation) % shipChoices;
+                int kind = rotated >>> 1;
+                int step = (rotated & 1) == 1 ? cols : 1;
+                if (left[kind] > 0 && fits(taken, cell, kinds[kind], rows, cols, step == cols)) {
+                    mark(taken, cell, kinds[kind], step, true);
+                    left[kind]--;
+                    shipsLeft--;
+                    break;
+                }
+            }
+            if (choice == shipChoices) {
+                if (empty == spare) {
+                    level--;
+                    continue;
+                }
+                taken[cell >>> 6] |= 1L << cell;
+                empty++;
+            }
+            levelChoice[level] = choice;
+            if (shipsLeft == 0) {
+                break;
+            }
+            // On to the first cell after this one that nothing covers yet
+            int next = cell + 1;
+            while (next < cells && (taken[next >>> 6] & (1L << next)) != 0) {
+                next++;
+            }
+            if (next == cells) {
+                // Out of cells with ships still to place: try something else here
+                continue;
+            }
+            level++;
+            levelCell[level] = next;
+            levelChoice[level] = -1;
+        }
+
+        // Put the ships on the board in the fleet's order, mirrored at random
+        boolean flipRows = rng.nextBoolean();
+        boolean flipCols = rng.nextBoolean();
+        int[][] starts = new int[kindCount][];
+        int[] found = new int[kindCount];
+        for (int kind = 0; kind < kindCount; kind++) {
+            starts[kind] = new int[sortedCount(sorted, kinds[kind])];
+        }
+        for (int l = 0; l <= level; l++) {
+            if (levelChoice[l] < shipChoices) {
+                int rotated = (levelChoice[l] + rotation) % shipChoices;
+                starts[rotated >>> 1][found[rotated >>> 1]++] = levelCell[l] << 1 | (rotated & 1);
+            }
+        }
+        board.clear();
+        Arrays.fill(found, 0);
+        for (int length : fleet) {
+            int kind = 0;
+            while (kinds[kind] != length) {
+                kind++;
+            }
+            int start = starts[kind][found[kind]++];
+            boolean vertical = (start & 1) == 1;
+            int row = (start >>> 1) / cols;
+            int col = (start >>> 1) % cols;
+            // Mirroring moves the ship's first part to what was its last
+            if (flipRows) {
+                row = rows - 1 - row - (vertical ? length - 1 : 0);
+            }
+            if (flipCols) {
+                col = cols - 1 - col - (vertical ? 0 : length - 1);
+            }
+            board.placeShip(row, col, vertical, length);
+        }
+        return true;
+    }
+
+    // How many ships of one length a sorted fleet has.
+    private static int sortedCount(int[] sorted, int length) {
+        int count = 0;
+        for (int ship : sorted) {
+            if (ship == length) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Whether a ship starting at a cell fits without leaving the board or touching a taken cell.
+    private static boolean fits(long[] taken, int cell, int length, int rows, int cols, boolean vertical) {
+        if (vertical ? cell / cols + length > rows : cell % cols + length > cols) {
+            return false;
+        }
+        int step = vertical ? cols : 1;
+        for (int part = 0; part < length; part++, cell += step) {
+            if ((taken[cell >>> 6] & (1L << cell)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Takes or frees the cells of a ship starting at a cell; step is 1 across or cols down.
+    private static void mark(long[] taken, int cell, int length, int step, boolean take) {
+        for (int part = 0; part < length; part++, cell += step) {
+            if (take) {
+                taken[cell >>> 6] |= 1L << cell;
+            } else {
+                taken[cell >>> 6] &= ~(1L << cell);
+            }
+        }
+    }
+
+    /**
+     * Places one ship at a position picked uniformly from every position where it fits.
+     *
+     * @param board The board to place the ship on
+     * @param length The length of the ship
+     * @param rng Where the random numbers come from
+     * @return false if there is nowhere the ship fits
+     */
+    public boolean placeShip(BitBoard board, int length, RandomGenerator rng) {
+        if (board.getCols() <= 64) {
+            // Read the free cells of each row off the board
+            startRows(board.getRows(), board.getCols());
+            for (int cell = 0; cell < board.getCells(); cell++) {
+                if (board.isShip(cell)) {
+                    rowFree[cell / board.getCols()] &= ~(1L << (cell % board.getCols()));
+                }
+            }
+            return placeWithMasks(board, length, rng);
+        }
+        return placeWithRuns(board, length, rng);
+    }
+
+    // Marks every cell of every row as free.
+    private void startRows(int rows, int cols) {
+        if (rowFree.length != rows) {
+            rowFree = new long[rows];
+            horizontalStarts = new long[rows];
+            verticalStarts = new long[rows];
+        }
+        long full = cols == 64 ? -1L : (1L << cols) - 1;
+        for (int row = 0; row < rows; row++) {
+            rowFree[row] = full;
+        }
+    }
+
+    // Places one ship using the row masks, and marks its cells as taken in them.
+    private boolean placeWithMasks(BitBoard board, int length, RandomGenerator rng) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        long shipMask = length == 64 ? -1L : (1L << length) - 1;
+
+        // Cheap tries first: a spot drawn evenly from every horizontal and vertical spot on the board
+        int horizontalSpots = cols >= length ? rows * (cols - length + 1) : 0;
+        int verticalSpots = rows >= length ? (rows - length + 1) * cols : 0;
+        for (int tries = 0; tries < RANDOM_TRIES && horizontalSpots + verticalSpots > 0; tries++) {
+            int spot = rng.nextInt(horizontalSpots + verticalSpots);
+            if (spot < horizontalSpots) {
+                int row = spot / (cols - length + 1);
+                int col = spot % (cols - length + 1);
+                if ((rowFree[row] & (shipMask << col)) == shipMask << col) {
+                    rowFree[row] &= ~(shipMask << col);
+                    return board.placeShip(row, col, false, length);
+                }
+            } else {
+                spot -= horizontalSpots;
+                int row = spot / cols;
+                int col = spot % cols;
+                long bit = 1L << col;
+                boolean free = true;
+                for (int parts = 0; parts < length && free; parts++) {
+                    free = (rowFree[row + parts] & bit) != 0;
+                }
+                if (free) {
+                    for (int parts = 0; parts < length; parts++) {
+                        rowFree[row + parts] &= ~bit;
+                    }
+                    return board.placeShip(row, col, true, length);
+                }
+            }
+        }
+
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            // Bit c is set if the cells c .. c + length - 1 of this row are all free
+            long horizontal = rowFree[row];
+            for (int shift = 1; shift < length && horizontal != 0; shift++) {
+                horizontal &= rowFree[row] >>> shift;
+            }
+            // Bit c is set if the cells in column c of rows row .. row + length - 1 are all free
+            long vertical = row + length <= rows ? rowFree[row] : 0L;
+            for (int below = 1; below < length && vertical != 0; below++) {
+                vertical &= rowFree[row + below];
+            }
+            horizontalStarts[row] = horizontal;
+            verticalStarts[row] = vertical;
+            count += Long.bitCount(horizontal) + Long.bitCount(vertical);
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        // Walk to the chosen position, a whole row at a time
+        int pick = rng.nextInt(count);
+        for (int row = 0; row < rows; row++) {
+            int inRow = Long.bitCount(horizontalStarts[row]);
+            if (pick < inRow) {
+                int col = nthBit(horizontalStarts[row], pick);
+                rowFree[row] &= ~(shipMask << col);
+                return board.placeShip(row, col, false, length);
+            }
+            pick -= inRow;
+            inRow = Long.bitCount(verticalStarts[row]);
+            if (pick < inRow) {
+                int col = nthBit(verticalStarts[row], pick);
+                for (int parts = 0; parts < length; parts++) {
+                    rowFree[row + parts] &= ~(1L << col);
+                }
+                return board.placeShip(row, col, true, length);
+            }
+            pick -= inRow;
+        }
+        return false;
+    }
+
+    // Returns the position of the n-th set bit (counting from 0).
+    private static int nthBit(long mask, int n) {
+        for (; n > 0; n--) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+
+    // Places one ship by counting the free runs to the right of and below each cell.
+    private boolean placeWithRuns(BitBoard board, int length, RandomGenerator rng) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int cells = board.getCells();
+
+        // Cheap tries first, drawn evenly from every horizontal and vertical spot like placeWithMasks.
+        // Counting reads every cell, so a big board can afford about one try per thousand cells.
+        int horizontalSpots = cols >= length ? rows * (cols - length + 1) : 0;
+        int verticalSpots = rows >= length ? (rows - length + 1) * cols : 0;
+        int maxTries = Math.max(RANDOM_TRIES, cells >>> 10);
+        for (int tries = 0; tries < maxTries && horizontalSpots + verticalSpots > 0; tries++) {
+            int spot = rng.nextInt(horizontalSpots + verticalSpots);
+            // placeShip leaves the board alone if the ship would overlap another
+            if (spot < horizontalSpots) {
+                if (board.placeShip(spot / (cols - length + 1), spot % (cols - length + 1), false, length)) {
+                    return true;
+                }
+            } else if (board.placeShip((spot - horizontalSpots) / cols, (spot - horizontalSpots) % cols, true, length)) {
+                return true;
+            }
+        }
+
+        countRuns(board);
+
+        // Count the positions: a horizontal ship fits where the run to the right is long enough, likewise down
+        int count = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            if (runRight[cell] >= length) {
+                count++;
+            }
+            if (runDown[cell] >= length) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return false;
+        }
+
+        // Walk to the chosen position
+        int pick = rng.nextInt(count);
+        for (int cell = 0; cell < cells; cell++) {
+            if (runRight[cell] >= length && pick-- == 0) {
+                return board.placeShip(cell / cols, cell % cols, false, length);
+            }
+            if (runDown[cell] >= length && pick-- == 0) {
+                return board.placeShip(cell / cols, cell % cols, true, length);
+            }
+        }
+        return false;
+    }
+
+    // Fills runRight and runDown from the ships currently on the board.
+    private void countRuns(BitBoard board) {
+        int rows = board.getRows();
+        int cols = board.getCols();
+        int cells = board.getCells();
+        if (runRight.length != cells) {
+            runRight = new int[cells];
+            runDown = new int[cells];
+        }
+        for (int row = rows - 1; row >= 0; row--) {
+            for (int col = cols - 1; col >= 0; col--) {
+                int cell = row * cols + col;
+                if (board.isShip(cell)) {
+                    runRight[cell] = 0;
+                    runDown[cell] = 0;
+                } else {
+                    runRight[cell] = col + 1 < cols ? runRight[cell + 1] + 1 : 1;
+                    runDown[cell] = row + 1 < rows ? runDown[cell + cols] + 1 : 1;
+                }
+            }
+        }
+    }
+}
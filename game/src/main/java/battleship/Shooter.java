@@ -0,0 +1,55 @@
+package battleship;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Shooter(Battleship)
+ *
+ * A strategy that decides where to fire next. A shooter only learns about the target board
+ * through shotResult, so it can play against any board without seeing where the ships are.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public interface Shooter {
+    /**
+     * Forgets everything from the previous game and gets ready for a new one.
+     *
+     * @param rows number of rows on the target board
+     * @param cols number of columns on the target board
+     * @param fleet the lengths of the ships hidden on the target board
+     */
+    void newGame(int rows, int cols, int[] fleet);
+
+    /**
+     * Picks the next cell to fire at. It must be a cell that has not been fired at yet.
+     *
+     * @param rng Where the random numbers come from
+     * @return the cell index (row * cols + col)
+     */
+    int nextShot(RandomGenerator rng);
+
+    /**
+     * Picks the next cell to fire at, breaking ties between equally good cells with their own
+     * random numbers, so how ties go does not depend on how many numbers the shooter drew
+     * (see SessionRng). Shooters that break ties override this; the rest ignore ties.
+     *
+     * @param rng Where the random numbers for the shooter's choices come from
+     * @param ties Where the random numbers for breaking ties come from
+     * @return the cell index (row * cols + col)
+     */
+    default int nextShot(RandomGenerator rng, RandomGenerator ties) {
+        return nextShot(rng);
+    }
+
+    /**
+     * Tells the shooter what happened after firing at a cell.
+     *
+     * @param cell The cell index that was fired at
+     * @param result BitBoard.MISS, BitBoard.HIT or BitBoard.SUNK
+     * @param sunkShip the ship that was sunk, packed with BitBoard.packShip, when result is SUNK
+     */
+    void shotResult(int cell, int result, int sunkShip);
+}
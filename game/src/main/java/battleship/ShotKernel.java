@@ -0,0 +1,35 @@
+package battleship;
+
+/**
+ * Summative Game Shot Kernel(Battleship)
+ *
+ * The loop at the heart of BoardBatch: fires one shot at each of many boards stored as
+ * structs of arrays. There is a plain Java version (ScalarShotKernel) and one written with
+ * the incubating Vector API (VectorShotKernel); both give exactly the same results.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+interface ShotKernel {
+    /**
+     * Fires cells[b] at board b for every board, updating the hit and miss masks.
+     *
+     * @param ships ship mask of each board
+     * @param hits hit mask of each board
+     * @param misses miss mask of each board
+     * @param shipMasks the cells of ship k of board b at index k * boards + b (0 if the board has fewer ships)
+     * @param fleetSize number of ships per board
+     * @param boards number of boards
+     * @param cells the cell to fire at on each board, between 0 and 63
+     * @param results where to put BitBoard.MISS, HIT, SUNK or REPEAT for each board
+     */
+    void shoot(long[] ships, long[] hits, long[] misses, long[] shipMasks, int fleetSize, int boards,
+            int[] cells, int[] results);
+
+    /**
+     * @return a short name for reports, e.g. "scalar"
+     */
+    String getName();
+}
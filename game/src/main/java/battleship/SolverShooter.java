@@ -0,0 +1,131 @@
+package battleship;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Solver Shooter(Battleship)
+ *
+ * The "perfect" computer opponent. It plays like the DensityShooter while there are too many
+ * ways the ships could be hidden to search, and hands over to the EndgameSolver as soon as the
+ * position is small enough, so the end of every game is played with the fewest shots on average.
+ * Whether it is small enough is checked with the solver's quick layout bound first, so the
+ * opening moves cost no more than the DensityShooter's.
+ * Sunk ships are taken out of the solver's fleet and their cells count as blocked.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class SolverShooter implements Shooter {
+    // The solver is only asked once EndgameSolver.layoutBound is at most this many times its
+    // layout limit. The bound ignores overlaps and hits, so it runs several times too high; beyond
+    // this the solver nearly always gives up anyway, after listing layouts for up to 50 ms
+    private static final int BOUND_FACTOR = 5;
+
+    private final DensityShooter density = new DensityShooter();
+    private EndgameSolver solver;
+    private int rows;
+    private int cols;
+
+    // Hits on ships still afloat, misses and sunk cells, and the lengths of the ships still afloat
+    private long hits;
+    private long blocked;
+    private int[] fleet = new int[0];
+    private int afloat;
+
+    // The last search, for showing how the solver is doing
+    private EndgameSolver.Result lastResult;
+
+    /**
+     * Gets ready for a new game. The solver and its transposition table are kept while the board size stays the same.
+     *
+     * @param rows number of rows on the target board
+     * @param cols number of columns on the target board
+     * @param fleet the lengths of the ships hidden on the target board
+     * @throws IllegalArgumentException if the board has more than 64 cells
+     */
+    @Override
+    public void newGame(int rows, int cols, int[] fleet) {
+        if (solver == null || rows != this.rows || cols != this.cols) {
+            solver = new EndgameSolver(rows, cols);
+            this.rows = rows;
+            this.cols = cols;
+        }
+        density.newGame(rows, cols, fleet);
+        this.fleet = fleet.clone();
+        afloat = fleet.length;
+        hits = 0;
+        blocked = 0;
+        lastResult = null;
+    }
+
+    /**
+     * Fires where the solver says if it could search the position, and where the DensityShooter says otherwise.
+     *
+     * @param rng Where the random numbers come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng) {
+        return nextShot(rng, rng);
+    }
+
+    /**
+     * As nextShot(rng), with the DensityShooter's ties broken with ties.
+     *
+     * @param rng Where the random numbers come from
+     * @param ties Where the random numbers for breaking ties come from
+     * @return the cell index
+     */
+    @Override
+    public int nextShot(RandomGenerator rng, RandomGenerator ties) {
+        int[] ships = Arrays.copyOf(fleet, afloat);
+        if (solver.layoutBound(blocked, ships) > (long) solver.getMaxLayouts() * BOUND_FACTOR) {
+            return density.nextShot(rng, ties);
+        }
+        lastResult = solver.solve(hits, blocked, ships);
+        int cell = lastResult.getBestCell();
+        return cell >= 0 ? cell : density.nextShot(rng, ties);
+    }
+
+    /**
+     * Records a shot's result for both the solver and the DensityShooter.
+     *
+     * @param cell The cell index that was fired at
+     * @param result BitBoard.MISS, BitBoard.HIT or BitBoard.SUNK
+     * @param sunkShip the ship that was sunk, packed with BitBoard.packShip, when result is SUNK
+     */
+    @Override
+    public void shotResult(int cell, int result, int sunkShip) {
+        density.shotResult(cell, result, sunkShip);
+        if (result == BitBoard.MISS) {
+            blocked |= 1L << cell;
+            return;
+        }
+        hits |= 1L << cell;
+        if (result == BitBoard.SUNK && sunkShip >= 0) {
+            int length = BitBoard.shipLength(sunkShip);
+            int step = BitBoard.shipVertical(sunkShip) ? cols : 1;
+            for (int parts = 0, c = BitBoard.shipStart(sunkShip); parts < length; parts++, c += step) {
+                hits &= ~(1L << c);
+                blocked |= 1L << c;
+            }
+            // Take one ship of that length out of the fleet
+            for (int i = 0; i < afloat; i++) {
+                if (fleet[i] == length) {
+                    fleet[i] = fleet[--afloat];
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the solver's last result, or null if it has not been asked yet this game
+     */
+    public EndgameSolver.Result getLastResult() {
+        return lastResult;
+    }
+}
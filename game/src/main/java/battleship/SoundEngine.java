@@ -0,0 +1,286 @@
+package battleship;
+
+import java.awt.GraphicsEnvironment;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.LineEvent;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Summative Game Sound Engine(Battleship)
+ *
+ * Decodes every sound effect once at startup and keeps a few open clips per effect, so playing
+ * a sound is just rewinding and starting a clip that is already loaded. Clips are started on a
+ * background thread so the EDT never waits for audio, and the number of sounds playing at once
+ * is capped. If there is no sound device (e.g. a headless machine), a silent engine is used.
+ *
+ * createAsync() returns at once and does the loading on the sound thread, decoding the files in
+ * parallel, so the window can be shown while the sounds load. A sound played before they are
+ * ready waits its turn on the sound thread, and if they cannot be loaded it is skipped.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class SoundEngine {
+    /**
+     * The game's sound effects and their files.
+     */
+    public enum Effect {
+        CRASH("crash_x.wav"),
+        EXPLOSION("explosion_x.wav"),
+        SPLASH("splash2.wav");
+
+        private final String fileName;
+
+        Effect(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
+    // Clips kept open per effect, and the most sounds allowed to play at the same time
+    private static final int CLIPS_PER_EFFECT = 3;
+    private static final int MAX_VOICES = 6;
+
+    // Open clips for each effect; empty for the silent engine
+    private final Map<Effect, Clip[]> pools = new EnumMap<>(Effect.class);
+    private final int[] nextClip = new int[Effect.values().length];
+    private final AtomicInteger voices = new AtomicInteger();
+    private final ExecutorService player;
+
+    // Set when loading failed, after which the engine stays silent
+    private volatile boolean failed;
+
+    // Time from play() to the clip starting
+    private volatile long lastStartNanos;
+    private final AtomicInteger started = new AtomicInteger();
+
+    // Use create() or silent()
+    private SoundEngine(ExecutorService player) {
+        this.player = player;
+    }
+
+    /**
+     * Loads every effect and opens its clips. Falls back to a silent engine if sound is not available.
+     *
+     * @return a ready sound engine
+     */
+    public static SoundEngine create() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return silent();
+        }
+        SoundEngine engine = new SoundEngine(newPlayer());
+        if (!engine.loadAll()) {
+            engine.close();
+            return silent();
+        }
+        return engine;
+    }
+
+    /**
+     * Starts loading every effect on the sound thread and returns without waiting for it.
+     *
+     * @return an engine whose sounds play once they are loaded
+     */
+    public static SoundEngine createAsync() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return silent();
+        }
+        SoundEngine engine = new SoundEngine(newPlayer());
+        engine.player.execute(engine::loadAll);
+        return engine;
+    }
+
+    /**
+     * @return an engine that ignores every play() call
+     */
+    public static SoundEngine silent() {
+        return new SoundEngine(null);
+    }
+
+    /**
+     * @return true if this engine does not play anything
+     */
+    public boolean isSilent() {
+        return player == null || failed;
+    }
+
+    /**
+     * Plays a sound effect without waiting for it. If every clip of the effect is busy,
+     * or too many sounds are already playing, the sound is skipped.
+     *
+     * @param effect The effect to play
+     */
+    public void play(Effect effect) {
+        if (player == null || failed) {
+            return;
+        }
+        long requested = System.nanoTime();
+        player.execute(() -> start(effect, requested));
+    }
+
+    /**
+     * @return time from the last play() call to its clip starting, in nanoseconds
+     */
+    public long getLastStartNanos() {
+        return lastStartNanos;
+    }
+
+    /**
+     * @return number of sounds started
+     */
+    public int getStarted() {
+        return started.get();
+    }
+
+    /**
+     * Stops the background thread and closes every clip.
+     */
+    public void close() {
+        if (player != null) {
+            player.shutdownNow();
+        }
+        closeClips();
+    }
+
+    // Closes every clip opened so far.
+    private void closeClips() {
+        for (Clip[] clips : pools.values()) {
+            for (Clip clip : clips) {
+                if (clip != null) {
+                    clip.close();
+                }
+            }
+        }
+        pools.clear();
+    }
+
+    // The sound thread, which loads the effects and starts every clip.
+    private static ExecutorService newPlayer() {
+        return Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "sound");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Decodes every effect's file at the same time, then opens the clips. Runs on the sound
+    // thread (or the caller's, for create()). Returns false, with the engine silent, if it fails.
+    private boolean loadAll() {
+        long loadStart = Metrics.start();
+        try {
+            if (AudioSystem.getMixerInfo().length == 0) {
+                failed = true;
+                return false;
+            }
+            Map<Effect, CompletableFuture<Decoded>> decoding = new EnumMap<>(Effect.class);
+            for (Effect effect : Effect.values()) {
+                decoding.put(effect, CompletableFuture.supplyAsync(() -> decode(effect)));
+            }
+            for (Effect effect : Effect.values()) {
+                open(effect, decoding.get(effect).join());
+            }
+            Metrics.stop(Metrics.Timer.SOUND_LOAD, loadStart);
+            return true;
+        } catch (CompletionException | LineUnavailableException | IllegalArgumentException e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            System.err.println("Unable to load sounds, playing without sound: " + cause);
+            Metrics.error("sound");
+            failed = true;
+            closeClips();
+            return false;
+        }
+    }
+
+    /**
+     * An effect's audio, decoded from its file.
+     */
+    private static class Decoded {
+        private final AudioFormat format;
+        private final byte[] data;
+
+        Decoded(AudioFormat format, byte[] data) {
+            this.format = format;
+            this.data = data;
+        }
+    }
+
+    // Reads and decodes an effect's file. Runs on a pool thread, so errors come back unchecked.
+    private static Decoded decode(Effect effect) {
+        try (AudioInputStream audioStream = AudioSystem.getAudioInputStream(findFile(effect.fileName))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = audioStream.read(buffer)) > 0) {
+                bytes.write(buffer, 0, read);
+            }
+            return new Decoded(audioStream.getFormat(), bytes.toByteArray());
+        } catch (UnsupportedAudioFileException | IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // Opens an effect's clips with its decoded audio.
+    private void open(Effect effect, Decoded decoded) throws LineUnavailableException {
+        Clip[] clips = new Clip[CLIPS_PER_EFFECT];
+        pools.put(effect, clips);
+        for (int i = 0; i < clips.length; i++) {
+            Clip clip = AudioSystem.getClip();
+            clip.open(decoded.format, decoded.data, 0, decoded.data.length);
+            // A voice is free again once its clip stops
+            clip.addLineListener(event -> {
+                if (event.getType() == LineEvent.Type.STOP) {
+                    voices.decrementAndGet();
+                }
+            });
+            clips[i] = clip;
+        }
+    }
+
+    // Runs on the sound thread: starts the next idle clip of the effect.
+    private void start(Effect effect, long requested) {
+        Clip[] clips = pools.get(effect);
+        if (clips == null) {
+            return;
+        }
+        int first = nextClip[effect.ordinal()];
+        for (int i = 0; i < clips.length; i++) {
+            Clip clip = clips[(first + i) % clips.length];
+            if (clip.isRunning()) {
+                continue;
+            }
+            if (voices.incrementAndGet() > MAX_VOICES) {
+                voices.decrementAndGet();
+                return;
+            }
+            nextClip[effect.ordinal()] = (first + i + 1) % clips.length;
+            clip.setFramePosition(0);
+            clip.start();
+            lastStartNanos = System.nanoTime() - requested;
+            Metrics.record(Metrics.Timer.SOUND_START, lastStartNanos);
+            started.incrementAndGet();
+            return;
+        }
+    }
+
+    // Sounds live in resources/ when there is one, otherwise next to the game.
+    private static File findFile(String fileName) {
+        File inResources = new File("resources", fileName);
+        return inResources.exists() ? inResources : new File(fileName);
+    }
+}
@@ -0,0 +1,108 @@
+package battleship;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Summative Game Startup(Battleship)
+ *
+ * Measures how long the game takes to start, from the JVM starting (so class loading and Swing's
+ * start-up count too) to the boards first being painted and to the player's first shot being
+ * handled. Both are recorded in Metrics, and printed with -Dbattleship.metrics.print=true.
+ *
+ * Once the first frame is on screen, warmUp() plays a few headless games with the computer's
+ * kind of shooter on a background thread, so its classes are loaded and its hot loops compiled
+ * before the computer takes its first real turn.
+ *
+ * For the fastest cold start, build with the cds profile (mvn -Pcds package), which runs
+ * CdsTraining and saves the classes it loaded to game/target/battleship.jsa, then start with
+ *     java -XX:SharedArchiveFile=game/target/battleship.jsa -jar game/target/battleship.jar
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public final class Startup {
+    // Warm-up plays at most this many games, and stops early after WARM_UP_NANOS
+    private static final int WARM_UP_GAMES = 50;
+    private static final long WARM_UP_NANOS = 50_000_000L;
+
+    // Only touched on the event thread
+    private static boolean framed;
+    private static boolean shot;
+
+    private Startup() {
+    }
+
+    /**
+     * Records the first frame. Call it at the end of every paint; only the first call counts.
+     *
+     * @return true the first time it is called
+     */
+    public static boolean firstFrame() {
+        if (framed) {
+            return false;
+        }
+        framed = true;
+        report(Metrics.Timer.FIRST_FRAME, "first frame");
+        return true;
+    }
+
+    /**
+     * Records the player's first shot. Call it after every shot; only the first call counts.
+     */
+    public static void firstShot() {
+        if (shot) {
+            return;
+        }
+        shot = true;
+        report(Metrics.Timer.FIRST_SHOT, "first shot");
+    }
+
+    /**
+     * Plays a few headless games on a background thread to load and compile the shooter's code.
+     *
+     * @param config The board size and fleet the game is played with
+     * @param shooter Creates shooters of the computer's kind
+     * @return the warm-up thread, already started
+     */
+    public static Thread warmUp(GameConfig config, Supplier<Shooter> shooter) {
+        Thread thread = new Thread(() -> {
+            try {
+                BitBoard target = new BitBoard(config.getRows(), config.getCols());
+                Shooter warming = shooter.get();
+                SplittableRandom rng = new SplittableRandom();
+                long start = System.nanoTime();
+                // Checks the time after every shot, since a game of the slower shooters takes a while
+                for (int game = 0; game < WARM_UP_GAMES && System.nanoTime() - start < WARM_UP_NANOS; game++) {
+                    target.placeFleet(config.getFleet(), rng);
+                    warming.newGame(config.getRows(), config.getCols(), config.getFleet());
+                    while (!target.allSunk() && System.nanoTime() - start < WARM_UP_NANOS) {
+                        GameEngine.fire(warming, target, rng);
+                    }
+                }
+            } catch (RuntimeException exception) {
+                // The warm-up is only a head start; the game works the same without it
+                System.err.println("Java Exception: " + exception);
+            }
+        }, "warm-up");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return thread;
+    }
+
+    // Records the time since the JVM started, and prints it with -Dbattleship.metrics.print=true.
+    private static void report(Metrics.Timer timer, String what) {
+        long now = System.currentTimeMillis();
+        // Read after the clock, so loading the management classes the first time is not counted.
+        // (ProcessHandle's start time is rounded to the second the machine booted, so it is no use here.)
+        long nanos = (now - ManagementFactory.getRuntimeMXBean().getStartTime()) * 1_000_000L;
+        Metrics.record(timer, nanos);
+        if (Metrics.PRINT) {
+            System.out.println(String.format("Startup: %s after %.0f ms", what, nanos / 1e6));
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package battleship;
+
+import java.util.Arrays;
+
+/**
+ * Summative Game T Digest(Battleship)
+ *
+ * Estimates percentiles of a stream of numbers too long to keep, in a fixed amount of memory
+ * (Dunning's merging t-digest). Values are collected in a buffer; when it fills up they are
+ * sorted together with the centroids kept so far and merged into at most about `compression`
+ * centroids, each a mean and a weight. Centroids near the middle of the distribution hold many
+ * values and those near the ends hold few, so p99 and p99.9 stay accurate however many values
+ * are added. Digests built on different threads can be merged, which is how the analytics
+ * fork/join tasks combine their results.
+ *
+ * A digest is not thread-safe; give each thread its own and merge them afterwards.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class TDigest {
+    // About how many centroids the default digest keeps; p99 is usually within 0.1% of its true rank
+    public static final double DEFAULT_COMPRESSION = 200;
+
+    private final double compression;
+
+    // The merged centroids, sorted by mean
+    private double[] means;
+    private double[] weights;
+    private int centroids;
+
+    // Values (or another digest's centroids) waiting to be merged
+    private double[] bufferMeans;
+    private double[] bufferWeights;
+    private int buffered;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double sum;
+
+    /**
+     * Constructor for an empty digest with the default compression.
+     */
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Constructor for an empty digest.
+     *
+     * @param compression About how many centroids to keep; more is more accurate and bigger
+     */
+    public TDigest(double compression) {
+        this.compression = compression;
+        int size = (int) Math.ceil(compression) + 10;
+        means = new double[size];
+        weights = new double[size];
+        bufferMeans = new double[size * 5];
+        bufferWeights = new double[size * 5];
+    }
+
+    /**
+     * Adds one value.
+     *
+     * @param value The value
+     */
+    public void add(double value) {
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered++] = 1;
+        count++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds every value another digest has seen.
+     *
+     * @param other The other digest, which is compressed but otherwise not changed
+     */
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            if (buffered == bufferMeans.length) {
+                compress();
+            }
+            bufferMeans[buffered] = other.means[i];
+            bufferWeights[buffered++] = other.weights[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimates a percentile.
+     *
+     * @param quantile The percentile as a fraction, e.g. 0.99
+     * @return the estimated value at that percentile, or NaN if no values were added
+     */
+    public double quantile(double quantile) {
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1 || quantile <= 0) {
+            return quantile <= 0 ? min : means[0];
+        }
+        if (quantile >= 1) {
+            return max;
+        }
+        double index = quantile * count;
+        // Between the smallest value and the first centroid's middle
+        double half = weights[0] / 2;
+        if (index < half) {
+            return min + (means[0] - min) * (index / half);
+        }
+        // Between the middles of neighbouring centroids
+        double seen = half;
+        for (int i = 0; i + 1 < centroids; i++) {
+            double step = (weights[i] + weights[i + 1]) / 2;
+            if (seen + step > index) {
+                return means[i] + (means[i + 1] - means[i]) * ((index - seen) / step);
+            }
+            seen += step;
+        }
+        // Between the last centroid's middle and the largest value
+        int last = centroids - 1;
+        double tail = weights[last] / 2;
+        return means[last] + (max - means[last]) * Math.min(1, (index - seen) / tail);
+    }
+
+    /**
+     * @return number of values added
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the smallest value, or +infinity if none were added
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * @return the largest value, or -infinity if none were added
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * @return the mean of the values, or NaN if none were added
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    /**
+     * @return number of centroids kept, after merging anything waiting
+     */
+    public int getCentroids() {
+        compress();
+        return centroids;
+    }
+
+    // Merges the buffer into the centroids, keeping each centroid within its size limit.
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        // Put the centroids in the buffer too, and sort everything by mean
+        int n = buffered + centroids;
+        if (n > bufferMeans.length) {
+            bufferMeans = Arrays.copyOf(bufferMeans, n);
+            bufferWeights = Arrays.copyOf(bufferWeights, n);
+        }
+        System.arraycopy(means, 0, bufferMeans, buffered, centroids);
+        System.arraycopy(weights, 0, bufferWeights, buffered, centroids);
+        sort(bufferMeans, bufferWeights, 0, n - 1);
+
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += bufferWeights[i];
+        }
+        int out = 0;
+        double mean = bufferMeans[0];
+        double weight = bufferWeights[0];
+        double before = 0;
+        double limit = total * qLimit(0);
+        for (int i = 1; i < n; i++) {
+            double nextWeight = bufferWeights[i];
+            if (before + weight + nextWeight <= limit) {
+                // Fits in the current centroid
+                weight += nextWeight;
+                mean += (bufferMeans[i] - mean) * nextWeight / weight;
+            } else {
+                out = emit(out, mean, weight);
+                before += weight;
+                limit = total * qLimit(before / total);
+                mean = bufferMeans[i];
+                weight = nextWeight;
+            }
+        }
+        centroids = emit(out, mean, weight);
+        buffered = 0;
+    }
+
+    // Stores a finished centroid, growing the arrays in the rare case the limit lets more through.
+    private int emit(int out, double mean, double weight) {
+        if (out == means.length) {
+            means = Arrays.copyOf(means, out * 2);
+            weights = Arrays.copyOf(weights, out * 2);
+        }
+        means[out] = mean;
+        weights[out] = weight;
+        return out + 1;
+    }
+
+    // The fraction of all the weight a centroid starting at fraction q may reach: one step of the
+    // scale k(q) = compression / (2 pi) * asin(2q - 1) further on.
+    private double qLimit(double q) {
+        double k = compression / (2 * Math.PI) * Math.asin(2 * q - 1) + 1;
+        if (k >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    // Sorts the means from .. to (inclusive), moving their weights with them.
+    private static void sort(double[] keys, double[] values, int from, int to) {
+        while (to - from > 16) {
+            double pivot = keys[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(keys, values, i++, j--);
+                }
+            }
+            // Recurse into the smaller half and loop on the larger one
+            if (j - from < to - i) {
+                sort(keys, values, from, j);
+                from = i;
+            } else {
+                sort(keys, values, i, to);
+                to = j;
+            }
+        }
+        for (int i = from + 1; i <= to; i++) {
+            for (int j = i; j > from && keys[j - 1] > keys[j]; j--) {
+                swap(keys, values, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(double[] keys, double[] values, int i, int j) {
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
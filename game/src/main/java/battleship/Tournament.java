@@ -0,0 +1,596 @@
+package battleship;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Summative Game Tournament(Battleship)
+ *
+ * Plays every shooter against every other shooter (a round-robin) so computer opponents can be
+ * compared fairly. In each match both shooters fire at the same layout, hidden from a seed the
+ * way hideShips hides it, and every layout is played twice with the shooters swapping who moves
+ * first. Game n uses the same layout in every match, so the matches differ only in how the
+ * shooters shoot.
+ *
+ * The games are split into chunks and played on a fork/join pool. Each chunk keeps its own
+ * totals and adds them to its match once it is done, and its CSV rows (one per game) are handed
+ * to a writer thread, so nothing grows with the number of games. The report gives each shooter's
+ * win rate with a 95% confidence interval, the mean and variance of the shots it needed to win,
+ * and how long it takes to pick a move (timed in one game in every LATENCY_SAMPLE).
+ *
+ * Usage: java Tournament [games] [threads] [seed] [CSV file, or - for none] [shooter] [shooter] ...
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class Tournament {
+    // Games a fork/join task plays itself rather than splitting them further
+    private static final int CHUNK = 4096;
+    // One game in this many has every move timed; timing every move would slow the games down
+    private static final int LATENCY_SAMPLE = 16;
+    // Chunks of CSV rows waiting to be written; the games wait when the writer falls this far behind
+    private static final int CSV_QUEUE = 64;
+    // z for a 95% confidence interval
+    private static final double Z95 = 1.959964;
+
+    private final int rows;
+    private final int cols;
+    private final int[] fleet;
+    private final String[] names;
+    private final List<Supplier<Shooter>> shooters;
+
+    /**
+     * Constructor for a tournament on the default 7x7 board, with shooters named as for BatchRunner.
+     *
+     * @param names The shooter names, e.g. random and density
+     */
+    public Tournament(List<String> names) {
+        this(GameConfig.DEFAULT.getRows(), GameConfig.DEFAULT.getCols(), GameConfig.DEFAULT.getFleet(), names,
+                shootersFor(names));
+    }
+
+    /**
+     * Constructor for a tournament on a board of any size and fleet.
+     *
+     * @param rows number of rows on each board
+     * @param cols number of columns on each board
+     * @param fleet the ship lengths hidden on each board
+     * @param names A name for each shooter, used in the report and the CSV file
+     * @param shooters Creates each shooter (called once per chunk of games)
+     */
+    public Tournament(int rows, int cols, int[] fleet, List<String> names, List<Supplier<Shooter>> shooters) {
+        if (names.size() != shooters.size() || names.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two shooters, each with a name");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.fleet = fleet.clone();
+        this.names = names.toArray(new String[0]);
+        this.shooters = new ArrayList<>(shooters);
+    }
+
+    /**
+     * Plays every match and waits for them to finish.
+     *
+     * @param games number of games in the whole tournament, shared evenly between the matches
+     * @param threads number of threads in the fork/join pool
+     * @param seed seed for the layouts and the shooters' random numbers
+     * @param csv The file to write a row per game to, or null for no file
+     * @return the combined results
+     * @throws IOException if the CSV file cannot be written
+     */
+    public Result run(long games, int threads, long seed, Path csv) throws IOException {
+        int entrants = names.length;
+        Match[] matches = new Match[entrants * (entrants - 1) / 2];
+        int next = 0;
+        for (int a = 0; a < entrants; a++) {
+            for (int b = a + 1; b < entrants; b++) {
+                matches[next++] = new Match(names, a, b);
+            }
+        }
+        // An even number of games per match, so every layout is played from both seats
+        long perMatch = Math.max(2, (games / matches.length + 1) & ~1L);
+        Result result = new Result(names, matches);
+
+        CsvWriter writer = csv == null ? null : new CsvWriter(csv);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Chunk> tasks = new ArrayList<>();
+            for (Match match : matches) {
+                tasks.add(new Chunk(match, 0, perMatch, seed, writer, result.latency));
+            }
+            pool.submit(() -> ForkJoinTask.invokeAll(tasks)).join();
+        } finally {
+            pool.shutdown();
+            if (writer != null) {
+                writer.close();
+            }
+        }
+        result.nanos = System.nanoTime() - start;
+        result.seed = seed;
+        result.threads = threads;
+        return result;
+    }
+
+    /**
+     * A range of one match's games, split in half until it is small enough to play.
+     */
+    private final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Match match;
+        private final long from;
+        private final long to;
+        private final long seed;
+        private final CsvWriter writer;
+        private final LatencyHistogram[] latency;
+
+        Chunk(Match match, long from, long to, long seed, CsvWriter writer, LatencyHistogram[] latency) {
+            this.match = match;
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.writer = writer;
+            this.latency = latency;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK) {
+                play();
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new Chunk(match, from, middle, seed, writer, latency),
+                    new Chunk(match, middle, to, seed, writer, latency));
+        }
+
+        // Plays the games in this chunk into its own totals, then adds them to the match.
+        private void play() {
+            GameEngine engine = new GameEngine(rows, cols, fleet);
+            int a = match.entrants[0];
+            int b = match.entrants[1];
+            Shooter[] plain = {shooters.get(a).get(), shooters.get(b).get()};
+            Shooter[] timed = {new TimedShooter(plain[0], latency[a]), new TimedShooter(plain[1], latency[b])};
+            Match totals = new Match(names, a, b);
+            StringBuilder lines = writer == null ? null : new StringBuilder((int) (to - from) * 40);
+
+            for (long game = from; game < to; game++) {
+                Shooter[] pair = game % LATENCY_SAMPLE == 0 ? timed : plain;
+                // Games 2n and 2n + 1 share a layout, with the shooters in the other seats
+                long layoutSeed = SessionRng.mix64(seed + SessionRng.GOLDEN * (game >>> 1));
+                SplittableRandom rng = new SplittableRandom(SessionRng.mix64(~seed + SessionRng.GOLDEN * game));
+                int firstSeat = (int) (game & 1);
+                int result = engine.playMirrored(pair[firstSeat], pair[firstSeat ^ 1], layoutSeed, rng);
+                int winner = GameEngine.winner(result) ^ firstSeat;
+                int shots = GameEngine.shots(result);
+                totals.record(winner, shots, firstSeat);
+
+                if (lines != null) {
+                    lines.append(game).append(',').append(match.names[firstSeat]).append(',')
+                            .append(match.names[firstSeat ^ 1]).append(',').append(match.names[winner])
+                            .append(',').append(shots).append('\n');
+                }
+            }
+            match.add(totals);
+            if (lines != null) {
+                writer.write(lines);
+            }
+        }
+    }
+
+    /**
+     * Times each call to nextShot of the shooter it wraps.
+     */
+    private static final class TimedShooter implements Shooter {
+        private final Shooter shooter;
+        private final LatencyHistogram histogram;
+
+        TimedShooter(Shooter shooter, LatencyHistogram histogram) {
+            this.shooter = shooter;
+            this.histogram = histogram;
+        }
+
+        @Override
+        public void newGame(int rows, int cols, int[] fleet) {
+            shooter.newGame(rows, cols, fleet);
+        }
+
+        @Override
+        public int nextShot(RandomGenerator rng) {
+            long start = System.nanoTime();
+            int cell = shooter.nextShot(rng);
+            histogram.record(System.nanoTime() - start);
+            return cell;
+        }
+
+        @Override
+        public int nextShot(RandomGenerator rng, RandomGenerator ties) {
+            long start = System.nanoTime();
+            int cell = shooter.nextShot(rng, ties);
+            histogram.record(System.nanoTime() - start);
+            return cell;
+        }
+
+        @Override
+        public void shotResult(int cell, int result, int sunkShip) {
+            shooter.shotResult(cell, result, sunkShip);
+        }
+    }
+
+    /**
+     * Writes chunks of CSV rows on its own thread, so the games never wait on the disk unless
+     * CSV_QUEUE chunks are already waiting. If a write fails the rest are thrown away and the
+     * error is reported by close().
+     */
+    private static final class CsvWriter {
+        // Put on the queue by close() to tell the thread there is nothing more to write
+        private static final StringBuilder END = new StringBuilder();
+
+        private final BlockingQueue<StringBuilder> queue = new ArrayBlockingQueue<>(CSV_QUEUE);
+        private final Thread thread;
+        private final BufferedWriter out;
+        private volatile IOException failure;
+
+        CsvWriter(Path file) throws IOException {
+            out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            out.write("game,first,second,winner,shots\n");
+            thread = new Thread(this::drain, "tournament-csv");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        // Hands a chunk's rows to the writer thread, waiting while the queue is full.
+        void write(StringBuilder lines) {
+            try {
+                queue.put(lines);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                failure = new IOException("Interrupted while writing the results", exception);
+            }
+        }
+
+        // Writes every chunk until close() says there are no more.
+        private void drain() {
+            while (true) {
+                StringBuilder lines;
+                try {
+                    lines = queue.take();
+                } catch (InterruptedException exception) {
+                    return;
+                }
+                if (lines == END) {
+                    return;
+                }
+                if (failure == null) {
+                    try {
+                        out.append(lines);
+                    } catch (IOException exception) {
+                        failure = exception;
+                    }
+                }
+            }
+        }
+
+        // Waits for every chunk to be written and closes the file.
+        void close() throws IOException {
+            try {
+                queue.put(END);
+                thread.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                failure = new IOException("Interrupted while writing the results", exception);
+            }
+            out.close();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Creates shooters from their names on the command line.
+     *
+     * @param names The shooter names
+     * @return a supplier of new shooters for each name
+     */
+    public static List<Supplier<Shooter>> shootersFor(List<String> names) {
+        List<Supplier<Shooter>> shooters = new ArrayList<>();
+        for (String name : names) {
+            shooters.add(BatchRunner.shooterFor(name));
+        }
+        return shooters;
+    }
+
+    /**
+     * Runs a tournament from the command line and prints the report.
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        Path csv = args.length > 3 && !"-".equals(args[3]) ? Paths.get(args[3]) : null;
+        List<String> names = args.length > 4 ? Arrays.asList(args).subList(4, args.length)
+                : Arrays.asList("random", "density");
+
+        try {
+            Result result = new Tournament(names).run(games, threads, seed, csv);
+            System.out.print(result);
+        } catch (IOException exception) {
+            System.err.println("Java Exception: " + exception);
+            System.out.println("Sorry, could not write the results to " + csv + ".");
+        }
+    }
+
+    /**
+     * A 95% Wilson score interval for a win rate, which stays sensible for rates near 0 or 1.
+     *
+     * @param wins games won
+     * @param games games played
+     * @return the lowest and highest likely win rate, as fractions
+     */
+    public static double[] confidenceInterval(long wins, long games) {
+        if (games == 0) {
+            return new double[] {0, 1};
+        }
+        double rate = (double) wins / games;
+        double z2 = Z95 * Z95;
+        double centre = (rate + z2 / (2 * games)) / (1 + z2 / games);
+        double spread = Z95 * Math.sqrt(rate * (1 - rate) / games + z2 / (4.0 * games * games)) / (1 + z2 / games);
+        return new double[] {Math.max(0, centre - spread), Math.min(1, centre + spread)};
+    }
+
+    /**
+     * Count, mean and variance of a series of numbers, kept one number at a time (Welford's
+     * method) so they never need to be stored, and combined exactly when two series are added.
+     */
+    public static class Stats {
+        private long count;
+        private double mean;
+        private double squares;
+
+        /**
+         * Adds one number.
+         * @param value The number
+         */
+        public void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            squares += delta * (value - mean);
+        }
+
+        /**
+         * Adds every number of another series.
+         * @param other The other series
+         */
+        public void add(Stats other) {
+            if (other.count == 0) {
+                return;
+            }
+            long total = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / total;
+            squares += other.squares + delta * delta * ((double) count * other.count / total);
+            count = total;
+        }
+
+        /**
+         * @return how many numbers were added
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the mean, or 0 if there are no numbers
+         */
+        public double getMean() {
+            return mean;
+        }
+
+        /**
+         * @return the sample variance, or 0 if there are fewer than two numbers
+         */
+        public double getVariance() {
+            return count < 2 ? 0 : squares / (count - 1);
+        }
+    }
+
+    /**
+     * The totals of one match between two shooters.
+     */
+    public static class Match {
+        private final String[] names;
+        // Each shooter's position in the tournament's list of names
+        private final int[] entrants;
+        private final long[] wins = new long[2];
+        private final Stats[] shotsToWin = {new Stats(), new Stats()};
+        private long games;
+        private long firstMoverWins;
+
+        // A match between the shooters at positions a and b of the list of names.
+        Match(String[] names, int a, int b) {
+            this.names = new String[] {names[a], names[b]};
+            entrants = new int[] {a, b};
+        }
+
+        // Adds one game: who won (0 or 1), with how many shots, and who moved first.
+        void record(int winner, int shots, int firstSeat) {
+            wins[winner]++;
+            shotsToWin[winner].add(shots);
+            games++;
+            if (winner == firstSeat) {
+                firstMoverWins++;
+            }
+        }
+
+        // Adds a chunk's totals; chunks finish on different threads.
+        synchronized void add(Match other) {
+            wins[0] += other.wins[0];
+            wins[1] += other.wins[1];
+            shotsToWin[0].add(other.shotsToWin[0]);
+            shotsToWin[1].add(other.shotsToWin[1]);
+            games += other.games;
+            firstMoverWins += other.firstMoverWins;
+        }
+
+        /**
+         * @param shooter 0 or 1
+         * @return that shooter's name
+         */
+        public String getName(int shooter) {
+            return names[shooter];
+        }
+
+        /**
+         * @return number of games played
+         */
+        public synchronized long getGames() {
+            return games;
+        }
+
+        /**
+         * @param shooter 0 or 1
+         * @return number of games that shooter won
+         */
+        public synchronized long getWins(int shooter) {
+            return wins[shooter];
+        }
+
+        /**
+         * @param shooter 0 or 1
+         * @return the shots that shooter needed in the games it won
+         */
+        public synchronized Stats getShotsToWin(int shooter) {
+            Stats copy = new Stats();
+            copy.add(shotsToWin[shooter]);
+            return copy;
+        }
+
+        /**
+         * @return number of games won by whichever shooter moved first
+         */
+        public synchronized long getFirstMoverWins() {
+            return firstMoverWins;
+        }
+    }
+
+    /**
+     * Every match of a tournament, and how long each shooter took to pick its moves.
+     */
+    public static class Result {
+        private final String[] names;
+        private final Match[] matches;
+        private final LatencyHistogram[] latency;
+        private long nanos;
+        private long seed;
+        private int threads;
+
+        Result(String[] names, Match[] matches) {
+            this.names = names;
+            this.matches = matches;
+            latency = new LatencyHistogram[names.length];
+            for (int i = 0; i < latency.length; i++) {
+                latency[i] = new LatencyHistogram();
+            }
+        }
+
+        /**
+         * @return every match, in round-robin order
+         */
+        public List<Match> getMatches() {
+            return Arrays.asList(matches);
+        }
+
+        /**
+         * @param shooter The shooter's position in the list of names
+         * @return the time it took to pick the moves that were timed
+         */
+        public LatencyHistogram getLatency(int shooter) {
+            return latency[shooter];
+        }
+
+        /**
+         * @return number of games played in every match
+         */
+        public long getGames() {
+            long games = 0;
+            for (Match match : matches) {
+                games += match.getGames();
+            }
+            return games;
+        }
+
+        /**
+         * @return games per second
+         */
+        public double gamesPerSecond() {
+            return nanos == 0 ? 0 : getGames() * 1e9 / nanos;
+        }
+
+        /**
+         * @return a report of every match, each shooter's overall win rate and its move times
+         */
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            text.append(String.format("games: %d in %.2f s (%.0f games/sec), %d threads, seed %d%n",
+                    getGames(), nanos / 1e9, gamesPerSecond(), threads, seed));
+            long[] wins = new long[names.length];
+            long[] played = new long[names.length];
+            for (Match match : matches) {
+                text.append(String.format("%n%s vs %s: %d games, first mover won %.2f%%%n", match.getName(0),
+                        match.getName(1), match.getGames(), 100.0 * match.getFirstMoverWins() / match.getGames()));
+                for (int side = 0; side < 2; side++) {
+                    Stats shots = match.getShotsToWin(side);
+                    appendWinRate(text, match.getName(side), match.getWins(side), match.getGames());
+                    text.append(String.format(", shots to win: mean %.2f, variance %.2f%n",
+                            shots.getMean(), shots.getVariance()));
+                    int entrant = match.entrants[side];
+                    wins[entrant] += match.getWins(side);
+                    played[entrant] += match.getGames();
+                }
+            }
+            text.append(String.format("%noverall%n"));
+            for (int i = 0; i < names.length; i++) {
+                appendWinRate(text, names[i], wins[i], played[i]);
+                text.append(String.format("%n"));
+            }
+            text.append(String.format("%ntime to pick a move (every move of 1 game in %d)%n", LATENCY_SAMPLE));
+            for (int i = 0; i < names.length; i++) {
+                LatencyHistogram histogram = latency[i];
+                long count = Math.max(1, histogram.getCount());
+                text.append(String.format("  %-10s %d moves: mean %d ns, p50 %d ns, p99 %d ns, p99.9 %d ns, max %d ns%n",
+                        names[i], histogram.getCount(), histogram.getSum() / count, histogram.percentile(0.5),
+                        histogram.percentile(0.99), histogram.percentile(0.999), histogram.getMax()));
+            }
+            return text.toString();
+        }
+
+        // One shooter's wins as a percentage with its 95% confidence interval.
+        private static void appendWinRate(StringBuilder text, String name, long wins, long games) {
+            double[] interval = confidenceInterval(wins, games);
+            text.append(String.format("  %-10s won %.2f%% (95%% CI %.2f%% - %.2f%%)", name,
+                    games == 0 ? 0 : 100.0 * wins / games, 100 * interval[0], 100 * interval[1]));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package battleship;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summative Game Transposition Table(Battleship)
+ *
+ * Remembers the expected number of shots the EndgameSolver worked out for positions it has
+ * already searched, keyed by the position's Zobrist hash. All the entries are allocated up front
+ * in plain arrays, so the table never grows and a busy search creates no garbage. A hash picks a
+ * bucket of WAYS entries; when the bucket is full, the least recently used entry in it is replaced.
+ * Buckets are split into stripes, each with its own lock, so the solver's fork/join tasks rarely
+ * wait for each other. Every entry keeps the full position too, so two positions with the same
+ * hash can never be mixed up. A search cut short by its bound only learns that the value is at
+ * least something, so entries say whether they hold the exact value or a lower bound.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+class TranspositionTable {
+    private static final int WAYS = 4;
+    private static final int STRIPES = 64;
+
+    // Entry e of bucket b is at index b * WAYS + e. lastUsed is 0 for an empty entry.
+    private final long[] hashes;
+    private final long[] hitCells;
+    private final long[] missCells;
+    private final long[] fleets;
+    private final double[] values;
+    private final boolean[] exact;
+    private final long[] lastUsed;
+    private final int bucketMask;
+
+    // One lock and one use counter per stripe of buckets
+    private final Object[] locks = new Object[STRIPES];
+    private final long[] clocks = new long[STRIPES];
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder found = new LongAdder();
+
+    /**
+     * Constructor for a table holding at most the given number of entries (rounded to a power of two).
+     *
+     * @param entries The most positions kept at once
+     */
+    TranspositionTable(int entries) {
+        int buckets = Integer.highestOneBit(Math.max(STRIPES, entries / WAYS));
+        int size = buckets * WAYS;
+        hashes = new long[size];
+        hitCells = new long[size];
+        missCells = new long[size];
+        fleets = new long[size];
+        values = new double[size];
+        exact = new boolean[size];
+        lastUsed = new long[size];
+        bucketMask = buckets - 1;
+        for (int s = 0; s < STRIPES; s++) {
+            locks[s] = new Object();
+        }
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param hash The position's Zobrist hash
+     * @param hits The cells hit
+     * @param misses The cells that cannot hold a ship
+     * @param fleet A key for the ships still afloat
+     * @param bound The value the caller needs to know the position is below
+     * @return the exact value, or a lower bound that is not below `bound`, or NaN if neither is stored
+     */
+    double get(long hash, long hits, long misses, long fleet, double bound) {
+        probes.increment();
+        int bucket = (int) hash & bucketMask;
+        int stripe = bucket & (STRIPES - 1);
+        synchronized (locks[stripe]) {
+            int e = find(bucket * WAYS, hash, hits, misses, fleet);
+            if (e < 0 || (!exact[e] && values[e] < bound)) {
+                return Double.NaN;
+            }
+            lastUsed[e] = ++clocks[stripe];
+            found.increment();
+            return values[e];
+        }
+    }
+
+    /**
+     * Stores a position's value. An exact value is never replaced by a lower bound.
+     *
+     * @param hash The position's Zobrist hash
+     * @param hits The cells hit
+     * @param misses The cells that cannot hold a ship
+     * @param fleet A key for the ships still afloat
+     * @param value The expected number of shots left, or a lower bound on it
+     * @param isExact true if value is exact
+     */
+    void put(long hash, long hits, long misses, long fleet, double value, boolean isExact) {
+        int bucket = (int) hash & bucketMask;
+        int stripe = bucket & (STRIPES - 1);
+        int first = bucket * WAYS;
+        synchronized (locks[stripe]) {
+            int e = find(first, hash, hits, misses, fleet);
+            if (e >= 0 && exact[e] && !isExact) {
+                return;
+            }
+            if (e < 0) {
+                // Take an empty entry, or else the one used longest ago
+                e = first;
+                for (int way = first + 1; way < first + WAYS; way++) {
+                    if (lastUsed[way] < lastUsed[e]) {
+                        e = way;
+                    }
+                }
+                hashes[e] = hash;
+                hitCells[e] = hits;
+                missCells[e] = misses;
+                fleets[e] = fleet;
+            }
+            values[e] = value;
+            exact[e] = isExact;
+            lastUsed[e] = ++clocks[stripe];
+        }
+    }
+
+    /**
+     * @return number of lookups so far
+     */
+    long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * @return number of lookups that found their position
+     */
+    long getHits() {
+        return found.sum();
+    }
+
+    /**
+     * @return number of positions held
+     */
+    int size() {
+        int size = 0;
+        for (int s = 0; s < STRIPES; s++) {
+            synchronized (locks[s]) {
+                for (int bucket = s; bucket <= bucketMask; bucket += STRIPES) {
+                    for (int e = bucket * WAYS; e < bucket * WAYS + WAYS; e++) {
+                        size += lastUsed[e] != 0 ? 1 : 0;
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    // Returns the index of the position in the bucket starting at `first`, or -1.
+    private int find(int first, long hash, long hits, long misses, long fleet) {
+        for (int e = first; e < first + WAYS; e++) {
+            if (lastUsed[e] != 0 && hashes[e] == hash && hitCells[e] == hits && missCells[e] == misses
+                    && fleets[e] == fleet) {
+                return e;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,173 @@
+package battleship;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Summative Game Turn Scheduler(Battleship)
+ *
+ * Runs the turns without a polling timer. A player's shot queues the computer's reply on the
+ * event thread straight away, and the score loses a point for every half second played, worked
+ * out from System.nanoTime() whenever it is read instead of by counting timer ticks. Nothing runs
+ * while the player is thinking. The time from each player shot to the end of the computer's reply
+ * is recorded so it can be reported.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+public class TurnScheduler {
+    // The score drops by one point for every this many nanoseconds played
+    public static final long DECAY_NANOS = 500_000_000L;
+
+    // Replies slower than this count as late
+    public static final long TARGET_NANOS = 5_000_000L;
+
+    private final Runnable computerMove;
+    private final Executor eventThread;
+
+    // Game state: only touched on the event thread
+    private boolean running;
+    private int game;
+    private long startNanos;
+    private long endNanos;
+    private int points;
+
+    // Reply latency
+    private long replies;
+    private long totalNanos;
+    private long maxNanos;
+    private long lastNanos;
+    private long lateReplies;
+
+    /**
+     * Constructor for a scheduler that runs the computer's moves on the given thread.
+     *
+     * @param computerMove The computer's turn
+     * @param eventThread Where turns run, e.g. SwingUtilities::invokeLater
+     */
+    public TurnScheduler(Runnable computerMove, Executor eventThread) {
+        this.computerMove = computerMove;
+        this.eventThread = eventThread;
+    }
+
+    /**
+     * Starts a new game's clock with a score of zero.
+     */
+    public void start() {
+        running = true;
+        // Replies still queued from the last game are dropped
+        game++;
+        points = 0;
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Records the player's shot and queues the computer's reply.
+     *
+     * @param pointsChange Points won or lost by the shot
+     * @return false if the game is over
+     */
+    public boolean playerShot(int pointsChange) {
+        if (!running) {
+            return false;
+        }
+        points += pointsChange;
+        long shotNanos = System.nanoTime();
+        int shotGame = game;
+        eventThread.execute(() -> replyToShot(shotGame, shotNanos));
+        return true;
+    }
+
+    /**
+     * Adds points without giving the computer a turn, e.g. the final shot of a game.
+     *
+     * @param pointsChange Points won or lost
+     */
+    public void addPoints(int pointsChange) {
+        points += pointsChange;
+    }
+
+    /**
+     * Stops the clock; the score no longer changes and no more replies are made.
+     */
+    public void finish() {
+        if (running) {
+            running = false;
+            endNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * @return true between start() and finish()
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return points from shots minus one point for every half second played
+     */
+    public int getScore() {
+        long elapsed = (running ? System.nanoTime() : endNanos) - startNanos;
+        return points - (int) (elapsed / DECAY_NANOS);
+    }
+
+    /**
+     * @return number of computer replies measured
+     */
+    public long getReplies() {
+        return replies;
+    }
+
+    /**
+     * @return average time from a player shot to the end of the computer's reply, in nanoseconds
+     */
+    public double getAverageLatencyNanos() {
+        return replies == 0 ? 0 : (double) totalNanos / replies;
+    }
+
+    /**
+     * @return longest time from a player shot to the end of the computer's reply, in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * @return time from the last player shot to the end of the computer's reply, in nanoseconds
+     */
+    public long getLastLatencyNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * @return number of replies slower than TARGET_NANOS
+     */
+    public long getLateReplies() {
+        return lateReplies;
+    }
+
+    /**
+     * @return a one-line summary of the reply latency
+     */
+    public String latencyReport() {
+        return String.format("Computer replies: %d, average %.3f ms, max %.3f ms, over %d ms: %d",
+                replies, getAverageLatencyNanos() / 1e6, maxNanos / 1e6, TARGET_NANOS / 1_000_000, lateReplies);
+    }
+
+    // Runs on the event thread: the computer's turn, timed from the player's shot.
+    private void replyToShot(int shotGame, long shotNanos) {
+        if (!running || shotGame != game) {
+            return;
+        }
+        computerMove.run();
+        lastNanos = System.nanoTime() - shotNanos;
+        replies++;
+        totalNanos += lastNanos;
+        maxNanos = Math.max(maxNanos, lastNanos);
+        if (lastNanos > TARGET_NANOS) {
+            lateReplies++;
+        }
+    }
+}
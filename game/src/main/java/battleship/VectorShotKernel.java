@@ -0,0 +1,74 @@
+package battleship;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Summative Game Vector Shot Kernel(Battleship)
+ *
+ * Fires at as many boards at once as fit in the widest vector the CPU has (8 boards with
+ * AVX-512, 4 with AVX2), with no branches: every board's shot, hit test, mask update and sunk
+ * check is done in its own lane. It uses the incubating jdk.incubator.vector module, so the JVM
+ * must be started with --add-modules jdk.incubator.vector; BoardBatch only loads this class when
+ * that module is there, and uses ScalarShotKernel otherwise.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+final class VectorShotKernel implements ShotKernel {
+    // One long per board, and ints with the same number of lanes for the cells and results
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    @Override
+    public void shoot(long[] ships, long[] hits, long[] misses, long[] shipMasks, int fleetSize, int boards,
+            int[] cells, int[] results) {
+        LongVector one = LongVector.broadcast(LONGS, 1L);
+        int upper = LONGS.loopBound(boards);
+        int b = 0;
+        for (; b < upper; b += LONGS.length()) {
+            LongVector cell = (LongVector) IntVector.fromArray(INTS, cells, b)
+                    .convertShape(VectorOperators.I2L, LONGS, 0);
+            LongVector bit = one.lanewise(VectorOperators.LSHL, cell);
+            LongVector hit = LongVector.fromArray(LONGS, hits, b);
+            LongVector miss = LongVector.fromArray(LONGS, misses, b);
+            LongVector ship = LongVector.fromArray(LONGS, ships, b);
+
+            // Which lanes were already shot, hit a ship, or missed
+            VectorMask<Long> repeat = hit.or(miss).and(bit).compare(VectorOperators.NE, 0);
+            VectorMask<Long> onShip = ship.and(bit).compare(VectorOperators.NE, 0).andNot(repeat);
+            VectorMask<Long> missed = repeat.or(onShip).not();
+            hit = hit.lanewise(VectorOperators.OR, bit, onShip);
+            hit.intoArray(hits, b);
+            miss.lanewise(VectorOperators.OR, bit, missed).intoArray(misses, b);
+
+            // A hit sinks the ship under it once every cell of that ship is hit
+            VectorMask<Long> sunk = LONGS.maskAll(false);
+            for (int k = 0; k < fleetSize; k++) {
+                LongVector shipCells = LongVector.fromArray(LONGS, shipMasks, k * boards + b);
+                sunk = sunk.or(shipCells.and(bit).compare(VectorOperators.NE, 0)
+                        .and(hit.and(shipCells).compare(VectorOperators.EQ, shipCells)));
+            }
+
+            LongVector result = LongVector.broadcast(LONGS, BitBoard.MISS)
+                    .blend(BitBoard.HIT, onShip)
+                    .blend(BitBoard.SUNK, sunk.and(onShip))
+                    .blend(BitBoard.REPEAT, repeat);
+            ((IntVector) result.convertShape(VectorOperators.L2I, INTS, 0)).intoArray(results, b);
+        }
+        // The boards left over after the last full vector
+        ScalarShotKernel.shootRange(ships, hits, misses, shipMasks, fleetSize, boards, cells, results, b, boards);
+    }
+
+    @Override
+    public String getName() {
+        return "vector " + LONGS.vectorBitSize() + "-bit";
+    }
+}
@@ -0,0 +1,78 @@
+package battleship;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Summative Game History Analytics Test(Battleship)
+ *
+ * Checks the per-player totals of HistoryAnalytics.scanScores with enough players that the
+ * player table grows, both while one task reads and while the tasks' tables are merged.
+ *
+ * @author Sophia Wu
+ *
+ * @version October 18, 2026
+ */
+
+class HistoryAnalyticsTest {
+    // Records each score task reads (HistoryAnalytics.SCORE_CHUNK)
+    private static final int SCORE_CHUNK = 1 << 20;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void playersSurviveTheTableGrowing() throws Exception {
+        Map<String, long[]> expected = new HashMap<>();
+        Path scores = dir.resolve("scores.dat");
+        try (ScoreStore store = ScoreStore.open(scores)) {
+            for (int i = 0; i < 20_000; i++) {
+                String name = "p" + (i % 5000);
+                int score = (i * 7919) % 1000;
+                store.append(score, name, i);
+                add(expected, name, score);
+            }
+        }
+        check(expected, new HistoryAnalytics(1).scanScores(scores));
+    }
+
+    @Test
+    void playersSurviveTheMergeGrowing() throws Exception {
+        // The first task sees ten players and the second thousands more, which the merge adds
+        // to the first task's table
+        Map<String, long[]> expected = new HashMap<>();
+        Path scores = dir.resolve("scores.dat");
+        try (ScoreStore store = ScoreStore.open(scores)) {
+            for (int i = 0; i < SCORE_CHUNK + 6000; i++) {
+                String name = i < SCORE_CHUNK ? "p" + (i % 10) : "q" + (i % 3000);
+                int score = (i * 7919) % 1000;
+                store.append(score, name, i);
+                add(expected, name, score);
+            }
+        }
+        check(expected, new HistoryAnalytics(2).scanScores(scores));
+    }
+
+    private static void add(Map<String, long[]> players, String name, int score) {
+        long[] player = players.computeIfAbsent(name, n -> new long[] {0, 0, Long.MIN_VALUE, Long.MAX_VALUE});
+        player[0]++;
+        player[1] += score;
+        player[2] = Math.max(player[2], score);
+        player[3] = Math.min(player[3], score);
+    }
+
+    private static void check(Map<String, long[]> expected, HistoryAnalytics.ScoreReport report) {
+        assertEquals(0, report.getSkipped());
+        assertEquals(expected.size(), report.getPlayerCount());
+        for (Map.Entry<String, long[]> player : expected.entrySet()) {
+            assertArrayEquals(player.getValue(), report.getPlayer(player.getKey()), player.getKey());
+        }
+    }
+}